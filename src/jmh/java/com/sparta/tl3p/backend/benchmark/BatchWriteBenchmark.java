@@ -0,0 +1,128 @@
+package com.sparta.tl3p.backend.benchmark;
+
+import com.sparta.tl3p.backend.BackendApplication;
+import com.sparta.tl3p.backend.common.config.JpaBatchConfig;
+import com.sparta.tl3p.backend.common.config.JpaConfig;
+import com.sparta.tl3p.backend.common.config.QueryDslConfig;
+import com.sparta.tl3p.backend.domain.item.entity.Item;
+import com.sparta.tl3p.backend.domain.member.entity.Member;
+import com.sparta.tl3p.backend.domain.order.entity.Order;
+import com.sparta.tl3p.backend.domain.store.entity.Store;
+import com.sparta.tl3p.backend.domain.store.entity.StoreCategory;
+import com.sparta.tl3p.backend.domain.store.enums.CategoryType;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JDBC 배치 쓰기 on/off 비교 (H2, PostgreSQL 모드)
+ * ./gradlew jmh -PjmhInclude=BatchWriteBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BatchWriteBenchmark {
+
+    private static final int ORDER_LINES = 30;
+
+    @Param({"false", "true"})
+    public boolean batchWrite;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate tx;
+    private EntityManager em;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private Member member;
+    private Store store;
+    private List<Item> items;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BatchWriteBenchmarkConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:batch" + batchWrite + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.open-in-view=false",
+                        "jpa.batch-write.enabled=" + batchWrite,
+                        "logging.level.root=WARN")
+                .run();
+
+        tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        em = context.getBean(EntityManager.class);
+
+        tx.executeWithoutResult(status -> {
+            member = BenchmarkFixtures.member(0L);
+            member.setMemberId(null);
+            em.persist(member);
+
+            store = BenchmarkFixtures.store(member, "batch store");
+            em.persist(store);
+
+            items = BenchmarkFixtures.items(store, ORDER_LINES);
+            items.forEach(em::persist);
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Order persistOrderWith30Lines() {
+        return tx.execute(status -> {
+            // 준영속 회원/가게/상품은 FK 값으로만 사용되므로 조회 없이 insert만 측정
+            Order order = BenchmarkFixtures.order(member, store, items);
+            em.persist(order);
+            em.flush();
+            em.clear();
+            return order;
+        });
+    }
+
+    @Benchmark
+    public Store persistStoreWith7Categories() {
+        return tx.execute(status -> {
+            Store newStore = BenchmarkFixtures.store(member, "s" + sequence.incrementAndGet());
+            em.persist(newStore);
+            for (CategoryType category : CategoryType.values()) {
+                em.persist(new StoreCategory(newStore, category));
+            }
+            em.flush();
+            em.clear();
+            return newStore;
+        });
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = {
+            RedisAutoConfiguration.class,
+            RedisRepositoriesAutoConfiguration.class,
+            SecurityAutoConfiguration.class,
+            UserDetailsServiceAutoConfiguration.class
+    })
+    @EntityScan(basePackageClasses = BackendApplication.class)
+    @EnableJpaRepositories(basePackageClasses = BackendApplication.class)
+    @Import({QueryDslConfig.class, JpaConfig.class, JpaBatchConfig.class})
+    static class BatchWriteBenchmarkConfig {
+    }
+}
@@ -0,0 +1,84 @@
+package com.sparta.tl3p.backend.benchmark;
+
+import com.sparta.tl3p.backend.common.type.Address;
+import com.sparta.tl3p.backend.domain.item.entity.Item;
+import com.sparta.tl3p.backend.domain.member.entity.Member;
+import com.sparta.tl3p.backend.domain.member.enums.Role;
+import com.sparta.tl3p.backend.domain.order.entity.Order;
+import com.sparta.tl3p.backend.domain.order.entity.OrderItem;
+import com.sparta.tl3p.backend.domain.order.enums.DataStatus;
+import com.sparta.tl3p.backend.domain.order.enums.OrderType;
+import com.sparta.tl3p.backend.domain.order.enums.PaymentMethod;
+import com.sparta.tl3p.backend.domain.store.entity.Store;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 엔티티 그래프 (영속성 컨텍스트 없이 메모리에서 구성)
+ */
+final class BenchmarkFixtures {
+
+    static final Address ADDRESS = new Address("Seoul", "Main Street", "12345");
+
+    private BenchmarkFixtures() {
+    }
+
+    static Member member(long memberId) {
+        Member member = new Member();
+        member.setMemberId(memberId);
+        member.setUsername("bench" + memberId);
+        member.setPassword("password");
+        member.setEmail("bench" + memberId + "@test.com");
+        member.setNickname("nickname" + memberId);
+        member.setRole(Role.CUSTOMER);
+        return member;
+    }
+
+    static Store store(Member owner, String name) {
+        return Store.builder()
+                .name(name)
+                .content("benchmark store")
+                .address(ADDRESS)
+                .member(owner)
+                .build();
+    }
+
+    static List<Item> items(Store store, int count) {
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(Item.builder()
+                    .store(store)
+                    .name("item" + i)
+                    .price(BigDecimal.valueOf(1000L + i * 100L))
+                    .description("benchmark item " + i)
+                    .build());
+        }
+        return items;
+    }
+
+    static Order order(Member member, Store store, List<Item> items) {
+        Order order = Order.builder()
+                .orderType(OrderType.ONLINE)
+                .paymentMethod(PaymentMethod.CARD)
+                .deliveryAddress(ADDRESS)
+                .storeRequest("benchmark request")
+                .status(DataStatus.CREATED)
+                .member(member)
+                .store(store)
+                .build();
+
+        for (int i = 0; i < items.size(); i++) {
+            Item item = items.get(i);
+            int quantity = i % 3 + 1;
+            order.getOrderItems().add(OrderItem.builder()
+                    .item(item)
+                    .order(order)
+                    .quantity(quantity)
+                    .price(item.getPrice().multiply(BigDecimal.valueOf(quantity)))
+                    .build());
+        }
+        return order;
+    }
+}
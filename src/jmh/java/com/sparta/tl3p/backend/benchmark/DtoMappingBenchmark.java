@@ -0,0 +1,54 @@
+package com.sparta.tl3p.backend.benchmark;
+
+import com.sparta.tl3p.backend.domain.item.entity.Item;
+import com.sparta.tl3p.backend.domain.member.entity.Member;
+import com.sparta.tl3p.backend.domain.order.dto.OrderDetailResponseDto;
+import com.sparta.tl3p.backend.domain.order.entity.Order;
+import com.sparta.tl3p.backend.domain.review.dto.ReviewResponseDto;
+import com.sparta.tl3p.backend.domain.review.entity.Review;
+import com.sparta.tl3p.backend.domain.store.dto.StoreResponseDto;
+import com.sparta.tl3p.backend.domain.store.entity.Store;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 → 응답 DTO 변환 비용 (주문 항목 수에 따라)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DtoMappingBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    private Store store;
+    private Order order;
+    private Review review;
+
+    @Setup
+    public void setUp() {
+        Member member = BenchmarkFixtures.member(1L);
+        store = BenchmarkFixtures.store(member, "bench store");
+        List<Item> items = BenchmarkFixtures.items(store, itemCount);
+        order = BenchmarkFixtures.order(member, store, items);
+        review = Review.createReview("benchmark review", 4.5, order);
+    }
+
+    @Benchmark
+    public OrderDetailResponseDto orderDetail() {
+        return new OrderDetailResponseDto(order);
+    }
+
+    @Benchmark
+    public ReviewResponseDto review() {
+        return new ReviewResponseDto(review);
+    }
+
+    @Benchmark
+    public StoreResponseDto store() {
+        return new StoreResponseDto(store, 4.5);
+    }
+}
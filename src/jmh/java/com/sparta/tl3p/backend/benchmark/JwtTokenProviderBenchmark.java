@@ -0,0 +1,57 @@
+package com.sparta.tl3p.backend.benchmark;
+
+import com.sparta.tl3p.backend.common.util.JwtPrincipal;
+import com.sparta.tl3p.backend.common.util.JwtTokenProvider;
+import com.sparta.tl3p.backend.domain.member.enums.Role;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증 처리량 (JwtAuthenticationFilter가 요청마다 수행하는 경로 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        byte[] key = new byte[32];
+        Arrays.fill(key, (byte) 7);
+        jwtTokenProvider = new JwtTokenProvider(
+                Base64.getEncoder().encodeToString(key), 3_600_000L, 1_209_600_000L, null);
+        accessToken = jwtTokenProvider.createAccessToken(1L, Role.CUSTOMER);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(1L, Role.CUSTOMER);
+    }
+
+    @Benchmark
+    public Long parseMemberId() {
+        return jwtTokenProvider.getMemberIdFromToken(accessToken);
+    }
+
+    // 필터 인증 경로: 토큰 1회 파싱으로 회원 ID, 권한, 만료 시각 추출
+    @Benchmark
+    public JwtPrincipal authenticateRequest() {
+        return jwtTokenProvider.parseToken(accessToken).orElseThrow();
+    }
+
+    // 비교 기준: 검증 + 회원 ID + 권한 추출을 각각 파싱하던 이전 방식
+    @Benchmark
+    public void authenticateRequestThreeParses(Blackhole blackhole) {
+        if (jwtTokenProvider.validateToken(accessToken)) {
+            blackhole.consume(jwtTokenProvider.getMemberIdFromToken(accessToken));
+            blackhole.consume(jwtTokenProvider.getUserRoleFromToken(accessToken));
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.sparta.tl3p.backend.benchmark;
+
+import com.sparta.tl3p.backend.BackendApplication;
+import com.sparta.tl3p.backend.common.config.JpaConfig;
+import com.sparta.tl3p.backend.common.config.QueryDslConfig;
+import com.sparta.tl3p.backend.common.util.UuidV7;
+import com.sparta.tl3p.backend.domain.item.entity.Item;
+import com.sparta.tl3p.backend.domain.member.entity.Member;
+import com.sparta.tl3p.backend.domain.order.repository.OrderRepository;
+import com.sparta.tl3p.backend.domain.order.service.OrderBatchJobLock;
+import com.sparta.tl3p.backend.domain.order.service.OrderSearchIndexService;
+import com.sparta.tl3p.backend.domain.store.entity.Store;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 검색: LIKE 전체 비교 vs 트라이그램 후보 조회 (H2, PostgreSQL 모드, 주문 100만 건)
+ * 가게/상품은 JPA로, 주문/주문 항목은 JDBC 배치로 적재한다.
+ * ./gradlew jmh -PjmhInclude=OrderSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class OrderSearchBenchmark {
+
+    private static final String[] FLAVORS = {"spicy", "crispy", "garlic", "honey", "smoked", "cheese", "sweet", "sour"};
+    private static final String[] FOODS = {"chicken", "pizza", "shrimp", "noodle", "burger", "tteokbokki", "dumpling", "salad"};
+    private static final int MEMBERS = 1_000;
+    private static final int STORES = 200;
+    private static final int ITEMS_PER_STORE = 20;
+    private static final int INSERT_BATCH = 10_000;
+
+    @Param({"1000000"})
+    public int orders;
+
+    @Param({"false", "true"})
+    public boolean trigram;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnlyTx;
+    private OrderRepository orderRepository;
+    private final List<Long> memberIds = new ArrayList<>();
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(OrderSearchBenchmarkConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:search" + trigram + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.open-in-view=false",
+                        "order.search.trigram.enabled=" + trigram,
+                        "logging.level.root=WARN")
+                .run();
+
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        orderRepository = context.getBean(OrderRepository.class);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+
+        List<Object[]> storeItems = new ArrayList<>();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                seedCatalog(context.getBean(EntityManager.class), storeItems));
+        seedOrders(context.getBean(JdbcTemplate.class), storeItems);
+
+        if (trigram) {
+            context.getBean(OrderSearchIndexService.class).rebuild(true);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int searchByProductName() {
+        Long memberId = nextMemberId();
+        return readOnlyTx.execute(status -> orderRepository
+                .searchOrders(memberId, null, "garlic shrimp", PageRequest.of(0, 20))
+                .getNumberOfElements());
+    }
+
+    @Benchmark
+    public int searchByStoreName() {
+        Long memberId = nextMemberId();
+        return readOnlyTx.execute(status -> orderRepository
+                .searchOrders(memberId, "store 17", null, PageRequest.of(0, 20))
+                .getNumberOfElements());
+    }
+
+    private Long nextMemberId() {
+        cursor = (cursor + 1) % memberIds.size();
+        return memberIds.get(cursor);
+    }
+
+    // storeItems: {storeId, itemId, price}
+    private void seedCatalog(EntityManager em, List<Object[]> storeItems) {
+        Member owner = BenchmarkFixtures.member(0L);
+        owner.setMemberId(null);
+        em.persist(owner);
+
+        for (int m = 1; m <= MEMBERS; m++) {
+            Member member = BenchmarkFixtures.member(m);
+            member.setMemberId(null);
+            em.persist(member);
+            memberIds.add(member.getMemberId());
+        }
+
+        for (int s = 0; s < STORES; s++) {
+            Store store = BenchmarkFixtures.store(owner, "store " + s);
+            em.persist(store);
+            for (int i = 0; i < ITEMS_PER_STORE; i++) {
+                String name = FLAVORS[(s + i) % FLAVORS.length] + " " + FOODS[(s * 3 + i) % FOODS.length] + " " + i;
+                Item item = Item.builder()
+                        .store(store)
+                        .name(name)
+                        .price(BigDecimal.valueOf(1000L + i * 100L))
+                        .build();
+                em.persist(item);
+                storeItems.add(new Object[]{store.getStoreId(), item.getItemId(), item.getPrice()});
+            }
+        }
+    }
+
+    private void seedOrders(JdbcTemplate jdbcTemplate, List<Object[]> storeItems) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> orderRows = new ArrayList<>(INSERT_BATCH);
+        List<Object[]> itemRows = new ArrayList<>(INSERT_BATCH);
+
+        for (int i = 0; i < orders; i++) {
+            Object[] storeItem = storeItems.get((i * 7919) % storeItems.size());
+            UUID orderId = UuidV7.next();
+            orderRows.add(new Object[]{orderId, memberIds.get(i % MEMBERS), storeItem[0], now});
+            itemRows.add(new Object[]{UuidV7.next(), orderId, storeItem[1], storeItem[2], now});
+
+            if (orderRows.size() == INSERT_BATCH || i == orders - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO p_order (order_id, member_id, store_id, status, order_type, " +
+                        "version, created_at) VALUES (?, ?, ?, 'CREATED', 'ONLINE', 0, ?)", orderRows);
+                jdbcTemplate.batchUpdate("INSERT INTO p_order_item (order_item_id, order_id, item_id, quantity, " +
+                        "price, created_at) VALUES (?, ?, ?, 1, ?, ?)", itemRows);
+                orderRows.clear();
+                itemRows.clear();
+            }
+        }
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = {
+            RedisAutoConfiguration.class,
+            RedisRepositoriesAutoConfiguration.class,
+            SecurityAutoConfiguration.class,
+            UserDetailsServiceAutoConfiguration.class
+    })
+    @EntityScan(basePackageClasses = BackendApplication.class)
+    @EnableJpaRepositories(basePackageClasses = BackendApplication.class)
+    @Import({QueryDslConfig.class, JpaConfig.class, OrderSearchIndexService.class, OrderBatchJobLock.class})
+    static class OrderSearchBenchmarkConfig {
+    }
+}
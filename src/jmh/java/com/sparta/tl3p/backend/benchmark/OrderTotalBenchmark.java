@@ -0,0 +1,61 @@
+package com.sparta.tl3p.backend.benchmark;
+
+import com.sparta.tl3p.backend.domain.item.entity.Item;
+import com.sparta.tl3p.backend.domain.member.entity.Member;
+import com.sparta.tl3p.backend.domain.order.dto.OrderItemRequestDto;
+import com.sparta.tl3p.backend.domain.order.entity.Order;
+import com.sparta.tl3p.backend.domain.order.entity.OrderItem;
+import com.sparta.tl3p.backend.domain.store.entity.Store;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 총액 계산 (createOrder의 주문 항목 생성 + 합계 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrderTotalBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    private Order order;
+    private List<Item> items;
+    private List<OrderItemRequestDto> requests;
+
+    @Setup
+    public void setUp() {
+        Member member = BenchmarkFixtures.member(1L);
+        Store store = BenchmarkFixtures.store(member, "bench store");
+        items = BenchmarkFixtures.items(store, itemCount);
+        order = BenchmarkFixtures.order(member, store, items);
+
+        requests = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            OrderItemRequestDto request = new OrderItemRequestDto();
+            request.setQuantity(i % 3 + 1);
+            requests.add(request);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotal() {
+        return order.calculateTotalAmount();
+    }
+
+    @Benchmark
+    public BigDecimal buildItemsAndCalculateTotal() {
+        Order newOrder = Order.builder().build();
+        for (int i = 0; i < itemCount; i++) {
+            OrderItem orderItem = new OrderItem(requests.get(i), items.get(i));
+            orderItem.setOrder(newOrder);
+            newOrder.getOrderItems().add(orderItem);
+        }
+        return newOrder.calculateTotalAmount();
+    }
+}
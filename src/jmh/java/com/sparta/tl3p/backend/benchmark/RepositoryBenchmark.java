@@ -0,0 +1,147 @@
+package com.sparta.tl3p.backend.benchmark;
+
+import com.sparta.tl3p.backend.BackendApplication;
+import com.sparta.tl3p.backend.common.config.JpaConfig;
+import com.sparta.tl3p.backend.common.config.QueryDslConfig;
+import com.sparta.tl3p.backend.domain.item.dto.ItemSearchRequestDto;
+import com.sparta.tl3p.backend.domain.item.entity.Item;
+import com.sparta.tl3p.backend.domain.item.enums.ItemPagingType;
+import com.sparta.tl3p.backend.domain.item.repository.ItemRepository;
+import com.sparta.tl3p.backend.domain.member.entity.Member;
+import com.sparta.tl3p.backend.domain.order.repository.OrderRepository;
+import com.sparta.tl3p.backend.domain.store.entity.Store;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * H2(PostgreSQL 모드) 기반 상품 검색 / 주문 검색 리포지토리 벤치마크
+ * 매 호출을 읽기 전용 트랜잭션으로 감싸 요청 단위 영속성 컨텍스트와 동일하게 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RepositoryBenchmark {
+
+    private static final int ITEM_COUNT = 1_000;
+    private static final int ORDER_COUNT = 300;
+    private static final int ITEMS_PER_ORDER = 5;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnlyTx;
+    private ItemRepository itemRepository;
+    private OrderRepository orderRepository;
+
+    private UUID storeId;
+    private Long memberId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RepositoryBenchmarkConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.open-in-view=false",
+                        "logging.level.root=WARN")
+                .run();
+
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        itemRepository = context.getBean(ItemRepository.class);
+        orderRepository = context.getBean(OrderRepository.class);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> seed(context.getBean(EntityManager.class)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int itemSearchPage() {
+        ItemSearchRequestDto request = ItemSearchRequestDto.builder()
+                .storeId(storeId)
+                .itemName("item1")
+                .size(30)
+                .page(2)
+                .build();
+        return readOnlyTx.execute(status -> itemRepository.findAllWithStore(request).getNumberOfElements());
+    }
+
+    @Benchmark
+    public int itemSearchCursor() {
+        ItemSearchRequestDto request = ItemSearchRequestDto.builder()
+                .storeId(storeId)
+                .itemName("item1")
+                .size(30)
+                .pagingType(ItemPagingType.CURSOR)
+                .build();
+        return readOnlyTx.execute(status -> itemRepository.findAllWithStoreByCursor(request).getNumberOfElements());
+    }
+
+    @Benchmark
+    public int orderSearch() {
+        return readOnlyTx.execute(status -> orderRepository.searchOrders(memberId, "bench", "item1").size());
+    }
+
+    @Benchmark
+    public int orderSearchPage() {
+        return readOnlyTx.execute(status -> orderRepository
+                .searchOrders(memberId, "bench", "item1", PageRequest.of(0, 20))
+                .getNumberOfElements());
+    }
+
+    private void seed(EntityManager em) {
+        Member member = BenchmarkFixtures.member(0L);
+        member.setMemberId(null);
+        em.persist(member);
+
+        Store store = BenchmarkFixtures.store(member, "bench store");
+        em.persist(store);
+
+        List<Item> items = BenchmarkFixtures.items(store, ITEM_COUNT);
+        items.forEach(em::persist);
+
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            int from = (i * ITEMS_PER_ORDER) % (ITEM_COUNT - ITEMS_PER_ORDER);
+            em.persist(BenchmarkFixtures.order(member, store, items.subList(from, from + ITEMS_PER_ORDER)));
+        }
+
+        memberId = member.getMemberId();
+        storeId = store.getStoreId();
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = {
+            RedisAutoConfiguration.class,
+            RedisRepositoriesAutoConfiguration.class,
+            SecurityAutoConfiguration.class,
+            UserDetailsServiceAutoConfiguration.class
+    })
+    @EntityScan(basePackageClasses = BackendApplication.class)
+    @EnableJpaRepositories(basePackageClasses = BackendApplication.class)
+    @Import({QueryDslConfig.class, JpaConfig.class})
+    static class RepositoryBenchmarkConfig {
+    }
+}
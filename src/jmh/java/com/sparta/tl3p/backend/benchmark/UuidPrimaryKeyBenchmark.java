@@ -0,0 +1,90 @@
+package com.sparta.tl3p.backend.benchmark;
+
+import com.sparta.tl3p.backend.common.util.UuidV7;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UUID v4(랜덤) vs v7(시간 순) 기본키 비교 (H2 파일 DB, PostgreSQL 모드)
+ * - insertBatch: 기본키 B-tree에 배치 insert 처리량
+ * - generate: 식별자 생성 비용
+ * - 트라이얼 종료 시 테이블 행 수와 디스크 사용량(인덱스 포함)을 출력하여 크기 비교
+ * ./gradlew jmh -PjmhInclude=UuidPrimaryKeyBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UuidPrimaryKeyBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Param({"v4", "v7"})
+    public String version;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private String dbPath;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        // 메모리 DB는 페이지 분할로 인한 크기 차이가 드러나지 않으므로 파일 DB 사용
+        dbPath = System.getProperty("java.io.tmpdir") + "/uuid-pk-" + version + "-" + System.nanoTime();
+        connection = DriverManager.getConnection("jdbc:h2:file:" + dbPath + ";MODE=PostgreSQL");
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE p_uuid_bench (id UUID PRIMARY KEY, payload VARCHAR(64))");
+        }
+        insert = connection.prepareStatement("INSERT INTO p_uuid_bench (id, payload) VALUES (?, ?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT COUNT(*) FROM p_uuid_bench")) {
+            rows.next();
+            long count = rows.getLong(1);
+            try (ResultSet size = statement.executeQuery("CALL DISK_SPACE_USED('P_UUID_BENCH')")) {
+                size.next();
+                long bytes = size.getLong(1);
+                System.out.printf("%n[%s] rows=%d, disk=%d bytes, bytes/row=%.1f%n",
+                        version, count, bytes, count == 0 ? 0.0 : (double) bytes / count);
+            }
+        }
+        insert.close();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS DELETE FILES");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int[] insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, nextId());
+            insert.setString(2, "payload");
+            insert.addBatch();
+        }
+        int[] counts = insert.executeBatch();
+        connection.commit();
+        return counts;
+    }
+
+    @Benchmark
+    public UUID generate() {
+        return nextId();
+    }
+
+    private UUID nextId() {
+        return "v7".equals(version) ? UuidV7.next() : UUID.randomUUID();
+    }
+}
@@ -0,0 +1,20 @@
+package com.sparta.tl3p.backend.common.cache;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CacheStats {
+    private final String name;
+    private final long   l1Hits;
+    private final long   l2Hits;
+    private final long   misses;
+    private final long   evictions;
+    private final int    l1Size;
+
+    public double getHitRatio() {
+        long total = l1Hits + l2Hits + misses;
+        return total == 0 ? 0.0 : (double) (l1Hits + l2Hits) / total;
+    }
+}
@@ -0,0 +1,68 @@
+package com.sparta.tl3p.backend.common.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 크기 제한(LRU)과 TTL을 가진 프로세스 내부 캐시 (TwoTierCache의 L1, VerifiedTokenCache)
+ */
+class LocalLruCache<V> {
+
+    private final long ttlMillis;
+    private final LongAdder evictions = new LongAdder();
+    private final LinkedHashMap<String, Entry<V>> entries;
+
+    LocalLruCache(int maxSize, Duration ttl) {
+        this.ttlMillis = ttl.toMillis();
+        // accessOrder = true: 조회 순서 기준으로 가장 오래 사용되지 않은 항목부터 제거
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    synchronized V get(String key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(key);
+            evictions.increment();
+            return null;
+        }
+        return entry.value;
+    }
+
+    synchronized void put(String key, V value) {
+        put(key, value, System.currentTimeMillis() + ttlMillis);
+    }
+
+    // 항목별 만료 시각 지정 (기본 TTL보다 늦으면 기본 TTL 적용)
+    synchronized void put(String key, V value, long expiresAt) {
+        entries.put(key, new Entry<>(value, Math.min(expiresAt, System.currentTimeMillis() + ttlMillis)));
+    }
+
+    synchronized void remove(String key) {
+        entries.remove(key);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    long evictionCount() {
+        return evictions.sum();
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
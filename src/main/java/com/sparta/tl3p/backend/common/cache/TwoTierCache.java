@@ -0,0 +1,151 @@
+package com.sparta.tl3p.backend.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * L1(프로세스 내부 LRU + TTL) → L2(Redis) → DB 순으로 조회하는 read-through 캐시
+ * - 무효화 시 L1/L2를 모두 지우고, 다른 인스턴스의 L1도 지우도록 Redis 채널에 키를 발행한다.
+ * - 트랜잭션 안에서 무효화하면 커밋 이후에 한 번 더 지워 커밋 전 값이 다시 적재되는 것을 막는다.
+ * - Redis 장애 시 L2를 건너뛰고 DB에서 조회한다.
+ */
+@Slf4j
+public class TwoTierCache<V> {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+    private static final String KEY_DELIMITER = "|";
+
+    private final String name;
+    private final Class<V> type;
+    private final LocalLruCache<V> local;
+    private final Duration remoteTtl;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public TwoTierCache(String name, Class<V> type, int localMaxSize, Duration localTtl, Duration remoteTtl,
+                        StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+        this.name = name;
+        this.type = type;
+        this.local = new LocalLruCache<>(localMaxSize, localTtl);
+        this.remoteTtl = remoteTtl;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public V get(Object key, Supplier<V> loader) {
+        String cacheKey = key.toString();
+
+        V value = local.get(cacheKey);
+        if (value != null) {
+            l1Hits.increment();
+            return value;
+        }
+
+        value = readRemote(cacheKey);
+        if (value != null) {
+            l2Hits.increment();
+            local.put(cacheKey, value);
+            return value;
+        }
+
+        misses.increment();
+        value = loader.get();
+        if (value != null) {
+            local.put(cacheKey, value);
+            writeRemote(cacheKey, value);
+        }
+        return value;
+    }
+
+    public void evict(Object key) {
+        String cacheKey = key.toString();
+        evictNow(cacheKey);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(cacheKey);
+                }
+            });
+        }
+    }
+
+    // 다른 인스턴스에서 발행한 무효화 메시지 처리 (L1만 제거)
+    public void evictLocal(String key) {
+        local.remove(key);
+    }
+
+    // 무효화 메시지 형식: "{cacheName}|{key}"
+    public boolean handleInvalidation(String message) {
+        String prefix = name + KEY_DELIMITER;
+        if (message == null || !message.startsWith(prefix)) {
+            return false;
+        }
+        evictLocal(message.substring(prefix.length()));
+        return true;
+    }
+
+    public CacheStats stats() {
+        return CacheStats.builder()
+                .name(name)
+                .l1Hits(l1Hits.sum())
+                .l2Hits(l2Hits.sum())
+                .misses(misses.sum())
+                .evictions(local.evictionCount())
+                .l1Size(local.size())
+                .build();
+    }
+
+    private void evictNow(String key) {
+        local.remove(key);
+        try {
+            redisTemplate.delete(remoteKey(key));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, name + KEY_DELIMITER + key);
+        } catch (RuntimeException e) {
+            log.warn("[{}] Redis 캐시 무효화 실패: key={}, {}", name, key, e.getMessage());
+        }
+    }
+
+    private V readRemote(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(remoteKey(key));
+            return json != null ? objectMapper.readValue(json, type) : null;
+        } catch (JsonProcessingException e) {
+            log.warn("[{}] Redis 캐시 역직렬화 실패: key={}", name, key);
+            return null;
+        } catch (RuntimeException e) {
+            log.warn("[{}] Redis 캐시 조회 실패: key={}, {}", name, key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String key, V value) {
+        try {
+            redisTemplate.opsForValue().set(remoteKey(key), objectMapper.writeValueAsString(value), remoteTtl);
+        } catch (JsonProcessingException e) {
+            log.warn("[{}] Redis 캐시 직렬화 실패: key={}", name, key);
+        } catch (RuntimeException e) {
+            log.warn("[{}] Redis 캐시 저장 실패: key={}, {}", name, key, e.getMessage());
+        }
+    }
+
+    private String remoteKey(String key) {
+        return "cache:" + name + ":" + key;
+    }
+}
@@ -0,0 +1,81 @@
+package com.sparta.tl3p.backend.common.cache;
+
+import com.sparta.tl3p.backend.common.util.JwtPrincipal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 서명 검증을 마친 토큰의 인증 정보 캐시
+ * - 키는 토큰 원문이 아닌 SHA-256 다이제스트
+ * - 항목은 토큰의 exp 시각에 만료되며, 최대 크기를 넘으면 LRU로 제거
+ * - 유효하지 않은 토큰은 캐시하지 않음
+ */
+@Component
+public class VerifiedTokenCache {
+
+    public static final String NAME = "verified-token";
+
+    private final boolean enabled;
+    private final LocalLruCache<JwtPrincipal> cache;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public VerifiedTokenCache(
+            @Value("${jwt.verified-token-cache.enabled:false}") boolean enabled,
+            @Value("${jwt.verified-token-cache.max-size:10000}") int maxSize) {
+        this.enabled = enabled;
+        // 만료 시각은 항목마다 토큰 exp로 지정하므로 기본 TTL은 상한 역할만 함
+        this.cache = new LocalLruCache<>(maxSize, Duration.ofDays(1));
+    }
+
+    public Optional<JwtPrincipal> get(String token, Function<String, Optional<JwtPrincipal>> parser) {
+        if (!enabled) {
+            return parser.apply(token);
+        }
+
+        String key = digest(token);
+        JwtPrincipal cached = cache.get(key);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+
+        misses.increment();
+        Optional<JwtPrincipal> principal = parser.apply(token);
+        principal.ifPresent(p -> cache.put(key, p, p.getExpiresAt().toEpochMilli()));
+        return principal;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public CacheStats stats() {
+        return CacheStats.builder()
+                .name(NAME)
+                .l1Hits(hits.sum())
+                .misses(misses.sum())
+                .evictions(cache.evictionCount())
+                .l1Size(cache.size())
+                .build();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.sparta.tl3p.backend.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.tl3p.backend.common.cache.TwoTierCache;
+import com.sparta.tl3p.backend.domain.item.dto.ItemResponseDto;
+import com.sparta.tl3p.backend.domain.store.dto.StoreResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+public class CacheConfig {
+
+    @Value("${cache.local.max-size:1000}")
+    private int localMaxSize;
+
+    // L1은 다른 인스턴스의 무효화 메시지를 놓쳐도 오래 남지 않도록 짧게 유지
+    @Value("${cache.local.ttl-seconds:30}")
+    private long localTtlSeconds;
+
+    // 평균 평점, 상품의 가게명 등 무효화 대상이 아닌 값의 최대 지연 시간
+    @Value("${cache.remote.ttl-seconds:300}")
+    private long remoteTtlSeconds;
+
+    @Bean
+    public TwoTierCache<StoreResponseDto> storeCache(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+        return createCache("store", StoreResponseDto.class, stringRedisTemplate, objectMapper);
+    }
+
+    @Bean
+    public TwoTierCache<ItemResponseDto> itemCache(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+        return createCache("item", ItemResponseDto.class, stringRedisTemplate, objectMapper);
+    }
+
+    // 다른 인스턴스에서 발행한 무효화 메시지를 받아 L1 캐시를 제거
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory redisConnectionFactory, List<TwoTierCache<?>> caches) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            for (TwoTierCache<?> cache : caches) {
+                if (cache.handleInvalidation(body)) {
+                    break;
+                }
+            }
+        }, new ChannelTopic(TwoTierCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+
+    private <V> TwoTierCache<V> createCache(String name, Class<V> type,
+                                            StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+        return new TwoTierCache<>(name, type, localMaxSize, Duration.ofSeconds(localTtlSeconds),
+                Duration.ofSeconds(remoteTtlSeconds), stringRedisTemplate, objectMapper);
+    }
+}
@@ -0,0 +1,33 @@
+package com.sparta.tl3p.backend.common.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate JDBC 배치 쓰기 설정
+ * - 같은 테이블의 insert/update를 엔티티 종류별로 정렬하여 배치 단위로 전송 (주문 항목, 가게 카테고리 등)
+ * - IDENTITY 전략 엔티티(outbox)는 키를 즉시 받아야 하므로 배치 대상에서 제외된다.
+ * - 설정 파일에 같은 키가 있으면 그 값을 우선한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "jpa.batch-write.enabled", havingValue = "true", matchIfMissing = true)
+public class JpaBatchConfig {
+
+    @Value("${jpa.batch-write.batch-size:50}")
+    private int batchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer batchWriteHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            // @Version 엔티티의 update도 배치 처리
+            properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package com.sparta.tl3p.backend.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.tl3p.backend.domain.order.dto.OrderEvent;
+import com.sparta.tl3p.backend.domain.order.service.StoreOrderFeedService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+
+@Slf4j
+@Configuration
+public class OrderFeedConfig {
+
+    // 어느 인스턴스에서 발행된 주문 이벤트든 이 인스턴스에 연결된 가게 피드로 전달
+    // 리스너는 버퍼 저장과 연결별 대기열 추가만 하므로 수신 스레드에서 바로 실행 (메시지마다 스레드를 만들지 않고 수신 순서 유지)
+    @Bean
+    public RedisMessageListenerContainer orderFeedListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                    StoreOrderFeedService storeOrderFeedService,
+                                                                    ObjectMapper objectMapper) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.setTaskExecutor(new SyncTaskExecutor());
+        container.addMessageListener((message, pattern) -> {
+            try {
+                storeOrderFeedService.broadcast(objectMapper.readValue(message.getBody(), OrderEvent.class));
+            } catch (IOException e) {
+                log.warn("주문 피드 메시지 역직렬화 실패: {}", e.getMessage());
+            }
+        }, new ChannelTopic(StoreOrderFeedService.FEED_CHANNEL));
+        return container;
+    }
+
+    // SSE 전송 전용 스레드 풀 (연결 하나는 한 번에 한 스레드만 사용, 포화되면 연결을 끊고 재연결 시 버퍼에서 이어 받음)
+    // 이름으로만 주입 (기본 후보에서 빠져 기본 applicationTaskExecutor 자동 구성을 대체하지 않음)
+    @Bean(defaultCandidate = false)
+    public ThreadPoolTaskExecutor orderFeedSendExecutor(@Value("${order.feed.send-threads:4}") int sendThreads,
+                                                        @Value("${order.feed.send-queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(sendThreads);
+        executor.setMaxPoolSize(sendThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("order-feed-");
+        return executor;
+    }
+}
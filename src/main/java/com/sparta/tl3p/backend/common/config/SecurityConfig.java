@@ -1,7 +1,9 @@
 package com.sparta.tl3p.backend.common.config;
 
+import com.sparta.tl3p.backend.common.cache.VerifiedTokenCache;
 import com.sparta.tl3p.backend.common.filter.JwtAuthenticationFilter;
 import com.sparta.tl3p.backend.common.util.JwtTokenProvider;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -24,6 +26,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Bean
     public BCryptPasswordEncoder passwordEncoder() {
@@ -36,6 +39,8 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(request -> request
+                        // SSE 등 비동기 요청의 재디스패치 (최초 요청에서 이미 인가됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/v1/members/signup", "/api/v1/members/login").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
 
@@ -46,6 +51,8 @@ public class SecurityConfig {
 
                         // store
                         .requestMatchers(HttpMethod.GET, "/api/v1/stores").permitAll() // (모든 사용자)
+                        .requestMatchers(HttpMethod.GET, "/api/v1/stores/autocomplete").permitAll() // (모든 사용자)
+                        .requestMatchers(HttpMethod.GET, "/api/v1/stores/nearby").permitAll() // (모든 사용자)
                         .requestMatchers(HttpMethod.GET, "/api/v1/stores/{storeId}").permitAll() // (모든 사용자)
                         .requestMatchers(HttpMethod.GET, "/api/v1/stores/{storeId}/scores").permitAll() // (모든 사용자)
 
@@ -57,7 +64,7 @@ public class SecurityConfig {
 
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, verifiedTokenCache), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
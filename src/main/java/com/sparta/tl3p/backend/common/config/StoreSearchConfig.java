@@ -0,0 +1,34 @@
+package com.sparta.tl3p.backend.common.config;
+
+import com.sparta.tl3p.backend.domain.store.service.StoreSearchIndexService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+@Slf4j
+@Configuration
+public class StoreSearchConfig {
+
+    // 어느 인스턴스에서 변경된 가게든 이 인스턴스의 검색 인덱스에 반영
+    @Bean
+    public RedisMessageListenerContainer storeSearchListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                      StoreSearchIndexService storeSearchIndexService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            String storeId = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                storeSearchIndexService.reload(UUID.fromString(storeId));
+            } catch (RuntimeException e) {
+                log.warn("가게 검색 인덱스 갱신 실패: storeId={}, {}", storeId, e.getMessage());
+            }
+        }, new ChannelTopic(StoreSearchIndexService.INDEX_CHANNEL));
+        return container;
+    }
+}
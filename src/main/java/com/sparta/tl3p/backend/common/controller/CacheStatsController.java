@@ -0,0 +1,41 @@
+package com.sparta.tl3p.backend.common.controller;
+
+import com.sparta.tl3p.backend.common.cache.CacheStats;
+import com.sparta.tl3p.backend.common.cache.TwoTierCache;
+import com.sparta.tl3p.backend.common.cache.VerifiedTokenCache;
+import com.sparta.tl3p.backend.common.dto.SuccessResponseDto;
+import com.sparta.tl3p.backend.common.type.ResponseCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/caches")
+@RequiredArgsConstructor
+public class CacheStatsController {
+
+    private final List<TwoTierCache<?>> caches;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @PreAuthorize("hasRole('MASTER')")
+    @GetMapping
+    public ResponseEntity<SuccessResponseDto> getCacheStats() {
+        List<CacheStats> stats = new ArrayList<>(caches.stream().map(TwoTierCache::stats).toList());
+        if (verifiedTokenCache.isEnabled()) {
+            stats.add(verifiedTokenCache.stats());
+        }
+        return ResponseEntity.ok(
+                SuccessResponseDto.builder()
+                        .code(ResponseCode.S)
+                        .message("캐시 통계 조회 완료.")
+                        .data(stats)
+                        .build()
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package com.sparta.tl3p.backend.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class PageResponseDto<T> {
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final List<T> content;
+    private final int     totalPages;
+    private final long    totalElements;
+    private final int     pageSize;
+    private final int     currentPage;
+    private final boolean hasNext;
+
+    public static <T> PageResponseDto<T> of(Page<T> page) {
+        return PageResponseDto.<T>builder()
+                .content(page.getContent())
+                .totalPages(page.getTotalPages())
+                .totalElements(page.getTotalElements())
+                .pageSize(page.getSize())
+                .currentPage(page.getNumber() + 1)
+                .hasNext(page.hasNext())
+                .build();
+    }
+
+    // 요청 파라미터(page는 1부터 시작)를 Pageable로 변환
+    public static Pageable pageable(int page, int size) {
+        return PageRequest.of(Math.max(page - 1, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+    }
+}
@@ -0,0 +1,67 @@
+package com.sparta.tl3p.backend.common.dto;
+
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 조건부 GET 검증자 (ETag / Last-Modified)
+ * - ETag: 응답 내용이 바뀌면 함께 바뀌는 값(엔티티 버전, 수정 시각, 조회한 목록의 행 등)으로 만든 약한(W/) 태그
+ * - Last-Modified: 응답에 반영된 행들의 가장 최근 수정 시각 (수정 시각으로 표현할 수 없는 값이 섞이면 -1)
+ */
+@Getter
+public class ResourceVersion {
+
+    private final String etag;
+    private final long lastModified;
+
+    private ResourceVersion(String etag, long lastModified) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    public static ResourceVersion of(String name, LocalDateTime lastModified, Object... tokens) {
+        String tag = Arrays.stream(tokens)
+                .map(ResourceVersion::tokenOf)
+                .collect(Collectors.joining("-", name + "-", ""));
+        return new ResourceVersion("W/\"" + tag + "\"", toEpochMillis(lastModified));
+    }
+
+    // ETag만 사용 (Last-Modified 없음)
+    public static ResourceVersion of(String name, Object... tokens) {
+        return of(name, null, tokens);
+    }
+
+    // 조회한 목록 자체로 만든 ETag (행별 토큰과 페이지 정보를 이어 붙인 문자열의 MD5, 집계 쿼리 없이 생성)
+    public static ResourceVersion ofContent(String name, List<?> rows, Object... pageTokens) {
+        StringBuilder content = new StringBuilder();
+        for (Object row : rows) {
+            content.append(tokenOf(row)).append('|');
+        }
+        for (Object token : pageTokens) {
+            content.append(tokenOf(token)).append('|');
+        }
+        String digest = DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8));
+        return new ResourceVersion("W/\"" + name + "-" + digest + "\"", -1);
+    }
+
+    private static String tokenOf(Object token) {
+        if (token == null) {
+            return "0";
+        }
+        if (token instanceof LocalDateTime time) {
+            return Long.toString(toEpochMillis(time));
+        }
+        return token.toString();
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time == null ? -1 : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
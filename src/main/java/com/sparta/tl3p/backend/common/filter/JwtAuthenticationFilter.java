@@ -1,8 +1,9 @@
 package com.sparta.tl3p.backend.common.filter;
 
+import com.sparta.tl3p.backend.common.cache.VerifiedTokenCache;
+import com.sparta.tl3p.backend.common.util.JwtPrincipal;
 import com.sparta.tl3p.backend.common.util.JwtTokenProvider;
 import com.sparta.tl3p.backend.domain.member.entity.CustomUserDetails;
-import com.sparta.tl3p.backend.domain.member.enums.Role;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,6 +19,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -25,14 +27,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain chain) throws ServletException, IOException {
         String token = jwtTokenProvider.resolveToken(request);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Long memberId = jwtTokenProvider.getMemberIdFromToken(token);
-            String roleStr = jwtTokenProvider.getUserRoleFromToken(token);
-            // Role enum로 변환 (토큰의 role 문자열과 enum명이 일치해야 합니다)
-            Role role = Role.valueOf(roleStr);
+        // 토큰 파싱/서명 검증은 요청당 최대 한 번 (검증 캐시 사용 시 같은 토큰은 만료 전까지 재검증 생략)
+        JwtPrincipal principal = (token != null)
+                ? verifiedTokenCache.get(token, jwtTokenProvider::parseToken).orElse(null)
+                : null;
+
+        // 권한 클레임이 없는 토큰(리프레시 토큰 등)은 인증하지 않음
+        if (principal != null && principal.getRole() != null) {
+            Long memberId = principal.getMemberId();
 
             // CustomUserDetails의 추가 생성자를 사용하여 객체 생성
-            CustomUserDetails customUserDetails = new CustomUserDetails(memberId, memberId.toString(), "", role);
+            CustomUserDetails customUserDetails =
+                    new CustomUserDetails(memberId, memberId.toString(), "", principal.getRole());
 
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(customUserDetails, "", customUserDetails.getAuthorities());
@@ -25,10 +25,16 @@ public enum ErrorCode {
 
     // Item
     ITEM_NOT_FOUND("I-001", "Item Not Found"),
+    ITEM_NOT_AVAILABLE("I-002", "Item Not Available"),
+    ITEM_STORE_MISMATCH("I-003", "Item Does Not Belong To Store"),
 
     // Order
     ORDER_NOT_FOUND("O-001", "Order Not Found"),
     ORDER_TIME_OUT("O-002", "Order Time Out"),
+    ORDER_REQUEST_IN_PROGRESS("O-003", "Order Request With Same Idempotency Key In Progress"),
+    IDEMPOTENCY_KEY_REUSED("O-004", "Idempotency Key Reused With Different Request"),
+    ORDER_ARCHIVE_IN_PROGRESS("O-005", "Order Archive Already Running"),
+    ORDER_BATCH_JOB_IN_PROGRESS("O-006", "Order Batch Job Already Running"),
 
     // Payment
     PAYMENT_NOT_FOUND("P-001", "Payment Not Found"),
@@ -48,7 +54,8 @@ public enum ErrorCode {
 
     // Unexpected Exception
     UNEXPECTED_ERROR("D-001", "Unexpected error"),
-    ACCESS_DENIED("D-002", "Access Denied");
+    ACCESS_DENIED("D-002", "Access Denied"),
+    CONCURRENT_MODIFICATION("D-003", "Concurrent Modification, Please Retry");
 
     private final String code;
     private final String message;
@@ -0,0 +1,74 @@
+package com.sparta.tl3p.backend.common.util;
+
+import com.sparta.tl3p.backend.common.exception.BusinessException;
+import com.sparta.tl3p.backend.common.type.ErrorCode;
+import com.sparta.tl3p.backend.domain.member.entity.CustomUserDetails;
+import com.sparta.tl3p.backend.domain.member.entity.Member;
+import com.sparta.tl3p.backend.domain.member.enums.Role;
+import com.sparta.tl3p.backend.domain.member.repository.MemberRepository;
+import com.sparta.tl3p.backend.domain.store.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 요청 주체의 권한/소유권 확인
+ * - 권한은 인증 필터가 검증된 JWT 클레임으로 만든 principal에서 읽는다 (회원 조회 없음).
+ *   principal이 없는 호출(스케줄러 등)에서만 회원을 조회한다.
+ * - 소유권은 외래키 ID끼리 비교하여 연관 엔티티(프록시)를 초기화하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AccessControl {
+
+    private final MemberRepository memberRepository;
+    private final StoreRepository storeRepository;
+
+    public Role roleOf(Long memberId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.getPrincipal() instanceof CustomUserDetails principal
+                && principal.getMemberId().equals(memberId)
+                && principal.getRole() != null) {
+            return principal.getRole();
+        }
+        return memberRepository.findById(memberId)
+                .map(Member::getRole)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+    }
+
+    public boolean isMaster(Long memberId) {
+        return roleOf(memberId) == Role.MASTER;
+    }
+
+    // 가게 소유자 확인 (소유자 ID 컬럼만 조회)
+    public void checkStoreOwner(UUID storeId, Long memberId) {
+        Long ownerId = storeRepository.findOwnerIdByStoreId(storeId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
+        if (!ownerId.equals(memberId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+    }
+
+    /**
+     * 주문 접근 권한 확인 후 요청 주체의 권한을 반환
+     * - 고객은 본인 주문, 점주는 본인 가게 주문, 관리자/최고관리자는 전체 주문
+     */
+    public Role checkOrderAccess(Long memberId, Long orderMemberId, UUID storeId) {
+        Role role = roleOf(memberId);
+        if (role == Role.CUSTOMER && !memberId.equals(orderMemberId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        } else if (role == Role.OWNER) {
+            checkStoreOwner(storeId, memberId);
+        }
+        return role;
+    }
+
+    // 연관 회원이 요청 주체인지 (프록시의 식별자 조회는 로딩을 일으키지 않음)
+    public static boolean isSameMember(Member member, Long memberId) {
+        return member != null && member.getMemberId().equals(memberId);
+    }
+}
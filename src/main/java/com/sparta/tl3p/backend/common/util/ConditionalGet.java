@@ -0,0 +1,32 @@
+package com.sparta.tl3p.backend.common.util;
+
+import com.sparta.tl3p.backend.common.dto.ResourceVersion;
+import com.sparta.tl3p.backend.common.dto.SuccessResponseDto;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * 조건부 GET 응답
+ * - If-None-Match / If-Modified-Since가 현재 검증자와 일치하면 응답 본문을 만들지 않고 304를 반환한다.
+ * - 200 응답에는 ETag/Last-Modified와 함께 재검증을 요구하는 Cache-Control을 붙여 클라이언트가 조건부 요청을 보내도록 한다.
+ */
+public final class ConditionalGet {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    public static ResponseEntity<SuccessResponseDto> respond(WebRequest request, ResourceVersion version,
+                                                             Supplier<SuccessResponseDto> body) {
+        // 검증자 헤더는 checkNotModified가 응답에 기록
+        if (request.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(body.get());
+    }
+}
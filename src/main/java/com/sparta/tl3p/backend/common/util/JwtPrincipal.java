@@ -0,0 +1,19 @@
+package com.sparta.tl3p.backend.common.util;
+
+import com.sparta.tl3p.backend.domain.member.enums.Role;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 JWT에서 추출한 인증 정보
+ * role은 리프레시 토큰처럼 권한 클레임이 없는 토큰이면 null
+ */
+@Getter
+@RequiredArgsConstructor
+public class JwtPrincipal {
+    private final Long    memberId;
+    private final Role    role;
+    private final Instant expiresAt;
+}
@@ -5,6 +5,7 @@ import com.sparta.tl3p.backend.common.type.ErrorCode;
 import com.sparta.tl3p.backend.domain.member.enums.Role;
 import com.sparta.tl3p.backend.domain.member.service.RedisService;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -19,6 +20,7 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -28,6 +30,7 @@ public class JwtTokenProvider {
     private String ACCESS_HEADER;
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final Long accessTokenValidity;
     private final Long refreshTokenValidity;
     private final RedisService redisService;
@@ -37,9 +40,11 @@ public class JwtTokenProvider {
             @Value("${jwt.access-token-validity}") Long accessTokenValidity,
             @Value("${jwt.refresh-token-validity}") Long refreshTokenValidity,
             RedisService redisService) {
-        System.out.println("JWT SECRET :" + secret);
-
         this.secretKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
+        // 파서는 불변이며 thread-safe하므로 한 번만 생성하여 재사용
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
         this.accessTokenValidity = accessTokenValidity;
         this.refreshTokenValidity = refreshTokenValidity;
         this.redisService = redisService;
@@ -76,14 +81,29 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * 토큰을 한 번만 파싱/서명 검증하여 회원 ID, 권한, 만료 시각을 반환
+     * 유효하지 않은 토큰이면 Optional.empty()
+     */
+    public Optional<JwtPrincipal> parseToken(String token) {
+        try {
+            Claims claims = extractClaims(token);
+            String role = claims.get("role", String.class);
+            return Optional.of(new JwtPrincipal(
+                    Long.valueOf(claims.getSubject()),
+                    role != null ? Role.valueOf(role) : null,
+                    claims.getExpiration().toInstant()
+            ));
+        } catch (Exception e) {
+            log.warn("Invalid JWT token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     public Long getMemberIdFromToken(String token) {
 
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = extractClaims(token);
             return Long.valueOf(claims.getSubject());
         } catch (Exception e) {
             throw new BusinessException(ErrorCode.INVALID_JWT_TOKEN);
@@ -92,10 +112,7 @@ public class JwtTokenProvider {
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
+            jwtParser.parseClaimsJws(token);
             return true;
         } catch (Exception e) {
             log.warn("Invalid JWT token: {}", e.getMessage());
@@ -119,9 +136,7 @@ public class JwtTokenProvider {
 
 
     private Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
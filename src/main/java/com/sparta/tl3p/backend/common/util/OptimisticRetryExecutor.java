@@ -0,0 +1,98 @@
+package com.sparta.tl3p.backend.common.util;
+
+import com.sparta.tl3p.backend.common.exception.BusinessException;
+import com.sparta.tl3p.backend.common.type.ErrorCode;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 락(@Version) 충돌 시 트랜잭션을 새로 열어 재시도
+ * - 주문/가게/상품은 version 컬럼을 두어 동시 수정 시 나중에 커밋하는 쪽이 실패하고, 이 실행기로 감싼 서비스 메서드가 재시도한다.
+ * - 시도마다 새 트랜잭션에서 엔티티를 다시 읽으므로 최신 상태 기준으로 변경이 재적용된다.
+ * - 대기 시간은 지수 증가 + full jitter (동시에 충돌한 요청이 같은 시점에 재충돌하지 않도록)
+ * - 이미 트랜잭션 안에서 호출되면 재시도 단위를 만들 수 없으므로 한 번만 실행한다.
+ *   그래서 이 실행기를 쓰는 서비스 메서드에는 @Transactional을 붙이지 않고(클래스 단위 기본 트랜잭션도 두지 않음)
+ *   시도마다 실행기가 트랜잭션을 연다.
+ */
+@Slf4j
+@Component
+public class OptimisticRetryExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    public OptimisticRetryExecutor(PlatformTransactionManager transactionManager,
+                                   @Value("${retry.optimistic.max-attempts:5}") int maxAttempts,
+                                   @Value("${retry.optimistic.base-backoff-millis:10}") long baseBackoffMillis,
+                                   @Value("${retry.optimistic.max-backoff-millis:200}") long maxBackoffMillis) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                conflicts.increment();
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    log.warn("낙관적 락 충돌 재시도 한도 초과: attempts={}, {}", attempt, e.getMessage());
+                    throw new BusinessException(ErrorCode.CONCURRENT_MODIFICATION);
+                }
+                log.debug("낙관적 락 충돌, 재시도: attempt={}", attempt);
+                sleep(backoffMillis(attempt));
+            }
+        }
+    }
+
+    public void run(Runnable action) {
+        execute(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public long getConflictCount() {
+        return conflicts.sum();
+    }
+
+    public long getExhaustedCount() {
+        return exhausted.sum();
+    }
+
+    private long backoffMillis(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.CONCURRENT_MODIFICATION);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.sparta.tl3p.backend.domain.ai.entity;
 
 import com.sparta.tl3p.backend.common.audit.BaseEntity;
+import com.sparta.tl3p.backend.common.util.UuidV7Id;
 import com.sparta.tl3p.backend.domain.item.entity.Item;
 import com.sparta.tl3p.backend.domain.member.entity.Member;
 import jakarta.persistence.*;
@@ -18,7 +19,7 @@ import java.util.UUID;
 public class AIDescription extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     @Column(name = "ai_description_id", columnDefinition = "uuid")
     private UUID id;
 
@@ -2,6 +2,7 @@ package com.sparta.tl3p.backend.domain.item.controller;
 
 import com.sparta.tl3p.backend.common.dto.SuccessResponseDto;
 import com.sparta.tl3p.backend.common.type.ResponseCode;
+import com.sparta.tl3p.backend.common.util.ConditionalGet;
 import com.sparta.tl3p.backend.domain.item.dto.*;
 import com.sparta.tl3p.backend.domain.item.service.ItemService;
 import com.sparta.tl3p.backend.domain.member.entity.CustomUserDetails;
@@ -13,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -26,26 +28,39 @@ public class ItemController {
     @GetMapping
     @PreAuthorize("hasAnyAuthority('ROLE_CUSTOMER','ROLE_OWNER','ROLE_MANAGER','ROLE_MASTER')")
     public ResponseEntity<SuccessResponseDto> getAllItems(
-            @ModelAttribute @Valid ItemSearchRequestDto request
+            @ModelAttribute @Valid ItemSearchRequestDto request,
+            WebRequest webRequest
     ) {
-        Page<ItemResponseDto> result = itemService.getAllItems(request).map(ItemResponseDto::from);
-        return ResponseEntity.ok(SuccessResponseDto.builder()
-                .code(ResponseCode.S)
-                .message("상품 목록 조회 성공")
-                .data(ItemPageResponseDto.of(result, request.getSortOption()))
-                .build());
+        ItemPageResponseDto data;
+        if (request.isCursorMode()) {
+            data = itemService.getItemsByCursor(request);
+        } else {
+            Page<ItemResponseDto> result = itemService.getAllItems(request).map(ItemResponseDto::from);
+            data = ItemPageResponseDto.of(result, request.getSortOption());
+        }
+
+        // 조회한 페이지로 검증자를 만들어 전체 조건 집계 없이 재검증 (일치하면 본문 없이 304)
+        return ConditionalGet.respond(webRequest, data.toResourceVersion(), () ->
+                SuccessResponseDto.builder()
+                        .code(ResponseCode.S)
+                        .message("상품 목록 조회 성공")
+                        .data(data)
+                        .build());
     }
 
     @GetMapping("/{itemId}")
     @PreAuthorize("hasAnyAuthority('ROLE_CUSTOMER','ROLE_OWNER','ROLE_MANAGER','ROLE_MASTER')")
     public ResponseEntity<SuccessResponseDto> getItem(
-            @PathVariable UUID itemId
+            @PathVariable UUID itemId,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(SuccessResponseDto.builder()
-                .code(ResponseCode.S)
-                .message("상품 상세 조회 성공")
-                .data(itemService.getItem(itemId))
-                .build());
+        ItemResponseDto item = itemService.getItem(itemId);
+        return ConditionalGet.respond(webRequest, item.toResourceVersion(), () ->
+                SuccessResponseDto.builder()
+                        .code(ResponseCode.S)
+                        .message("상품 상세 조회 성공")
+                        .data(item)
+                        .build());
     }
 
     @PostMapping
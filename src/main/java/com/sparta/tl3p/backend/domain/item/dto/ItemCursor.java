@@ -0,0 +1,56 @@
+package com.sparta.tl3p.backend.domain.item.dto;
+
+import com.sparta.tl3p.backend.common.exception.BusinessException;
+import com.sparta.tl3p.backend.common.type.ErrorCode;
+import com.sparta.tl3p.backend.domain.item.entity.Item;
+import com.sparta.tl3p.backend.domain.item.enums.ItemSortOption;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+// 키셋 페이지네이션 커서: (정렬 기준 시각, itemId)를 정렬 옵션과 함께 Base64로 인코딩한 불투명 문자열
+@Getter
+@RequiredArgsConstructor
+public class ItemCursor {
+    private static final String DELIMITER = "|";
+
+    private final ItemSortOption sortOption;
+    private final LocalDateTime  sortKey;
+    private final UUID           itemId;
+
+    public static ItemCursor of(ItemSortOption sortOption, Item item) {
+        return new ItemCursor(sortOption, sortKeyOf(sortOption, item), item.getItemId());
+    }
+
+    public static LocalDateTime sortKeyOf(ItemSortOption sortOption, Item item) {
+        return switch (sortOption) {
+            case UPDATED_AT_ASC, UPDATED_AT_DESC -> item.getUpdatedAt();
+            default -> item.getCreatedAt();
+        };
+    }
+
+    public String encode() {
+        String raw = sortOption.name() + DELIMITER + sortKey + DELIMITER + itemId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ItemCursor decode(String cursor, ItemSortOption sortOption) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            ItemSortOption cursorSortOption = ItemSortOption.valueOf(parts[0]);
+            // 정렬 옵션이 바뀌면 이전 커서는 의미가 없으므로 거부
+            if (parts.length != 3 || cursorSortOption != sortOption) {
+                throw new BusinessException(ErrorCode.PARAM_NOT_VALID);
+            }
+            return new ItemCursor(cursorSortOption, LocalDateTime.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.PARAM_NOT_VALID);
+        }
+    }
+}
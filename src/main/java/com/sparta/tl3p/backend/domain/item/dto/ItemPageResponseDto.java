@@ -1,9 +1,11 @@
 package com.sparta.tl3p.backend.domain.item.dto;
 
+import com.sparta.tl3p.backend.common.dto.ResourceVersion;
 import com.sparta.tl3p.backend.domain.item.enums.ItemSortOption;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -11,8 +13,8 @@ import java.util.List;
 @Builder
 public class ItemPageResponseDto {
     private final List<ItemResponseDto> items;
-    private final int                   totalPages;
-    private final long                  totalElements;
+    private final Integer               totalPages;
+    private final Long                  totalElements;
     private final int                   pageSize;
     private final int                   currentPage;
     private final boolean               isFirst;
@@ -20,6 +22,15 @@ public class ItemPageResponseDto {
     private final boolean               hasNext;
     private final boolean               hasPrevious;
     private final ItemSortOption        sortOption;
+    private final String                nextCursor;
+
+    // 조건부 GET 검증자: 이 페이지의 행(id/버전/수정 시각/가게명)과 페이지 정보로 생성
+    public ResourceVersion toResourceVersion() {
+        List<String> rows = items.stream()
+                .map(item -> item.toResourceVersion().getEtag())
+                .toList();
+        return ResourceVersion.ofContent("items", rows, totalElements, totalPages, hasNext, nextCursor);
+    }
 
     public static ItemPageResponseDto of(Page<ItemResponseDto> page, ItemSortOption sortOption) {
         return ItemPageResponseDto.builder()
@@ -35,4 +46,19 @@ public class ItemPageResponseDto {
                 .sortOption(sortOption)
                 .build();
     }
-}
\ No newline at end of file
+
+    // 커서 모드: 전체 건수/페이지 수는 계산하지 않음
+    public static ItemPageResponseDto ofCursor(Slice<ItemResponseDto> slice, ItemSortOption sortOption,
+                                               boolean isFirst, String nextCursor) {
+        return ItemPageResponseDto.builder()
+                .items(slice.getContent())
+                .pageSize(slice.getSize())
+                .isFirst(isFirst)
+                .isLast(!slice.hasNext())
+                .hasNext(slice.hasNext())
+                .hasPrevious(!isFirst)
+                .sortOption(sortOption)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -1,16 +1,20 @@
 package com.sparta.tl3p.backend.domain.item.dto;
 
+import com.sparta.tl3p.backend.common.dto.ResourceVersion;
 import com.sparta.tl3p.backend.domain.item.entity.Item;
 import com.sparta.tl3p.backend.domain.item.enums.ItemStatus;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Objects;
 import java.util.UUID;
 
 @Getter
 @Builder
+@Jacksonized
 public class ItemResponseDto {
     private final UUID          id;
     private final UUID          storeId;
@@ -21,6 +25,7 @@ public class ItemResponseDto {
     private final ItemStatus    status;
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
+    private final Long          version;
 
     public static ItemResponseDto from(Item item) {
         return ItemResponseDto.builder()
@@ -33,6 +38,12 @@ public class ItemResponseDto {
                 .status(item.getStatus())
                 .createdAt(item.getCreatedAt())
                 .updatedAt(item.getUpdatedAt())
+                .version(item.getVersion())
                 .build();
     }
+
+    // 조건부 GET 검증자: 캐시된 응답 자체의 값으로 생성 (가게명은 상품 버전과 무관하게 바뀌므로 해시로 포함)
+    public ResourceVersion toResourceVersion() {
+        return ResourceVersion.of("item", version, updatedAt, Integer.toHexString(Objects.hashCode(storeName)));
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.sparta.tl3p.backend.domain.item.dto;
 
+import com.sparta.tl3p.backend.domain.item.enums.ItemPagingType;
 import com.sparta.tl3p.backend.domain.item.enums.ItemSortOption;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
@@ -37,6 +38,13 @@ public class ItemSearchRequestDto {
     @Builder.Default
     private ItemSortOption sortOption = ItemSortOption.CREATED_AT_DESC;
 
+    // PAGE: page 번호 기반 조회, CURSOR: 커서(키셋) 기반 조회 (count 쿼리 없음)
+    @Builder.Default
+    private ItemPagingType pagingType = ItemPagingType.PAGE;
+
+    // CURSOR 모드에서 이전 응답의 nextCursor 값 (첫 페이지는 생략)
+    private String cursor;
+
     public int getPage() {
         return (page != null && page > 0) ? page - 1 : 0;
     }
@@ -46,4 +54,8 @@ public class ItemSearchRequestDto {
                 .filter(s -> Set.of(10, 30, 50).contains(s))
                 .orElse(10);
     }
-}
\ No newline at end of file
+
+    public boolean isCursorMode() {
+        return pagingType == ItemPagingType.CURSOR;
+    }
+}
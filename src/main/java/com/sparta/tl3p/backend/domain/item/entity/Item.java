@@ -1,6 +1,7 @@
 package com.sparta.tl3p.backend.domain.item.entity;
 
 import com.sparta.tl3p.backend.common.audit.BaseEntity;
+import com.sparta.tl3p.backend.common.util.UuidV7Id;
 import com.sparta.tl3p.backend.domain.item.enums.ItemStatus;
 import com.sparta.tl3p.backend.domain.store.entity.Store;
 import jakarta.persistence.*;
@@ -8,6 +9,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.SQLRestriction;
 
 import java.math.BigDecimal;
@@ -21,7 +23,7 @@ import java.util.UUID;
 public class Item extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     @Column(name = "item_id", columnDefinition = "uuid")
     private UUID itemId;
 
@@ -42,6 +44,11 @@ public class Item extends BaseEntity {
     @JoinColumn(name = "store_id")
     private Store store;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
 
     @Builder
     public Item(Store store, String name, BigDecimal price, String description) {
@@ -0,0 +1,6 @@
+package com.sparta.tl3p.backend.domain.item.enums;
+
+public enum ItemPagingType {
+    PAGE,
+    CURSOR
+}
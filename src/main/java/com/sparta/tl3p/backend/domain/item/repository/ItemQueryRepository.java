@@ -3,7 +3,11 @@ package com.sparta.tl3p.backend.domain.item.repository;
 import com.sparta.tl3p.backend.domain.item.dto.ItemSearchRequestDto;
 import com.sparta.tl3p.backend.domain.item.entity.Item;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public interface ItemQueryRepository {
     Page<Item> findAllWithStore(ItemSearchRequestDto request);
+
+    // 커서(키셋) 기반 조회: offset/count 없이 (정렬 기준 시각, itemId) 이후 데이터를 조회
+    Slice<Item> findAllWithStoreByCursor(ItemSearchRequestDto request);
 }
@@ -2,17 +2,23 @@ package com.sparta.tl3p.backend.domain.item.repository;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.tl3p.backend.domain.item.dto.ItemCursor;
 import com.sparta.tl3p.backend.domain.item.dto.ItemSearchRequestDto;
 import com.sparta.tl3p.backend.domain.item.entity.Item;
 import com.sparta.tl3p.backend.domain.item.entity.QItem;
 import com.sparta.tl3p.backend.domain.item.enums.ItemSortOption;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -25,6 +31,54 @@ public class ItemQueryRepositoryImpl implements ItemQueryRepository {
     @Override
     public Page<Item> findAllWithStore(ItemSearchRequestDto request) {
 
+        BooleanBuilder builder = searchCondition(request);
+
+        List<Item> data = queryFactory.selectFrom(item)
+                .leftJoin(item.store).fetchJoin()
+                .where(builder)
+                .offset((long) request.getPage() * request.getSize())
+                .limit(request.getSize())
+                .orderBy(getOrderSpecifiers(request.getSortOption()))
+                .fetch();
+
+        // 첫 페이지가 size보다 작거나 마지막 페이지인 경우 count 쿼리 생략
+        PageRequest pageable = PageRequest.of(request.getPage(), request.getSize());
+        return PageableExecutionUtils.getPage(data, pageable, () -> {
+            Long total = queryFactory.select(item.count())
+                    .from(item)
+                    .where(builder)
+                    .fetchOne();
+            return total != null ? total : 0L;
+        });
+    }
+
+    @Override
+    public Slice<Item> findAllWithStoreByCursor(ItemSearchRequestDto request) {
+
+        BooleanBuilder builder = searchCondition(request);
+
+        if (StringUtils.hasText(request.getCursor())) {
+            ItemCursor cursor = ItemCursor.decode(request.getCursor(), request.getSortOption());
+            builder.and(seekCondition(request.getSortOption(), cursor));
+        }
+
+        // 다음 페이지 존재 여부 판단을 위해 size + 1 건 조회
+        List<Item> data = queryFactory.selectFrom(item)
+                .leftJoin(item.store).fetchJoin()
+                .where(builder)
+                .limit(request.getSize() + 1L)
+                .orderBy(getOrderSpecifiers(request.getSortOption()))
+                .fetch();
+
+        boolean hasNext = data.size() > request.getSize();
+        if (hasNext) {
+            data = data.subList(0, request.getSize());
+        }
+
+        return new SliceImpl<>(data, PageRequest.of(0, request.getSize()), hasNext);
+    }
+
+    private BooleanBuilder searchCondition(ItemSearchRequestDto request) {
         BooleanBuilder builder = new BooleanBuilder();
 
         if (StringUtils.hasText(request.getItemName())) {
@@ -43,37 +97,42 @@ public class ItemQueryRepositoryImpl implements ItemQueryRepository {
             builder.and(item.price.loe(request.getMaxPrice()));
         }
 
-        List<Item> data = queryFactory.selectFrom(item)
-                .leftJoin(item.store).fetchJoin()
-                .where(builder)
-                .offset((long) request.getPage() * request.getSize())
-                .limit(request.getSize())
-                .orderBy(getOrderSpecifier(request.getSortOption()))
-                .fetch();
+        return builder;
+    }
 
-        Long total = queryFactory.select(item.count())
-                .from(item)
-                .where(builder)
-                .fetchOne();
+    // (sortKey, itemId) 튜플 비교: 정렬 방향에 따라 커서 이후의 행만 조회
+    private BooleanExpression seekCondition(ItemSortOption sortOption, ItemCursor cursor) {
+        DateTimePath<LocalDateTime> sortKey = getSortKey(sortOption);
 
-        return new PageImpl<>(
-                data,
-                PageRequest.of(request.getPage(), request.getSize()),
-                total != null ? total : 0L
-        );
+        if (isAscending(sortOption)) {
+            return sortKey.gt(cursor.getSortKey())
+                    .or(sortKey.eq(cursor.getSortKey()).and(item.itemId.gt(cursor.getItemId())));
+        }
+        return sortKey.lt(cursor.getSortKey())
+                .or(sortKey.eq(cursor.getSortKey()).and(item.itemId.lt(cursor.getItemId())));
     }
 
-    private OrderSpecifier<?> getOrderSpecifier(ItemSortOption sortOption) {
+    // 정렬 기준 시각이 같은 행의 순서를 고정하기 위해 itemId를 보조 정렬키로 사용
+    private OrderSpecifier<?>[] getOrderSpecifiers(ItemSortOption sortOption) {
+        DateTimePath<LocalDateTime> sortKey = getSortKey(sortOption);
+
+        if (isAscending(sortOption)) {
+            return new OrderSpecifier<?>[]{sortKey.asc(), item.itemId.asc()};
+        }
+        return new OrderSpecifier<?>[]{sortKey.desc(), item.itemId.desc()};
+    }
+
+    private DateTimePath<LocalDateTime> getSortKey(ItemSortOption sortOption) {
         switch (sortOption) {
-            case CREATED_AT_ASC:
-                return item.createdAt.asc();
-            case CREATED_AT_DESC:
-                return item.createdAt.desc();
             case UPDATED_AT_ASC:
-                return item.updatedAt.asc();
             case UPDATED_AT_DESC:
-                return item.updatedAt.desc();
+                return item.updatedAt;
+            default:
+                return item.createdAt;
         }
-        return item.createdAt.desc();
     }
-}
\ No newline at end of file
+
+    private boolean isAscending(ItemSortOption sortOption) {
+        return sortOption == ItemSortOption.CREATED_AT_ASC || sortOption == ItemSortOption.UPDATED_AT_ASC;
+    }
+}
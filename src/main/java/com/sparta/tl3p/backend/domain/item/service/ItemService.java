@@ -1,37 +1,50 @@
 package com.sparta.tl3p.backend.domain.item.service;
 
+import com.sparta.tl3p.backend.common.cache.TwoTierCache;
 import com.sparta.tl3p.backend.common.exception.BusinessException;
 import com.sparta.tl3p.backend.common.type.ErrorCode;
+import com.sparta.tl3p.backend.common.util.OptimisticRetryExecutor;
 import com.sparta.tl3p.backend.domain.item.dto.ItemCreateRequestDto;
+import com.sparta.tl3p.backend.domain.item.dto.ItemCursor;
+import com.sparta.tl3p.backend.domain.item.dto.ItemPageResponseDto;
 import com.sparta.tl3p.backend.domain.item.dto.ItemResponseDto;
 import com.sparta.tl3p.backend.domain.item.dto.ItemSearchRequestDto;
 import com.sparta.tl3p.backend.domain.item.dto.ItemUpdateRequestDto;
 import com.sparta.tl3p.backend.domain.item.entity.Item;
 import com.sparta.tl3p.backend.domain.item.repository.ItemRepository;
 import com.sparta.tl3p.backend.domain.member.entity.Member;
+import com.sparta.tl3p.backend.domain.order.service.OrderSearchIndexService;
 import com.sparta.tl3p.backend.domain.store.entity.Store;
 import com.sparta.tl3p.backend.domain.store.repository.StoreRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.util.Objects;
 import java.util.UUID;
 
 @Slf4j
 @Service
-@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ItemService {
     private final ItemRepository  itemRepository;
     private final StoreRepository storeRepository;
+    private final TwoTierCache<ItemResponseDto> itemCache;
+    private final OptimisticRetryExecutor optimisticRetryExecutor;
+    private final OrderSearchIndexService orderSearchIndexService;
 
+    @Transactional(readOnly = true)
     public ItemResponseDto getItem(UUID itemId) {
-        Item item = itemRepository.findById(itemId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ITEM_NOT_FOUND));
+        return itemCache.get(itemId, () -> {
+            Item item = itemRepository.findById(itemId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.ITEM_NOT_FOUND));
 
-        return ItemResponseDto.from(item);
+            return ItemResponseDto.from(item);
+        });
     }
 
     @Transactional
@@ -49,44 +62,75 @@ public class ItemService {
                 .description(request.getDescription())
                 .build();
 
-        return ItemResponseDto.from(itemRepository.save(item));
+        Item savedItem = itemRepository.save(item);
+        orderSearchIndexService.indexItemName(savedItem.getItemId(), savedItem.getName());
+
+        return ItemResponseDto.from(savedItem);
     }
 
-    @Transactional
     public ItemResponseDto updateItem(UUID id, ItemUpdateRequestDto request, Long memberId) {
-
-        Item item = findItemById(id);
-        validateItemAccess(item.getStore().getMember(), memberId);
-
-        item.updateItem(
-                request.getItemName(),
-                request.getPrice(),
-                request.getDescription(),
-                request.getStatus()
-        );
-
-        return ItemResponseDto.from(item);
+        return optimisticRetryExecutor.execute(() -> {
+            Item item = findItemById(id);
+            validateItemAccess(item.getStore().getMember(), memberId);
+
+            String previousName = item.getName();
+            item.updateItem(
+                    request.getItemName(),
+                    request.getPrice(),
+                    request.getDescription(),
+                    request.getStatus()
+            );
+            if (!Objects.equals(previousName, item.getName())) {
+                orderSearchIndexService.indexItemName(id, item.getName());
+            }
+            itemCache.evict(id);
+
+            return ItemResponseDto.from(item);
+        });
     }
 
-    @Transactional
     public void deleteItem(UUID id, Long memberId) {
-        Item item = findItemById(id);
-        validateItemAccess(item.getStore().getMember(), memberId);
+        optimisticRetryExecutor.run(() -> {
+            Item item = findItemById(id);
+            validateItemAccess(item.getStore().getMember(), memberId);
 
-        item.softDelete(memberId);
+            item.softDelete(memberId);
+            itemCache.evict(id);
+        });
     }
 
+    @Transactional(readOnly = true)
     public Page<Item> getAllItems(ItemSearchRequestDto request) {
         return itemRepository.findAllWithStore(request);
     }
 
-    @Transactional
-    public ItemResponseDto hideItem(UUID id, Long memberId) {
-        Item item = findItemById(id);
-        validateItemAccess(item.getStore().getMember(), memberId);
-        item.hideItem();
+    @Transactional(readOnly = true)
+    public ItemPageResponseDto getItemsByCursor(ItemSearchRequestDto request) {
+        Slice<Item> slice = itemRepository.findAllWithStoreByCursor(request);
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            Item last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            nextCursor = ItemCursor.of(request.getSortOption(), last).encode();
+        }
 
-        return ItemResponseDto.from(item);
+        return ItemPageResponseDto.ofCursor(
+                slice.map(ItemResponseDto::from),
+                request.getSortOption(),
+                !StringUtils.hasText(request.getCursor()),
+                nextCursor
+        );
+    }
+
+    public ItemResponseDto hideItem(UUID id, Long memberId) {
+        return optimisticRetryExecutor.execute(() -> {
+            Item item = findItemById(id);
+            validateItemAccess(item.getStore().getMember(), memberId);
+            item.hideItem();
+            itemCache.evict(id);
+
+            return ItemResponseDto.from(item);
+        });
     }
 
 
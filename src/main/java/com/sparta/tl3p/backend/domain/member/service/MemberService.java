@@ -2,6 +2,7 @@ package com.sparta.tl3p.backend.domain.member.service;
 
 import com.sparta.tl3p.backend.common.exception.BusinessException;
 import com.sparta.tl3p.backend.common.type.ErrorCode;
+import com.sparta.tl3p.backend.common.util.AccessControl;
 import com.sparta.tl3p.backend.common.util.JwtTokenProvider;
 import com.sparta.tl3p.backend.domain.member.dto.LoginRequestDto;
 import com.sparta.tl3p.backend.domain.member.dto.LoginResponseDto;
@@ -26,6 +27,7 @@ public class MemberService {
     private final BCryptPasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisService redisService;
+    private final AccessControl accessControl;
 
     //회원가입
     public MemberResponseDto signupMember(MemberRequestDto requestDto) {
@@ -108,10 +110,9 @@ public class MemberService {
         memberRepository.delete(member);
     }
 
+    // 권한은 토큰 principal에서 확인 (회원 조회 없음)
     private boolean isMaster(Long memberId) {
-        return memberRepository.findById(memberId)
-                .map(member -> member.getRole().equals(Role.MASTER))
-                .orElse(false);
+        return accessControl.isMaster(memberId);
     }
 
     private Long getCurrentMemberId(String token) {
@@ -0,0 +1,32 @@
+package com.sparta.tl3p.backend.domain.order.controller;
+
+import com.sparta.tl3p.backend.common.dto.SuccessResponseDto;
+import com.sparta.tl3p.backend.common.type.ResponseCode;
+import com.sparta.tl3p.backend.domain.order.service.OrderArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/order-archive")
+@RequiredArgsConstructor
+public class OrderArchiveController {
+
+    private final OrderArchiveService orderArchiveService;
+
+    // 스케줄을 기다리지 않고 보관 작업을 즉시 실행
+    @PreAuthorize("hasRole('MASTER')")
+    @PostMapping("/run")
+    public ResponseEntity<SuccessResponseDto> runArchive() {
+        return ResponseEntity.ok(
+                SuccessResponseDto.builder()
+                        .code(ResponseCode.S)
+                        .message("주문 보관 실행 완료.")
+                        .data(orderArchiveService.archiveExpiredOrders())
+                        .build()
+        );
+    }
+}
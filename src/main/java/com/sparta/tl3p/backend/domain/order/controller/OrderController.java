@@ -1,5 +1,6 @@
 package com.sparta.tl3p.backend.domain.order.controller;
 
+import com.sparta.tl3p.backend.common.dto.PageResponseDto;
 import com.sparta.tl3p.backend.common.dto.SuccessResponseDto;
 import com.sparta.tl3p.backend.common.exception.BusinessException;
 import com.sparta.tl3p.backend.common.type.ResponseCode;
@@ -9,40 +10,77 @@ import com.sparta.tl3p.backend.domain.order.dto.OrderCancelRequestDto;
 import com.sparta.tl3p.backend.domain.order.dto.OrderDetailResponseDto;
 import com.sparta.tl3p.backend.domain.order.dto.OrderRequestDto;
 import com.sparta.tl3p.backend.domain.order.dto.OrderResponseDto;
+import com.sparta.tl3p.backend.domain.order.dto.OrderSummaryPageResponseDto;
+import com.sparta.tl3p.backend.domain.order.dto.OrderSummarySearchRequestDto;
 import com.sparta.tl3p.backend.domain.order.dto.OrderUpdateRequestDto;
+import com.sparta.tl3p.backend.domain.order.enums.OrderExportFormat;
+import com.sparta.tl3p.backend.domain.order.service.OrderExportService;
+import com.sparta.tl3p.backend.domain.order.service.OrderIdempotencyService;
 import com.sparta.tl3p.backend.domain.order.service.OrderService;
+import com.sparta.tl3p.backend.domain.order.service.OrderSummaryService;
+import com.sparta.tl3p.backend.domain.order.service.StoreOrderFeedService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/orders")
 public class OrderController {
 
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+
     private final OrderService orderService;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final OrderExportService orderExportService;
+    private final OrderSummaryService orderSummaryService;
+    private final StoreOrderFeedService storeOrderFeedService;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, OrderIdempotencyService orderIdempotencyService,
+                           OrderExportService orderExportService, OrderSummaryService orderSummaryService,
+                           StoreOrderFeedService storeOrderFeedService) {
         this.orderService = orderService;
+        this.orderIdempotencyService = orderIdempotencyService;
+        this.orderExportService = orderExportService;
+        this.orderSummaryService = orderSummaryService;
+        this.storeOrderFeedService = storeOrderFeedService;
     }
 
     /**
      * 주문 생성 API
      * - 운영 환경에서는 반드시 인증정보가 필요합니다.
+     * - Idempotency-Key 헤더가 있으면 같은 키의 재요청은 최초 응답을 그대로 반환합니다.
      */
     @PostMapping
     @PreAuthorize("hasAuthority('ROLE_CUSTOMER')")
     public ResponseEntity<SuccessResponseDto> createOrder(@RequestBody OrderRequestDto request,
+                                                          @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
                                                           @AuthenticationPrincipal CustomUserDetails customUserDetails) {
         if (customUserDetails == null) {
             throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
         }
         Long memberId = customUserDetails.getMemberId();
-        OrderResponseDto response = orderService.createOrder(request, memberId);
+        OrderResponseDto response;
+        if (idempotencyKey == null) {
+            response = orderService.createOrder(request, memberId);
+        } else {
+            if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+                throw new BusinessException(ErrorCode.PARAM_NOT_VALID);
+            }
+            response = orderIdempotencyService.execute(memberId, idempotencyKey, request,
+                    () -> orderService.createOrder(request, memberId));
+        }
         return ResponseEntity.ok(
                 SuccessResponseDto.builder()
                         .code(ResponseCode.S)
@@ -98,19 +136,92 @@ public class OrderController {
         );
     }
 
+    /**
+     * 가게 주문 내보내기 API
+     * - 가게 주인만 접근할 수 있습니다.
+     * - format: ndjson(기본, 주문당 한 줄) 또는 csv(주문 항목당 한 행)
+     * - 목록을 메모리에 모으지 않고 응답 스트림에 바로 기록합니다.
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasAuthority('ROLE_OWNER')")
+    public void exportStoreOrders(@RequestParam UUID storeId,
+                                  @RequestParam(defaultValue = "ndjson") String format,
+                                  @AuthenticationPrincipal CustomUserDetails customUserDetails,
+                                  HttpServletResponse response) throws IOException {
+        if (customUserDetails == null) {
+            throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
+        }
+        OrderExportFormat exportFormat;
+        try {
+            exportFormat = OrderExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.PARAM_NOT_VALID);
+        }
+        orderExportService.verifyStoreOwner(storeId, customUserDetails.getMemberId());
+
+        boolean csv = exportFormat == OrderExportFormat.CSV;
+        response.setCharacterEncoding("UTF-8");
+        response.setContentType(csv ? "text/csv" : "application/x-ndjson");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"orders-" + storeId + (csv ? ".csv" : ".ndjson") + "\"");
+        orderExportService.exportStoreOrders(storeId, exportFormat, response.getOutputStream());
+    }
+
+    /**
+     * 가게 주문 실시간 피드 API (Server-Sent Events)
+     * - 가게 주인만 접근할 수 있습니다.
+     * - 주문 생성/수정/취소 시 created, updated, cancelled 이벤트를 보냅니다 (id는 이벤트 번호).
+     * - 재연결 시 Last-Event-ID 헤더로 놓친 이벤트를 받고, resync 이벤트를 받으면 주문 목록을 한 번 다시 조회합니다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAuthority('ROLE_OWNER')")
+    public SseEmitter streamStoreOrders(@RequestParam UUID storeId,
+                                        @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+                                        @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        if (customUserDetails == null) {
+            throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
+        }
+        storeOrderFeedService.verifyStoreOwner(storeId, customUserDetails.getMemberId());
+        return storeOrderFeedService.subscribe(storeId, lastEventId);
+    }
+
+    /**
+     * 내 주문 목록 API (요약)
+     * - 최신순 키셋 페이지: 다음 페이지는 응답의 nextCursorDate + nextCursorId를 cursorDate, cursorId로 전달합니다.
+     * - size: 10, 20(기본), 50, 100
+     */
+    @GetMapping("/summaries")
+    @PreAuthorize("hasAuthority('ROLE_CUSTOMER')")
+    public ResponseEntity<SuccessResponseDto> getMyOrderSummaries(@ModelAttribute OrderSummarySearchRequestDto condition,
+                                                                  @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        if (customUserDetails == null) {
+            throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
+        }
+        OrderSummaryPageResponseDto page = orderSummaryService.getMemberOrders(customUserDetails.getMemberId(), condition);
+        return ResponseEntity.ok(
+                SuccessResponseDto.builder()
+                        .code(ResponseCode.NS)
+                        .message("내 주문 목록 조회")
+                        .data(page)
+                        .build()
+        );
+    }
+
     /**
      * 주문 상세 조회 API
      * - 인증된 사용자만 접근할 수 있도록 합니다.
+     * - history=true이면 보관된 주문도 조회합니다.
      */
     @GetMapping("/{orderId}")
     @PreAuthorize("hasAnyAuthority('ROLE_CUSTOMER','ROLE_OWNER','ROLE_MANAGER')")
     public ResponseEntity<SuccessResponseDto> getOrderDetail(@PathVariable String orderId,
+                                                             @RequestParam(defaultValue = "false") boolean history,
                                                              @AuthenticationPrincipal CustomUserDetails customUserDetails) {
         if (customUserDetails == null) {
             throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
         }
         Long memberId = customUserDetails.getMemberId();
-        OrderDetailResponseDto detail = orderService.getOrderDetail(UUID.fromString(orderId), memberId);
+        OrderDetailResponseDto detail = orderService.getOrderDetail(UUID.fromString(orderId), memberId, history);
         return ResponseEntity.ok(
                 SuccessResponseDto.builder()
                         .code(ResponseCode.NS)
@@ -122,6 +233,7 @@ public class OrderController {
 
     /**
      * 주문 조회 및 검색 API
+     * - 기본은 최근 주문(원본 테이블)만 조회하고, history=true이면 회원/가게 주문 목록에 보관된 주문을 포함합니다.
      */
     @GetMapping
     @PreAuthorize("hasAnyAuthority('ROLE_CUSTOMER','ROLE_OWNER','ROLE_MANAGER')")
@@ -129,6 +241,9 @@ public class OrderController {
             @RequestParam(required = false) UUID storeId,
             @RequestParam(required = false) String storeName,
             @RequestParam(required = false) String productName,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean history,
             @AuthenticationPrincipal CustomUserDetails customUserDetails) {
 
         if (customUserDetails == null) {
@@ -137,7 +252,7 @@ public class OrderController {
         Long memberId = customUserDetails.getMemberId();
 
         if (storeId != null) {
-            List<OrderResponseDto> orders = orderService.getStoreOrders(storeId, memberId);
+            List<OrderResponseDto> orders = orderService.getStoreOrders(storeId, memberId, history);
             return ResponseEntity.ok(
                     SuccessResponseDto.builder()
                             .code(ResponseCode.NS)
@@ -145,6 +260,16 @@ public class OrderController {
                             .data(orders)
                             .build()
             );
+        } else if ((storeName != null || productName != null) && page != null) {
+            Page<OrderResponseDto> orders = orderService.searchOrders(
+                    memberId, storeName, productName, PageResponseDto.pageable(page, size));
+            return ResponseEntity.ok(
+                    SuccessResponseDto.builder()
+                            .code(ResponseCode.NS)
+                            .message("검색 주문 조회")
+                            .data(PageResponseDto.of(orders))
+                            .build()
+            );
         } else if (storeName != null || productName != null) {
             List<OrderResponseDto> orders = orderService.searchOrders(memberId, storeName, productName);
             return ResponseEntity.ok(
@@ -155,7 +280,7 @@ public class OrderController {
                             .build()
             );
         } else {
-            List<OrderResponseDto> orders = orderService.getUserOrders(memberId);
+            List<OrderResponseDto> orders = orderService.getUserOrders(memberId, history);
             return ResponseEntity.ok(
                     SuccessResponseDto.builder()
                             .code(ResponseCode.NS)
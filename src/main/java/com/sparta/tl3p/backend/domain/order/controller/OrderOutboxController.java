@@ -0,0 +1,31 @@
+package com.sparta.tl3p.backend.domain.order.controller;
+
+import com.sparta.tl3p.backend.common.dto.SuccessResponseDto;
+import com.sparta.tl3p.backend.common.type.ResponseCode;
+import com.sparta.tl3p.backend.domain.order.service.OrderOutboxDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/order-outbox")
+@RequiredArgsConstructor
+public class OrderOutboxController {
+
+    private final OrderOutboxDispatcher orderOutboxDispatcher;
+
+    @PreAuthorize("hasRole('MASTER')")
+    @GetMapping
+    public ResponseEntity<SuccessResponseDto> getOutboxStats() {
+        return ResponseEntity.ok(
+                SuccessResponseDto.builder()
+                        .code(ResponseCode.S)
+                        .message("주문 이벤트 전달 현황 조회 완료.")
+                        .data(orderOutboxDispatcher.stats())
+                        .build()
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package com.sparta.tl3p.backend.domain.order.controller;
+
+import com.sparta.tl3p.backend.common.dto.SuccessResponseDto;
+import com.sparta.tl3p.backend.common.type.ResponseCode;
+import com.sparta.tl3p.backend.domain.order.service.OrderSearchIndexService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/order-search-index")
+@RequiredArgsConstructor
+public class OrderSearchIndexController {
+
+    private final OrderSearchIndexService orderSearchIndexService;
+
+    // 색인되지 않은 가게/상품을 이어서 채움 (reset=true면 인덱스를 비우고 전체 재생성)
+    @PreAuthorize("hasRole('MASTER')")
+    @PostMapping("/rebuild")
+    public ResponseEntity<SuccessResponseDto> rebuildIndex(@RequestParam(defaultValue = "false") boolean reset) {
+        return ResponseEntity.ok(
+                SuccessResponseDto.builder()
+                        .code(ResponseCode.S)
+                        .message("주문 검색 인덱스 생성 완료.")
+                        .data(orderSearchIndexService.rebuild(reset))
+                        .build()
+        );
+    }
+}
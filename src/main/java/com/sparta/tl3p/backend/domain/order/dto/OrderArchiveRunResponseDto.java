@@ -0,0 +1,18 @@
+package com.sparta.tl3p.backend.domain.order.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class OrderArchiveRunResponseDto {
+    // 이 시각 이전에 생성된 주문이 보관 대상
+    private final LocalDateTime cutoff;
+    private final int chunks;
+    private final long archivedOrders;
+    // 실행당 최대 청크 수에 도달하여 남은 대상이 다음 실행으로 넘어갔는지
+    private final boolean hasMore;
+    private final long elapsedMillis;
+}
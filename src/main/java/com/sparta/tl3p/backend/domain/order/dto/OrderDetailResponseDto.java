@@ -2,6 +2,8 @@ package com.sparta.tl3p.backend.domain.order.dto;
 
 import com.sparta.tl3p.backend.common.type.Address;
 import com.sparta.tl3p.backend.domain.order.entity.Order;
+import com.sparta.tl3p.backend.domain.order.entity.OrderArchive;
+import com.sparta.tl3p.backend.domain.order.entity.OrderItemArchive;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -27,4 +29,14 @@ public class OrderDetailResponseDto {
                 .map(OrderItemDetailDto::new)
                 .collect(Collectors.toList());
     }
+
+    public OrderDetailResponseDto(OrderArchive order, List<OrderItemArchive> orderItems) {
+        this.orderId = order.getOrderId();
+        this.status = order.getStatus().name();
+        this.deliveryAddress = order.getDeliveryAddress();
+        this.storeRequest = order.getStoreRequest();
+        this.items = orderItems.stream()
+                .map(OrderItemDetailDto::new)
+                .collect(Collectors.toList());
+    }
 }
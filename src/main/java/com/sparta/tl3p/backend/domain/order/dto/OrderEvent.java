@@ -0,0 +1,43 @@
+package com.sparta.tl3p.backend.domain.order.dto;
+
+import com.sparta.tl3p.backend.domain.order.entity.OrderOutboxEvent;
+import com.sparta.tl3p.backend.domain.order.enums.OrderEventType;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 리스너에 전달되는 주문 이벤트
+ * - 최소 한 번 전달되므로 리스너는 eventId로 중복을 걸러야 한다.
+ * - 가게 피드는 Redis 채널로 JSON을 주고받으므로 빌더로 역직렬화한다.
+ */
+@Getter
+@Builder
+@Jacksonized
+public class OrderEvent {
+    private final Long eventId;
+    private final UUID orderId;
+    private final UUID storeId;
+    private final Long memberId;
+    private final OrderEventType eventType;
+    private final String orderStatus;
+    private final BigDecimal totalAmount;
+    private final LocalDateTime occurredAt;
+
+    public static OrderEvent from(OrderOutboxEvent outboxEvent) {
+        return OrderEvent.builder()
+                .eventId(outboxEvent.getId())
+                .orderId(outboxEvent.getOrderId())
+                .storeId(outboxEvent.getStoreId())
+                .memberId(outboxEvent.getMemberId())
+                .eventType(outboxEvent.getEventType())
+                .orderStatus(outboxEvent.getOrderStatus())
+                .totalAmount(outboxEvent.getTotalAmount())
+                .occurredAt(outboxEvent.getCreatedAt())
+                .build();
+    }
+}
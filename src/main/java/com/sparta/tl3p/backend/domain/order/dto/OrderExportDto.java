@@ -0,0 +1,46 @@
+package com.sparta.tl3p.backend.domain.order.dto;
+
+import com.sparta.tl3p.backend.common.type.Address;
+import com.sparta.tl3p.backend.domain.order.entity.Order;
+import com.sparta.tl3p.backend.domain.payment.entity.Payment;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 주문 내보내기 한 건 (주문 + 결제 + 주문 항목)
+ */
+@Getter
+public class OrderExportDto {
+    private final UUID orderId;
+    private final LocalDateTime createdAt;
+    private final String status;
+    private final String orderType;
+    private final String storeRequest;
+    private final Address deliveryAddress;
+    private final UUID paymentId;
+    private final String paymentStatus;
+    private final BigDecimal paymentAmount;
+    private final LocalDateTime paymentDate;
+    private final List<OrderExportItemDto> items;
+
+    public OrderExportDto(Order order, List<OrderExportItemDto> items) {
+        this.orderId = order.getOrderId();
+        this.createdAt = order.getCreatedAt();
+        this.status = order.getStatus() != null ? order.getStatus().name() : null;
+        this.orderType = order.getOrderType() != null ? order.getOrderType().name() : null;
+        this.storeRequest = order.getStoreRequest();
+        this.deliveryAddress = order.getDeliveryAddress();
+
+        Payment payment = order.getPayment();
+        this.paymentId = payment != null ? payment.getPaymentId() : null;
+        this.paymentStatus = payment != null && payment.getPaymentStatus() != null ? payment.getPaymentStatus().name() : null;
+        this.paymentAmount = payment != null ? payment.getAmount() : null;
+        this.paymentDate = payment != null ? payment.getPaymentDate() : null;
+
+        this.items = items;
+    }
+}
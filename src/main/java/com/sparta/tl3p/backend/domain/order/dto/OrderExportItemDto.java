@@ -0,0 +1,15 @@
+package com.sparta.tl3p.backend.domain.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class OrderExportItemDto {
+    private final UUID itemId;
+    private final int quantity;
+    private final BigDecimal price;
+}
@@ -0,0 +1,37 @@
+package com.sparta.tl3p.backend.domain.order.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Idempotency-Key 별로 Redis에 저장되는 주문 생성 요청 상태
+ * - fingerprint: 요청 본문 해시 (같은 키로 다른 요청을 보내는 경우 감지)
+ * - response: 처리 완료 시 최초 응답
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderIdempotencyRecord {
+
+    public static final String IN_PROGRESS = "IN_PROGRESS";
+    public static final String COMPLETED = "COMPLETED";
+
+    private String status;
+    private String fingerprint;
+    private OrderResponseDto response;
+
+    public static OrderIdempotencyRecord inProgress(String fingerprint) {
+        return new OrderIdempotencyRecord(IN_PROGRESS, fingerprint, null);
+    }
+
+    public static OrderIdempotencyRecord completed(String fingerprint, OrderResponseDto response) {
+        return new OrderIdempotencyRecord(COMPLETED, fingerprint, response);
+    }
+
+    @JsonIgnore
+    public boolean isCompleted() {
+        return COMPLETED.equals(status);
+    }
+}
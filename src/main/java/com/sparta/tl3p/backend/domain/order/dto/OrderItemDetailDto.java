@@ -1,6 +1,7 @@
 package com.sparta.tl3p.backend.domain.order.dto;
 
 import com.sparta.tl3p.backend.domain.order.entity.OrderItem;
+import com.sparta.tl3p.backend.domain.order.entity.OrderItemArchive;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -22,4 +23,11 @@ public class OrderItemDetailDto {
         // Item 엔티티의 식별자 타입이 UUID라고 가정
         this.itemId = orderItem.getItem().getItemId();
     }
+
+    public OrderItemDetailDto(OrderItemArchive orderItem) {
+        this.orderItemId = orderItem.getOrderItemId();
+        this.quantity = orderItem.getQuantity();
+        this.price = orderItem.getPrice();
+        this.itemId = orderItem.getItemId();
+    }
 }
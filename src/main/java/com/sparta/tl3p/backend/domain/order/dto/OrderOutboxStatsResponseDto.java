@@ -0,0 +1,19 @@
+package com.sparta.tl3p.backend.domain.order.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class OrderOutboxStatsResponseDto {
+    private final long dispatched;
+    private final long deliveryFailures;
+    private final long deadLettered;
+    private final long batches;
+    private final long pending;
+    // 가장 오래된 미전달 이벤트의 대기 시간
+    private final long oldestPendingAgeMillis;
+    // 이벤트 생성부터 전달 완료까지 걸린 시간
+    private final long lastDispatchLagMillis;
+    private final long maxDispatchLagMillis;
+}
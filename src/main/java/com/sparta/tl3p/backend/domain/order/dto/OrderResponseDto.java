@@ -2,13 +2,16 @@ package com.sparta.tl3p.backend.domain.order.dto;
 
 import com.sparta.tl3p.backend.common.type.Address;
 import com.sparta.tl3p.backend.domain.order.entity.Order;
+import com.sparta.tl3p.backend.domain.order.entity.OrderArchive;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.util.UUID;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class OrderResponseDto {
     private UUID orderId;
     private String status;
@@ -19,4 +22,10 @@ public class OrderResponseDto {
         this.status = order.getStatus().name();
         this.deliveryAddress = order.getDeliveryAddress();
     }
+
+    public OrderResponseDto(OrderArchive order) {
+        this.orderId = order.getOrderId();
+        this.status = order.getStatus().name();
+        this.deliveryAddress = order.getDeliveryAddress();
+    }
 }
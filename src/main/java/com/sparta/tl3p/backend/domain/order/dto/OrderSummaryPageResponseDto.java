@@ -0,0 +1,32 @@
+package com.sparta.tl3p.backend.domain.order.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+public class OrderSummaryPageResponseDto {
+    private final List<OrderSummaryResponseDto> orders;
+    private final int                           pageSize;
+    private final boolean                       hasNext;
+    private final LocalDateTime                 nextCursorDate;
+    private final UUID                          nextCursorId;
+
+    public static OrderSummaryPageResponseDto of(List<OrderSummaryResponseDto> fetched, int pageSize) {
+        boolean hasNext = fetched.size() > pageSize;
+        List<OrderSummaryResponseDto> orders = hasNext ? fetched.subList(0, pageSize) : fetched;
+        OrderSummaryResponseDto last = orders.isEmpty() ? null : orders.get(orders.size() - 1);
+
+        return OrderSummaryPageResponseDto.builder()
+                .orders(orders)
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .nextCursorDate(hasNext ? last.getCreatedAt() : null)
+                .nextCursorId(hasNext ? last.getOrderId() : null)
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.sparta.tl3p.backend.domain.order.dto;
+
+import com.sparta.tl3p.backend.domain.order.enums.DataStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+public class OrderSummaryResponseDto {
+    private UUID orderId;
+    private UUID storeId;
+    private String storeName;
+    private int itemCount;
+    private BigDecimal totalAmount;
+    private String status;
+    private LocalDateTime createdAt;
+
+    public OrderSummaryResponseDto(UUID orderId, UUID storeId, String storeName, int itemCount,
+                                   BigDecimal totalAmount, DataStatus status, LocalDateTime createdAt) {
+        this.orderId = orderId;
+        this.storeId = storeId;
+        this.storeName = storeName;
+        this.itemCount = itemCount;
+        this.totalAmount = totalAmount;
+        this.status = status != null ? status.name() : null;
+        this.createdAt = createdAt;
+    }
+}
@@ -2,6 +2,7 @@ package com.sparta.tl3p.backend.domain.order.entity;
 
 import com.sparta.tl3p.backend.common.audit.BaseEntity;
 import com.sparta.tl3p.backend.common.type.Address;
+import com.sparta.tl3p.backend.common.util.UuidV7Id;
 import com.sparta.tl3p.backend.domain.order.dto.OrderRequestDto;
 import com.sparta.tl3p.backend.domain.order.dto.OrderUpdateRequestDto;
 import com.sparta.tl3p.backend.domain.order.enums.DataStatus;
@@ -12,13 +13,18 @@ import com.sparta.tl3p.backend.domain.payment.entity.Payment;
 import com.sparta.tl3p.backend.domain.store.entity.Store;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 @Entity
-@Table(name = "p_order")
+@Table(name = "p_order", indexes = {
+        // 보관 대상(오래된 주문) 조회용
+        @Index(name = "idx_order_created_at", columnList = "created_at, order_id"),
+        @Index(name = "idx_order_member_created", columnList = "member_id, created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -27,8 +33,7 @@ import java.util.UUID;
 public class Order extends BaseEntity {
 
     @Id
-    @GeneratedValue(generator = "UUID")
-    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @UuidV7Id
     @Column(name = "order_id", updatable = false, nullable = false)
     private UUID orderId;
 
@@ -66,6 +71,12 @@ public class Order extends BaseEntity {
     @OneToOne(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private Payment payment;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    @Setter(AccessLevel.NONE)
+    private Long version;
+
     // 생성자에서는 orderId를 직접 할당하지 않음.
     public Order(OrderRequestDto dto, Member member, Store store) {
         this.orderType = dto.getOrderType();
@@ -88,4 +99,13 @@ public class Order extends BaseEntity {
     public void cancelOrder() {
         this.status = DataStatus.DELETED;
     }
+
+    // 주문 항목 금액 합계
+    public BigDecimal calculateTotalAmount() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (OrderItem orderItem : orderItems) {
+            total = total.add(orderItem.getPrice());
+        }
+        return total;
+    }
 }
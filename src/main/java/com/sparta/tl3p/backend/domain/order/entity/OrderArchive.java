@@ -0,0 +1,63 @@
+package com.sparta.tl3p.backend.domain.order.entity;
+
+import com.sparta.tl3p.backend.common.audit.BaseEntity;
+import com.sparta.tl3p.backend.common.type.Address;
+import com.sparta.tl3p.backend.domain.order.enums.DataStatus;
+import com.sparta.tl3p.backend.domain.order.enums.OrderType;
+import com.sparta.tl3p.backend.domain.order.enums.PaymentMethod;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 보관 기간이 지난 주문 (p_order와 같은 컬럼 + 보관 시각)
+ * - 가게/회원은 연관관계 대신 식별자만 보관하여 원본 테이블과 독립적으로 유지
+ * - 행은 OrderArchiveService가 INSERT ... SELECT로만 추가하며 조회 전용으로 사용
+ */
+@Entity
+@Table(name = "p_order_archive", indexes = {
+        @Index(name = "idx_order_archive_member_created", columnList = "member_id, created_at"),
+        @Index(name = "idx_order_archive_store_created", columnList = "store_id, created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderArchive extends BaseEntity {
+
+    @Id
+    @Column(name = "order_id", updatable = false, nullable = false)
+    private UUID orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "order_type")
+    private OrderType orderType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_method")
+    private PaymentMethod paymentMethod;
+
+    @Embedded
+    private Address deliveryAddress;
+
+    @Column(name = "store_request")
+    private String storeRequest;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private DataStatus status;
+
+    @Column(name = "store_id")
+    private UUID storeId;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "version")
+    private Long version;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,43 @@
+package com.sparta.tl3p.backend.domain.order.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 배치 작업(검색 인덱스/요약 백필 등)의 실행 잠금과 완료 표시
+ * - 잠금은 만료 시각이 있는 임대(lease)라서 작업 중인 인스턴스가 죽어도 만료 후 다른 인스턴스가 이어서 실행한다.
+ * - completedAt이 없으면 작업 결과가 아직 완전하지 않은 것으로 본다.
+ */
+@Entity
+@Table(name = "p_order_batch_job")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderBatchJob {
+
+    public static final String SEARCH_TRIGRAM = "order-search-trigram";
+    public static final String SUMMARY_BACKFILL = "order-summary-backfill";
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "locked_by", length = 36)
+    private String lockedBy;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public OrderBatchJob(String name) {
+        this.name = name;
+    }
+}
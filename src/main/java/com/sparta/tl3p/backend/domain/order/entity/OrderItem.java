@@ -1,16 +1,20 @@
 package com.sparta.tl3p.backend.domain.order.entity;
 
 import com.sparta.tl3p.backend.common.audit.BaseEntity;
+import com.sparta.tl3p.backend.common.util.UuidV7Id;
 import com.sparta.tl3p.backend.domain.item.entity.Item;
 import com.sparta.tl3p.backend.domain.order.dto.OrderItemRequestDto;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.GenericGenerator;
 
 import java.math.BigDecimal;
 import java.util.UUID;
 @Entity
-@Table(name = "p_order_item")
+@Table(name = "p_order_item", indexes = {
+        @Index(name = "idx_order_item_order", columnList = "order_id"),
+        // 상품 후보로 주문을 찾는 검색용
+        @Index(name = "idx_order_item_item_order", columnList = "item_id, order_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,7 +23,7 @@ import java.util.UUID;
 public class OrderItem extends BaseEntity {
 
     @Id
-    @GeneratedValue(generator = "UUID")
+    @UuidV7Id
     @Column(name = "order_item_id")
     private UUID orderItemId;
 
@@ -43,4 +47,10 @@ public class OrderItem extends BaseEntity {
         this.quantity = dto.getQuantity();
         this.price = item.getPrice().multiply(BigDecimal.valueOf(dto.getQuantity()));
     }
+
+    // 수량 변경 시 현재 상품 가격으로 금액 재계산
+    public void changeQuantity(int quantity, BigDecimal unitPrice) {
+        this.quantity = quantity;
+        this.price = unitPrice.multiply(BigDecimal.valueOf(quantity));
+    }
 }
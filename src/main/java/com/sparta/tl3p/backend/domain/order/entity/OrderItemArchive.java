@@ -0,0 +1,38 @@
+package com.sparta.tl3p.backend.domain.order.entity;
+
+import com.sparta.tl3p.backend.common.audit.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 보관된 주문의 주문 항목 (p_order_item과 같은 컬럼)
+ */
+@Entity
+@Table(name = "p_order_item_archive", indexes = {
+        @Index(name = "idx_order_item_archive_order", columnList = "order_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderItemArchive extends BaseEntity {
+
+    @Id
+    @Column(name = "order_item_id")
+    private UUID orderItemId;
+
+    @Column(name = "quantity")
+    private int quantity;
+
+    @Column(name = "price", precision = 10, scale = 2)
+    private BigDecimal price;
+
+    @Column(name = "item_id")
+    private UUID itemId;
+
+    @Column(name = "order_id")
+    private UUID orderId;
+}
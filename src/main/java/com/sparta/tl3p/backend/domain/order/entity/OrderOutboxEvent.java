@@ -0,0 +1,89 @@
+package com.sparta.tl3p.backend.domain.order.entity;
+
+import com.sparta.tl3p.backend.domain.order.enums.OrderEventType;
+import com.sparta.tl3p.backend.domain.order.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 주문 이벤트 outbox
+ * - 주문 변경과 같은 트랜잭션에서 저장되어 주문이 커밋되면 이벤트도 반드시 남는다.
+ * - id는 증가하는 시퀀스로, 같은 주문의 이벤트는 id 순서대로 전달된다.
+ */
+@Entity
+@Table(name = "p_order_outbox", indexes = {
+        @Index(name = "idx_order_outbox_status_id", columnList = "status, id"),
+        @Index(name = "idx_order_outbox_order_status", columnList = "order_id, status")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Column(name = "store_id")
+    private UUID storeId;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private OrderEventType eventType;
+
+    @Column(name = "order_status")
+    private String orderStatus;
+
+    @Column(name = "total_amount", precision = 10, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Builder
+    public OrderOutboxEvent(UUID orderId, UUID storeId, Long memberId, OrderEventType eventType,
+                            String orderStatus, BigDecimal totalAmount) {
+        this.orderId = orderId;
+        this.storeId = storeId;
+        this.memberId = memberId;
+        this.eventType = eventType;
+        this.orderStatus = orderStatus;
+        this.totalAmount = totalAmount;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public void markPublished() {
+        this.status = OutboxStatus.PUBLISHED;
+        this.publishedAt = LocalDateTime.now();
+    }
+
+    // 전달 실패 기록, 최대 횟수에 도달하면 FAILED로 전환
+    public void markAttemptFailed(int maxAttempts) {
+        this.attempts++;
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+        }
+    }
+}
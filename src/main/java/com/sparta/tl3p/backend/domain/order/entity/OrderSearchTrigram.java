@@ -0,0 +1,53 @@
+package com.sparta.tl3p.backend.domain.order.entity;
+
+import com.sparta.tl3p.backend.domain.order.enums.OrderSearchTarget;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 주문 검색용 가게/상품 이름 트라이그램 인덱스
+ * - 이름을 소문자로 바꾼 뒤 연속된 세 글자(코드 포인트)마다 한 행
+ * - 검색어의 트라이그램을 모두 가진 가게/상품만 후보가 되며, 후보는 실제 부분 문자열 비교로 다시 확인한다.
+ * - 주문이 아니라 이름 단위로 색인하므로 주문 생성 시에는 갱신할 필요가 없고 가게/상품 이름이 바뀔 때만 갱신한다.
+ */
+@Entity
+@Table(name = "p_order_search_trigram", indexes = {
+        @Index(name = "idx_order_search_trigram_gram", columnList = "target_type, gram, target_id"),
+        @Index(name = "idx_order_search_trigram_target", columnList = "target_type, target_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderSearchTrigram {
+
+    public static final int GRAM_LENGTH = 3;
+
+    @EmbeddedId
+    private OrderSearchTrigramId id;
+
+    public OrderSearchTrigram(OrderSearchTarget targetType, UUID targetId, String gram) {
+        this.id = new OrderSearchTrigramId(targetType, targetId, gram);
+    }
+
+    // 세 글자보다 짧으면 빈 집합 (트라이그램으로 걸러낼 수 없음)
+    public static Set<String> gramsOf(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text == null) {
+            return grams;
+        }
+        int[] codePoints = text.toLowerCase(Locale.ROOT).codePoints().toArray();
+        for (int i = 0; i + GRAM_LENGTH <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,33 @@
+package com.sparta.tl3p.backend.domain.order.entity;
+
+import com.sparta.tl3p.backend.domain.order.enums.OrderSearchTarget;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class OrderSearchTrigramId implements Serializable {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", length = 10, nullable = false)
+    private OrderSearchTarget targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private UUID targetId;
+
+    @Column(name = "gram", length = 8, nullable = false)
+    private String gram;
+}
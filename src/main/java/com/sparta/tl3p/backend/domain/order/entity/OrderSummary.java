@@ -0,0 +1,71 @@
+package com.sparta.tl3p.backend.domain.order.entity;
+
+import com.sparta.tl3p.backend.domain.order.enums.DataStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 회원 주문 목록용 요약 (읽기 모델)
+ * - 주문 생성/수정/취소와 같은 트랜잭션에서 갱신되어 주문과 항상 함께 커밋된다.
+ * - 목록 조회는 (member_id, created_at, order_id) 인덱스 범위 스캔 한 번으로 처리되며 조인/엔티티 로딩이 없다.
+ */
+@Entity
+@Table(name = "p_order_summary", indexes = {
+        @Index(name = "idx_order_summary_member_created", columnList = "member_id, created_at, order_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderSummary {
+
+    @Id
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "store_id")
+    private UUID storeId;
+
+    @Column(name = "store_name", length = 20)
+    private String storeName;
+
+    @Column(name = "item_count", nullable = false)
+    private int itemCount;
+
+    @Column(name = "total_amount", precision = 10, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private DataStatus status;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public OrderSummary(Order order) {
+        this.orderId = order.getOrderId();
+        this.memberId = order.getMember().getMemberId();
+        this.storeId = order.getStore().getStoreId();
+        this.storeName = order.getStore().getName();
+        this.createdAt = order.getCreatedAt();
+        apply(order);
+    }
+
+    // 가게/회원/주문 시각은 바뀌지 않으므로 상태와 항목/금액만 반영 (가게 프록시를 초기화하지 않음)
+    public void apply(Order order) {
+        this.itemCount = order.getOrderItems().size();
+        this.totalAmount = order.calculateTotalAmount();
+        this.status = order.getStatus();
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,52 @@
+package com.sparta.tl3p.backend.domain.order.entity;
+
+import com.sparta.tl3p.backend.common.audit.BaseEntity;
+import com.sparta.tl3p.backend.domain.payment.enums.PaymentMethod;
+import com.sparta.tl3p.backend.domain.payment.enums.PaymentStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 보관된 주문의 결제 (p_payment와 같은 컬럼)
+ */
+@Entity
+@Table(name = "p_payment_archive", indexes = {
+        @Index(name = "idx_payment_archive_order", columnList = "order_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentArchive extends BaseEntity {
+
+    @Id
+    @Column(name = "payment_id")
+    private UUID paymentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_status")
+    private PaymentStatus paymentStatus;
+
+    @Column(name = "amount")
+    private BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_method")
+    private PaymentMethod paymentMethod;
+
+    @Column(name = "payment_date")
+    private LocalDateTime paymentDate;
+
+    @Column(name = "store_id")
+    private UUID storeId;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "order_id")
+    private UUID orderId;
+}
@@ -0,0 +1,8 @@
+package com.sparta.tl3p.backend.domain.order.enums;
+
+public enum OrderEventType {
+    CREATED,
+    UPDATED,
+    CANCELLED,
+    PAID
+}
@@ -0,0 +1,6 @@
+package com.sparta.tl3p.backend.domain.order.enums;
+
+public enum OrderExportFormat {
+    NDJSON,
+    CSV
+}
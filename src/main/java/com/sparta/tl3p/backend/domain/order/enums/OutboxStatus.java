@@ -0,0 +1,8 @@
+package com.sparta.tl3p.backend.domain.order.enums;
+
+public enum OutboxStatus {
+    PENDING,
+    PUBLISHED,
+    // 최대 재시도 횟수를 넘겨 전달을 포기한 이벤트
+    FAILED
+}
@@ -0,0 +1,64 @@
+package com.sparta.tl3p.backend.domain.order.repository;
+
+import com.sparta.tl3p.backend.domain.order.entity.OrderArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 주문 보관 테이블 조회 및 원본 → 보관 테이블 이동
+ * 이동은 엔티티를 읽지 않고 INSERT ... SELECT / DELETE 로 처리하며,
+ * 호출하는 쪽에서 같은 트랜잭션으로 묶어 복사와 삭제가 함께 커밋되도록 한다.
+ */
+public interface OrderArchiveRepository extends JpaRepository<OrderArchive, UUID> {
+
+    List<OrderArchive> findByMemberIdOrderByCreatedAtDesc(Long memberId);
+
+    List<OrderArchive> findByStoreIdOrderByCreatedAtDesc(UUID storeId);
+
+    @Modifying
+    @Query(value = "INSERT INTO p_order_archive (order_id, order_type, payment_method, city, street, zipcode, " +
+            "store_request, status, store_id, member_id, version, " +
+            "created_at, created_by, updated_at, updated_by, deleted_at, deleted_by, archived_at) " +
+            "SELECT order_id, order_type, payment_method, city, street, zipcode, " +
+            "store_request, status, store_id, member_id, version, " +
+            "created_at, created_by, updated_at, updated_by, deleted_at, deleted_by, :archivedAt " +
+            "FROM p_order WHERE order_id IN (:orderIds)", nativeQuery = true)
+    int copyOrders(Collection<UUID> orderIds, LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO p_order_item_archive (order_item_id, quantity, price, item_id, order_id, " +
+            "created_at, created_by, updated_at, updated_by, deleted_at, deleted_by) " +
+            "SELECT order_item_id, quantity, price, item_id, order_id, " +
+            "created_at, created_by, updated_at, updated_by, deleted_at, deleted_by " +
+            "FROM p_order_item WHERE order_id IN (:orderIds)", nativeQuery = true)
+    int copyOrderItems(Collection<UUID> orderIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO p_payment_archive (payment_id, payment_status, amount, payment_method, payment_date, " +
+            "store_id, member_id, order_id, " +
+            "created_at, created_by, updated_at, updated_by, deleted_at, deleted_by) " +
+            "SELECT payment_id, payment_status, amount, payment_method, payment_date, " +
+            "store_id, member_id, order_id, " +
+            "created_at, created_by, updated_at, updated_by, deleted_at, deleted_by " +
+            "FROM p_payment WHERE order_id IN (:orderIds)", nativeQuery = true)
+    int copyPayments(Collection<UUID> orderIds);
+
+    // 외래키 순서대로 결제 → 주문 항목 → 주문 삭제
+    @Modifying
+    @Query(value = "DELETE FROM p_payment WHERE order_id IN (:orderIds)", nativeQuery = true)
+    int deleteHotPayments(Collection<UUID> orderIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM p_order_item WHERE order_id IN (:orderIds)", nativeQuery = true)
+    int deleteHotOrderItems(Collection<UUID> orderIds);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM p_order WHERE order_id IN (:orderIds)", nativeQuery = true)
+    int deleteHotOrders(Collection<UUID> orderIds);
+}
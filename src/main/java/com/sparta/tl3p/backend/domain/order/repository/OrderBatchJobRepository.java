@@ -0,0 +1,27 @@
+package com.sparta.tl3p.backend.domain.order.repository;
+
+import com.sparta.tl3p.backend.domain.order.entity.OrderBatchJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+
+public interface OrderBatchJobRepository extends JpaRepository<OrderBatchJob, String> {
+
+    // 잠금이 없거나, 만료되었거나, 이미 자신이 가진 경우에만 획득(연장)
+    @Modifying
+    @Query("UPDATE OrderBatchJob j SET j.lockedBy = :owner, j.lockedUntil = :until " +
+            "WHERE j.name = :name AND (j.lockedBy IS NULL OR j.lockedBy = :owner OR j.lockedUntil < :now)")
+    int tryLock(String name, String owner, LocalDateTime now, LocalDateTime until);
+
+    @Modifying
+    @Query("UPDATE OrderBatchJob j SET j.lockedBy = NULL, j.lockedUntil = NULL WHERE j.name = :name AND j.lockedBy = :owner")
+    int unlock(String name, String owner);
+
+    @Modifying
+    @Query("UPDATE OrderBatchJob j SET j.completedAt = :completedAt WHERE j.name = :name")
+    int updateCompletedAt(String name, LocalDateTime completedAt);
+
+    boolean existsByNameAndCompletedAtIsNotNull(String name);
+}
@@ -0,0 +1,12 @@
+package com.sparta.tl3p.backend.domain.order.repository;
+
+import com.sparta.tl3p.backend.domain.order.entity.OrderItemArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface OrderItemArchiveRepository extends JpaRepository<OrderItemArchive, UUID> {
+
+    List<OrderItemArchive> findByOrderId(UUID orderId);
+}
@@ -0,0 +1,38 @@
+package com.sparta.tl3p.backend.domain.order.repository;
+
+import com.sparta.tl3p.backend.domain.order.entity.OrderOutboxEvent;
+import com.sparta.tl3p.backend.domain.order.enums.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEvent, Long> {
+
+    // 미전달 이벤트를 id 순으로 잠그며 조회 (여러 인스턴스가 동시에 전달하지 않도록 직렬화)
+    // 앞선 이벤트가 FAILED로 전환된 주문의 이벤트는 순서 보장을 위해 제외 (FAILED 이벤트가 처리될 때까지 보류)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM OrderOutboxEvent e WHERE e.status = 'PENDING' " +
+            "AND NOT EXISTS (SELECT f.id FROM OrderOutboxEvent f " +
+            "WHERE f.orderId = e.orderId AND f.status = 'FAILED' AND f.id < e.id) " +
+            "ORDER BY e.id ASC")
+    List<OrderOutboxEvent> findPendingForDispatch(Pageable pageable);
+
+    // 보관 기간이 지난 전달 완료 이벤트 id 조회 (청크 단위 삭제용)
+    @Query("SELECT e.id FROM OrderOutboxEvent e WHERE e.status = 'PUBLISHED' AND e.publishedAt < :cutoff ORDER BY e.id ASC")
+    List<Long> findPublishedIdsBefore(LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM OrderOutboxEvent e WHERE e.id IN :ids")
+    int deleteByIds(List<Long> ids);
+
+    long countByStatus(OutboxStatus status);
+
+    Optional<OrderOutboxEvent> findFirstByStatusOrderByIdAsc(OutboxStatus status);
+}
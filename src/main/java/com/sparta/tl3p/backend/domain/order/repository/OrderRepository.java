@@ -1,7 +1,11 @@
 package com.sparta.tl3p.backend.domain.order.repository;
 
 import com.sparta.tl3p.backend.domain.order.entity.Order;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,4 +15,10 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, OrderReposi
 
     // 가게별 주문 조회: Order 엔티티의 store.storeId를 기준으로 검색
     List<Order> findByStoreStoreId(UUID storeId);
+
+    // 보관 대상 주문 ID를 오래된 순으로 조회 (리뷰가 참조하는 주문은 외래키 때문에 원본에 유지)
+    @Query("SELECT o.orderId FROM Order o WHERE o.createdAt < :cutoff " +
+            "AND NOT EXISTS (SELECT r.reviewId FROM Review r WHERE r.order = o) " +
+            "ORDER BY o.createdAt ASC, o.orderId ASC")
+    List<UUID> findArchivableOrderIds(LocalDateTime cutoff, Pageable pageable);
 }
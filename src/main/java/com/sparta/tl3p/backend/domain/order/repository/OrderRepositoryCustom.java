@@ -1,8 +1,13 @@
 package com.sparta.tl3p.backend.domain.order.repository;
 
 import com.sparta.tl3p.backend.domain.order.entity.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import java.util.List;
 
 public interface OrderRepositoryCustom {
     List<Order> searchOrders(Long memberId, String storeName, String productName);
+
+    Page<Order> searchOrders(Long memberId, String storeName, String productName, Pageable pageable);
 }
@@ -1,22 +1,45 @@
 package com.sparta.tl3p.backend.domain.order.repository;
 
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.sparta.tl3p.backend.domain.order.entity.Order;
+import com.sparta.tl3p.backend.domain.order.entity.OrderBatchJob;
+import com.sparta.tl3p.backend.domain.order.entity.OrderSearchTrigram;
 import com.sparta.tl3p.backend.domain.order.entity.QOrder;
 import com.sparta.tl3p.backend.domain.order.entity.QOrderItem;
 import com.sparta.tl3p.backend.domain.item.entity.QItem;
+import com.sparta.tl3p.backend.domain.order.entity.QOrderBatchJob;
+import com.sparta.tl3p.backend.domain.order.entity.QOrderSearchTrigram;
+import com.sparta.tl3p.backend.domain.order.enums.OrderSearchTarget;
 import com.sparta.tl3p.backend.domain.store.entity.QStore;
 import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class OrderRepositoryImpl implements OrderRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final boolean trigramEnabled;
 
-    public OrderRepositoryImpl(EntityManager em) {
+    public OrderRepositoryImpl(EntityManager em,
+                               @Value("${order.search.trigram.enabled:true}") boolean trigramEnabled) {
         this.queryFactory = new JPAQueryFactory(em);
+        this.trigramEnabled = trigramEnabled;
     }
 
     @Override
@@ -33,9 +56,102 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
                 .where(
                         order.member.memberId.eq(memberId),
                         StringUtils.hasText(storeName) ? store.name.containsIgnoreCase(storeName) : null,
-                        StringUtils.hasText(productName) ? item.name.containsIgnoreCase(productName) : null
+                        StringUtils.hasText(storeName) ? inTrigramCandidates(store.storeId, OrderSearchTarget.STORE, storeName) : null,
+                        StringUtils.hasText(productName) ? item.name.containsIgnoreCase(productName) : null,
+                        StringUtils.hasText(productName) ? inTrigramCandidates(item.itemId, OrderSearchTarget.ITEM, productName) : null
                 )
                 .distinct()
                 .fetch();
     }
+
+    @Override
+    public Page<Order> searchOrders(Long memberId, String storeName, String productName, Pageable pageable) {
+        QOrder order = QOrder.order;
+
+        Predicate[] conditions = {
+                order.member.memberId.eq(memberId),
+                StringUtils.hasText(storeName) ? order.store.name.containsIgnoreCase(storeName) : null,
+                StringUtils.hasText(storeName) ? inTrigramCandidates(order.store.storeId, OrderSearchTarget.STORE, storeName) : null,
+                StringUtils.hasText(productName) ? orderHasItemNamed(order, productName) : null
+        };
+
+        // 1단계: 컬렉션 fetch join 없이 주문 ID 페이지만 조회 (메모리 페이징 방지)
+        List<UUID> orderIds = queryFactory
+                .select(order.orderId)
+                .from(order)
+                .where(conditions)
+                .orderBy(order.createdAt.desc(), order.orderId.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 2단계: 해당 ID만 IN 조회 후 1단계 정렬 순서로 복원
+        List<Order> content = List.of();
+        if (!orderIds.isEmpty()) {
+            Map<UUID, Order> orderMap = queryFactory
+                    .selectFrom(order)
+                    .where(order.orderId.in(orderIds))
+                    .fetch()
+                    .stream()
+                    .collect(Collectors.toMap(Order::getOrderId, Function.identity()));
+            content = orderIds.stream()
+                    .map(orderMap::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Long total = queryFactory
+                    .select(order.count())
+                    .from(order)
+                    .where(conditions)
+                    .fetchOne();
+            return total != null ? total : 0L;
+        });
+    }
+
+    // 주문에 해당 이름의 상품이 포함되어 있는지 (컬렉션 조인 대신 EXISTS 서브쿼리)
+    private BooleanExpression orderHasItemNamed(QOrder order, String productName) {
+        QOrderItem subOrderItem = new QOrderItem("subOrderItem");
+        return JPAExpressions
+                .selectOne()
+                .from(subOrderItem)
+                .where(
+                        subOrderItem.order.eq(order),
+                        subOrderItem.item.name.containsIgnoreCase(productName),
+                        inTrigramCandidates(subOrderItem.item.itemId, OrderSearchTarget.ITEM, productName)
+                )
+                .exists();
+    }
+
+    /**
+     * 트라이그램 인덱스로 이름 후보를 좁히는 조건 (검색어의 트라이그램을 모두 가진 가게/상품)
+     * - 인덱스 컬럼(store_id, item_id)으로 걸러낸 뒤 부분 문자열 비교는 후보에 대해서만 수행된다.
+     * - 검색어가 세 글자보다 짧거나 인덱스를 사용하지 않으면 null (기존 LIKE 조건만 적용)
+     * - 인덱스 백필이 완료 표시되기 전에는 후보 조건을 적용하지 않는다 (색인되지 않은 이름이 결과에서 빠지지 않도록)
+     */
+    private BooleanExpression inTrigramCandidates(ComparableExpression<UUID> targetId,
+                                                  OrderSearchTarget targetType, String text) {
+        Set<String> grams = OrderSearchTrigram.gramsOf(text);
+        if (!trigramEnabled || grams.isEmpty()) {
+            return null;
+        }
+        QOrderSearchTrigram trigram = QOrderSearchTrigram.orderSearchTrigram;
+        JPQLQuery<UUID> candidates = JPAExpressions
+                .select(trigram.id.targetId)
+                .from(trigram)
+                .where(
+                        trigram.id.targetType.eq(targetType),
+                        trigram.id.gram.in(grams)
+                )
+                .groupBy(trigram.id.targetId)
+                .having(trigram.id.gram.countDistinct().eq((long) grams.size()));
+        QOrderBatchJob job = QOrderBatchJob.orderBatchJob;
+        BooleanExpression indexCompleted = JPAExpressions
+                .selectOne()
+                .from(job)
+                .where(job.name.eq(OrderBatchJob.SEARCH_TRIGRAM), job.completedAt.isNotNull())
+                .exists();
+        return indexCompleted.not().or(targetId.in(candidates));
+    }
 }
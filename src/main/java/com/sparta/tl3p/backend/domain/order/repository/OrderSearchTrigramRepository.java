@@ -0,0 +1,17 @@
+package com.sparta.tl3p.backend.domain.order.repository;
+
+import com.sparta.tl3p.backend.domain.order.entity.OrderSearchTrigram;
+import com.sparta.tl3p.backend.domain.order.entity.OrderSearchTrigramId;
+import com.sparta.tl3p.backend.domain.order.enums.OrderSearchTarget;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.UUID;
+
+public interface OrderSearchTrigramRepository extends JpaRepository<OrderSearchTrigram, OrderSearchTrigramId> {
+
+    @Modifying
+    @Query("DELETE FROM OrderSearchTrigram g WHERE g.id.targetType = :targetType AND g.id.targetId = :targetId")
+    int deleteByTarget(OrderSearchTarget targetType, UUID targetId);
+}
@@ -0,0 +1,39 @@
+package com.sparta.tl3p.backend.domain.order.repository;
+
+import com.sparta.tl3p.backend.domain.order.entity.OrderSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, UUID>, OrderSummaryRepositoryCustom {
+
+    // 요약이 없는 주문 ID를 id 순으로 조회 (기존 주문 백필용 keyset)
+    @Query("SELECT o.orderId FROM Order o WHERE o.orderId > :after " +
+            "AND NOT EXISTS (SELECT s.orderId FROM OrderSummary s WHERE s.orderId = o.orderId) " +
+            "ORDER BY o.orderId")
+    List<UUID> findOrderIdsWithoutSummary(UUID after, Pageable pageable);
+
+    // 조회 후 insert 전에 주문 수정(recordChanged)이 요약을 먼저 만들었을 수 있으므로 insert 시점에 다시 확인
+    @Modifying
+    @Query(value = "INSERT INTO p_order_summary (order_id, member_id, store_id, store_name, item_count, " +
+            "total_amount, status, created_at, updated_at) " +
+            "SELECT o.order_id, o.member_id, o.store_id, s.name, COUNT(oi.order_item_id), " +
+            "COALESCE(SUM(oi.price), 0), o.status, COALESCE(o.created_at, CURRENT_TIMESTAMP), o.updated_at " +
+            "FROM p_order o " +
+            "LEFT JOIN p_store s ON s.store_id = o.store_id " +
+            "LEFT JOIN p_order_item oi ON oi.order_id = o.order_id " +
+            "WHERE o.order_id IN (:orderIds) AND o.member_id IS NOT NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM p_order_summary os WHERE os.order_id = o.order_id) " +
+            "GROUP BY o.order_id, o.member_id, o.store_id, s.name, o.status, o.created_at, o.updated_at",
+            nativeQuery = true)
+    int copyFromOrders(Collection<UUID> orderIds);
+
+    @Modifying
+    @Query("DELETE FROM OrderSummary s WHERE s.orderId IN :orderIds")
+    int deleteByOrderIds(Collection<UUID> orderIds);
+}
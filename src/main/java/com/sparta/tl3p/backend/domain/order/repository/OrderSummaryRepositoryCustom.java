@@ -0,0 +1,11 @@
+package com.sparta.tl3p.backend.domain.order.repository;
+
+import com.sparta.tl3p.backend.domain.order.dto.OrderSummaryResponseDto;
+import com.sparta.tl3p.backend.domain.order.dto.OrderSummarySearchRequestDto;
+
+import java.util.List;
+
+public interface OrderSummaryRepositoryCustom {
+    // 다음 페이지 여부 판단을 위해 size + 1건까지 조회
+    List<OrderSummaryResponseDto> findMemberOrders(Long memberId, OrderSummarySearchRequestDto condition);
+}
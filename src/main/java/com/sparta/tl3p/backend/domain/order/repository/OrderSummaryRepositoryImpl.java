@@ -0,0 +1,53 @@
+package com.sparta.tl3p.backend.domain.order.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.tl3p.backend.domain.order.dto.OrderSummaryResponseDto;
+import com.sparta.tl3p.backend.domain.order.dto.OrderSummarySearchRequestDto;
+import com.sparta.tl3p.backend.domain.order.entity.QOrderSummary;
+import jakarta.persistence.EntityManager;
+
+import java.util.List;
+
+public class OrderSummaryRepositoryImpl implements OrderSummaryRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    public OrderSummaryRepositoryImpl(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    @Override
+    public List<OrderSummaryResponseDto> findMemberOrders(Long memberId, OrderSummarySearchRequestDto condition) {
+        QOrderSummary summary = QOrderSummary.orderSummary;
+
+        // (member_id, created_at, order_id) 인덱스를 역순으로 읽는 범위 스캔 (조인/정렬 없음)
+        return queryFactory
+                .select(Projections.constructor(OrderSummaryResponseDto.class,
+                        summary.orderId,
+                        summary.storeId,
+                        summary.storeName,
+                        summary.itemCount,
+                        summary.totalAmount,
+                        summary.status,
+                        summary.createdAt))
+                .from(summary)
+                .where(
+                        summary.memberId.eq(memberId),
+                        cursorCondition(summary, condition)
+                )
+                .orderBy(summary.createdAt.desc(), summary.orderId.desc())
+                .limit(condition.getSize() + 1L)
+                .fetch();
+    }
+
+    private BooleanExpression cursorCondition(QOrderSummary summary, OrderSummarySearchRequestDto condition) {
+        if (!condition.hasCursor()) {
+            return null;
+        }
+        return summary.createdAt.lt(condition.getCursorDate())
+                .or(summary.createdAt.eq(condition.getCursorDate())
+                        .and(summary.orderId.lt(condition.getCursorId())));
+    }
+}
@@ -0,0 +1,140 @@
+package com.sparta.tl3p.backend.domain.order.service;
+
+import com.sparta.tl3p.backend.common.exception.BusinessException;
+import com.sparta.tl3p.backend.common.type.ErrorCode;
+import com.sparta.tl3p.backend.domain.order.dto.OrderArchiveRunResponseDto;
+import com.sparta.tl3p.backend.domain.order.repository.OrderArchiveRepository;
+import com.sparta.tl3p.backend.domain.order.repository.OrderRepository;
+import com.sparta.tl3p.backend.domain.order.repository.OrderSummaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 보관 기간이 지난 주문을 주문 항목/결제와 함께 보관 테이블로 이동
+ * - 청크 단위 트랜잭션: 한 청크의 복사와 삭제는 함께 커밋되거나 함께 롤백된다.
+ * - 재시작 가능: 이동이 끝난 주문은 원본에서 사라지므로 중단된 실행은 다음 실행에서 남은 주문부터 이어서 처리한다.
+ * - 한 실행에서 처리하는 청크 수를 제한하여 긴 실행이 원본 테이블 쓰기를 오래 막지 않도록 한다.
+ */
+@Slf4j
+@Service
+public class OrderArchiveService {
+
+    private final OrderRepository orderRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int retentionDays;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public OrderArchiveService(OrderRepository orderRepository,
+                               OrderArchiveRepository orderArchiveRepository,
+                               OrderSummaryRepository orderSummaryRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${order.archive.enabled:true}") boolean enabled,
+                               @Value("${order.archive.retention-days:180}") int retentionDays,
+                               @Value("${order.archive.chunk-size:500}") int chunkSize,
+                               @Value("${order.archive.max-chunks-per-run:200}") int maxChunksPerRun) {
+        this.orderRepository = orderRepository;
+        this.orderArchiveRepository = orderArchiveRepository;
+        this.orderSummaryRepository = orderSummaryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    @Scheduled(cron = "${order.archive.cron:0 30 3 * * *}")
+    public void scheduledArchive() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            OrderArchiveRunResponseDto result = archiveExpiredOrders();
+            log.info("주문 보관 완료: archived={}, chunks={}, hasMore={}",
+                    result.getArchivedOrders(), result.getChunks(), result.isHasMore());
+        } catch (RuntimeException e) {
+            log.error("주문 보관 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 주문을 청크 단위로 이동 (같은 인스턴스에서 동시에 두 번 실행되지 않음)
+     */
+    public OrderArchiveRunResponseDto archiveExpiredOrders() {
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessException(ErrorCode.ORDER_ARCHIVE_IN_PROGRESS);
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+
+            int chunks = 0;
+            long archived = 0;
+            boolean hasMore = false;
+            while (true) {
+                if (chunks >= maxChunksPerRun) {
+                    hasMore = true;
+                    break;
+                }
+                int moved = archiveChunk(cutoff);
+                if (moved == 0) {
+                    break;
+                }
+                chunks++;
+                archived += moved;
+                if (moved < chunkSize) {
+                    break;
+                }
+            }
+
+            return OrderArchiveRunResponseDto.builder()
+                    .cutoff(cutoff)
+                    .chunks(chunks)
+                    .archivedOrders(archived)
+                    .hasMore(hasMore)
+                    .elapsedMillis(System.currentTimeMillis() - startedAt)
+                    .build();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 가장 오래된 주문 한 청크를 하나의 트랜잭션에서 복사 후 삭제하고 이동한 주문 수를 반환
+     */
+    public int archiveChunk(LocalDateTime cutoff) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<UUID> orderIds = orderRepository.findArchivableOrderIds(cutoff, PageRequest.of(0, chunkSize));
+            if (orderIds.isEmpty()) {
+                return 0;
+            }
+
+            LocalDateTime archivedAt = LocalDateTime.now();
+            orderArchiveRepository.copyOrders(orderIds, archivedAt);
+            orderArchiveRepository.copyOrderItems(orderIds);
+            orderArchiveRepository.copyPayments(orderIds);
+
+            // 회원 주문 목록 요약도 원본과 함께 정리 (보관된 주문은 history 조회로만 노출)
+            orderSummaryRepository.deleteByOrderIds(orderIds);
+            orderArchiveRepository.deleteHotPayments(orderIds);
+            orderArchiveRepository.deleteHotOrderItems(orderIds);
+            return orderArchiveRepository.deleteHotOrders(orderIds);
+        });
+        return moved != null ? moved : 0;
+    }
+}
@@ -0,0 +1,83 @@
+package com.sparta.tl3p.backend.domain.order.service;
+
+import com.sparta.tl3p.backend.domain.order.entity.OrderBatchJob;
+import com.sparta.tl3p.backend.domain.order.repository.OrderBatchJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 주문 배치 작업을 여러 인스턴스 중 하나에서만 실행하기 위한 DB 임대 잠금
+ * - 작업 행이 없으면 먼저 만든다 (동시에 만들다 충돌하면 먼저 만들어진 행을 사용)
+ * - 작업은 청크마다 extend로 임대를 연장하고, 연장에 실패하면(임대 만료 후 다른 인스턴스가 가져감) 중단한다.
+ */
+@Slf4j
+@Component
+public class OrderBatchJobLock {
+
+    private final OrderBatchJobRepository orderBatchJobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration lease;
+    private final String owner = UUID.randomUUID().toString();
+
+    public OrderBatchJobLock(OrderBatchJobRepository orderBatchJobRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${order.batch.lock-lease-seconds:300}") long leaseSeconds) {
+        this.orderBatchJobRepository = orderBatchJobRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+    }
+
+    public boolean tryAcquire(String name) {
+        createIfAbsent(name);
+        return lock(name);
+    }
+
+    public void extend(String name) {
+        if (!lock(name)) {
+            throw new IllegalStateException("배치 작업 잠금을 잃었습니다: " + name);
+        }
+    }
+
+    public void release(String name) {
+        transactionTemplate.executeWithoutResult(status -> orderBatchJobRepository.unlock(name, owner));
+    }
+
+    public boolean isCompleted(String name) {
+        return orderBatchJobRepository.existsByNameAndCompletedAtIsNotNull(name);
+    }
+
+    public void markCompleted(String name) {
+        transactionTemplate.executeWithoutResult(status ->
+                orderBatchJobRepository.updateCompletedAt(name, LocalDateTime.now()));
+    }
+
+    public void resetCompleted(String name) {
+        transactionTemplate.executeWithoutResult(status -> orderBatchJobRepository.updateCompletedAt(name, null));
+    }
+
+    private boolean lock(String name) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            return orderBatchJobRepository.tryLock(name, owner, now, now.plus(lease)) == 1;
+        }));
+    }
+
+    private void createIfAbsent(String name) {
+        if (orderBatchJobRepository.existsById(name)) {
+            return;
+        }
+        try {
+            orderBatchJobRepository.saveAndFlush(new OrderBatchJob(name));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("배치 작업 행을 다른 인스턴스가 먼저 생성: {}", name);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.sparta.tl3p.backend.domain.order.service;
+
+import com.sparta.tl3p.backend.domain.order.dto.OrderEvent;
+
+/**
+ * outbox 디스패처가 호출하는 주문 이벤트 리스너
+ * - 예외를 던지면 해당 이벤트와 같은 주문의 이후 이벤트는 다음 배치에서 재전달된다.
+ * - 디스패처 트랜잭션 안에서 호출되므로 DB 작업이 필요한 리스너는 REQUIRES_NEW 트랜잭션을 사용한다.
+ */
+public interface OrderEventListener {
+
+    void onOrderEvent(OrderEvent event);
+}
@@ -0,0 +1,32 @@
+package com.sparta.tl3p.backend.domain.order.service;
+
+import com.sparta.tl3p.backend.domain.order.entity.Order;
+import com.sparta.tl3p.backend.domain.order.entity.OrderOutboxEvent;
+import com.sparta.tl3p.backend.domain.order.enums.OrderEventType;
+import com.sparta.tl3p.backend.domain.order.repository.OrderOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 주문 이벤트를 outbox 테이블에 기록 (호출한 주문 트랜잭션에 참여)
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderEventPublisher {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(Order order, OrderEventType eventType) {
+        orderOutboxRepository.save(OrderOutboxEvent.builder()
+                .orderId(order.getOrderId())
+                .storeId(order.getStore() != null ? order.getStore().getStoreId() : null)
+                .memberId(order.getMember() != null ? order.getMember().getMemberId() : null)
+                .eventType(eventType)
+                .orderStatus(order.getStatus() != null ? order.getStatus().name() : null)
+                .totalAmount(order.calculateTotalAmount())
+                .build());
+    }
+}
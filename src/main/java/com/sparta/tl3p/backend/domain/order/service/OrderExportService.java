@@ -0,0 +1,184 @@
+package com.sparta.tl3p.backend.domain.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.tl3p.backend.common.type.Address;
+import com.sparta.tl3p.backend.common.util.AccessControl;
+import com.sparta.tl3p.backend.domain.order.dto.OrderExportDto;
+import com.sparta.tl3p.backend.domain.order.dto.OrderExportItemDto;
+import com.sparta.tl3p.backend.domain.order.entity.Order;
+import com.sparta.tl3p.backend.domain.order.enums.OrderExportFormat;
+import jakarta.persistence.EntityManager;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 가게 주문 내역을 NDJSON/CSV로 응답 스트림에 직접 기록
+ * - 주문은 forward-only 커서(fetch size 지정)로 읽고, fetch size 만큼 모일 때마다
+ *   해당 주문들의 항목을 IN 쿼리 한 번으로 조회하여 기록한 뒤 영속성 컨텍스트를 비운다.
+ * - 따라서 메모리 사용량은 가게의 전체 주문 수가 아니라 청크 크기에 비례한다.
+ */
+@Service
+public class OrderExportService {
+
+    private static final String CSV_HEADER = "order_id,created_at,status,order_type,store_request," +
+            "delivery_city,delivery_street,delivery_zipcode," +
+            "payment_id,payment_status,payment_amount,payment_date,item_id,quantity,price";
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final EntityManager em;
+    private final AccessControl accessControl;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public OrderExportService(EntityManager em,
+                              AccessControl accessControl,
+                              ObjectMapper objectMapper,
+                              @Value("${order.export.fetch-size:500}") int fetchSize) {
+        this.em = em;
+        this.accessControl = accessControl;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    // 응답을 쓰기 시작하기 전에 권한을 확인하여 오류를 일반 오류 응답으로 반환할 수 있도록 분리
+    @Transactional(readOnly = true)
+    public void verifyStoreOwner(UUID storeId, Long memberId) {
+        accessControl.checkStoreOwner(storeId, memberId);
+    }
+
+    /**
+     * 가게 주문을 생성 순으로 기록하고 기록한 주문 수를 반환
+     */
+    @Transactional(readOnly = true)
+    public long exportStoreOrders(UUID storeId, OrderExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == OrderExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long exported = 0;
+        List<Order> chunk = new ArrayList<>(fetchSize);
+        try (ScrollableResults<Order> orders = em.unwrap(Session.class)
+                .createQuery("SELECT o FROM Order o LEFT JOIN FETCH o.payment " +
+                        "WHERE o.store.storeId = :storeId " +
+                        "ORDER BY o.createdAt ASC, o.orderId ASC", Order.class)
+                .setParameter("storeId", storeId)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (orders.next()) {
+                chunk.add(orders.get());
+                if (chunk.size() >= fetchSize) {
+                    exported += writeChunk(chunk, format, writer);
+                }
+            }
+            exported += writeChunk(chunk, format, writer);
+        }
+        writer.flush();
+        return exported;
+    }
+
+    private int writeChunk(List<Order> chunk, OrderExportFormat format, Writer writer) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, List<OrderExportItemDto>> itemsByOrderId = findItemsByOrderIds(
+                chunk.stream().map(Order::getOrderId).collect(Collectors.toList()));
+        for (Order order : chunk) {
+            OrderExportDto row = new OrderExportDto(order, itemsByOrderId.getOrDefault(order.getOrderId(), List.of()));
+            if (format == OrderExportFormat.NDJSON) {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            } else {
+                writeCsvRows(row, writer);
+            }
+        }
+
+        int written = chunk.size();
+        chunk.clear();
+        writer.flush();
+        // 기록한 주문을 영속성 컨텍스트에서 분리 (커서는 유지)
+        em.clear();
+        return written;
+    }
+
+    private Map<UUID, List<OrderExportItemDto>> findItemsByOrderIds(List<UUID> orderIds) {
+        List<Object[]> rows = em.createQuery(
+                        "SELECT oi.order.orderId, oi.item.itemId, oi.quantity, oi.price " +
+                                "FROM OrderItem oi WHERE oi.order.orderId IN :orderIds", Object[].class)
+                .setParameter("orderIds", orderIds)
+                .getResultList();
+
+        Map<UUID, List<OrderExportItemDto>> itemsByOrderId = new HashMap<>();
+        for (Object[] row : rows) {
+            itemsByOrderId.computeIfAbsent((UUID) row[0], id -> new ArrayList<>())
+                    .add(new OrderExportItemDto((UUID) row[1], (Integer) row[2], (BigDecimal) row[3]));
+        }
+        return itemsByOrderId;
+    }
+
+    // 주문 항목 한 줄당 한 행 (항목이 없는 주문은 항목 컬럼을 비운 한 행)
+    private void writeCsvRows(OrderExportDto row, Writer writer) throws IOException {
+        Address address = row.getDeliveryAddress();
+        String orderColumns = String.join(",",
+                csv(row.getOrderId()),
+                csv(row.getCreatedAt()),
+                csv(row.getStatus()),
+                csv(row.getOrderType()),
+                csv(row.getStoreRequest()),
+                csv(address != null ? address.getCity() : null),
+                csv(address != null ? address.getStreet() : null),
+                csv(address != null ? address.getZipcode() : null),
+                csv(row.getPaymentId()),
+                csv(row.getPaymentStatus()),
+                csv(row.getPaymentAmount()),
+                csv(row.getPaymentDate()));
+
+        if (row.getItems().isEmpty()) {
+            writer.write(orderColumns);
+            writer.write(",,,\n");
+            return;
+        }
+        for (OrderExportItemDto item : row.getItems()) {
+            writer.write(orderColumns);
+            writer.write(',');
+            writer.write(String.join(",", csv(item.getItemId()), csv(item.getQuantity()), csv(item.getPrice())));
+            writer.write('\n');
+        }
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        // 사용자가 입력한 문자열이 수식으로 실행되지 않도록 수식 시작 문자 앞에 ' 추가 (CSV injection)
+        if (value instanceof String && !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
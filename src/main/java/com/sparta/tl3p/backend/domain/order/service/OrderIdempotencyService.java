@@ -0,0 +1,224 @@
+package com.sparta.tl3p.backend.domain.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.tl3p.backend.common.exception.BusinessException;
+import com.sparta.tl3p.backend.common.type.ErrorCode;
+import com.sparta.tl3p.backend.domain.order.dto.OrderIdempotencyRecord;
+import com.sparta.tl3p.backend.domain.order.dto.OrderRequestDto;
+import com.sparta.tl3p.backend.domain.order.dto.OrderResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 주문 생성 요청의 Idempotency-Key 처리
+ * - 최초 요청만 주문/결제를 실행하고 결과를 Redis에 TTL과 함께 저장한다.
+ * - 같은 키의 재요청은 DB를 거치지 않고 저장된 응답을 그대로 반환한다.
+ * - 처리 중인 키로 들어온 동시 요청은 실행하지 않고 결과를 기다린다.
+ *   (같은 인스턴스는 진행 중인 Future를, 다른 인스턴스는 Redis 상태를 폴링)
+ * - 실행이 실패하면 키를 지워 클라이언트가 같은 키로 재시도할 수 있게 한다.
+ */
+@Slf4j
+@Service
+public class OrderIdempotencyService {
+
+    private static final String KEY_PREFIX = "idempotency:order:";
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration resultTtl;
+    private final Duration inProgressTtl;
+    private final Duration waitTimeout;
+
+    // 이 인스턴스에서 처리 중인 요청 (key -> 진행 중인 결과)
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public OrderIdempotencyService(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                   @Value("${order.idempotency.ttl-seconds:86400}") long resultTtlSeconds,
+                                   @Value("${order.idempotency.in-progress-ttl-seconds:30}") long inProgressTtlSeconds,
+                                   @Value("${order.idempotency.wait-timeout-millis:5000}") long waitTimeoutMillis) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.resultTtl = Duration.ofSeconds(resultTtlSeconds);
+        this.inProgressTtl = Duration.ofSeconds(inProgressTtlSeconds);
+        this.waitTimeout = Duration.ofMillis(waitTimeoutMillis);
+    }
+
+    public OrderResponseDto execute(Long memberId, String idempotencyKey, OrderRequestDto request,
+                                    Supplier<OrderResponseDto> action) {
+        // 키는 회원 단위로 구분 (다른 회원이 같은 키를 보내도 충돌하지 않음)
+        String key = KEY_PREFIX + memberId + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+
+        InFlight mine = new InFlight(fingerprint);
+        InFlight running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            verifyFingerprint(running.fingerprint, fingerprint);
+            return await(running.result);
+        }
+
+        try {
+            OrderResponseDto response = executeOnce(key, fingerprint, action);
+            mine.result.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            mine.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private OrderResponseDto executeOnce(String key, String fingerprint, Supplier<OrderResponseDto> action) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (true) {
+            boolean acquired;
+            OrderIdempotencyRecord record;
+            try {
+                acquired = tryAcquire(key, fingerprint);
+                record = acquired ? null : read(key);
+            } catch (DataAccessException e) {
+                // Redis 장애 시 멱등성 보장 없이 요청을 처리 (주문 불가 상태를 피함)
+                log.warn("Idempotency 저장소 접근 실패, 키 없이 처리: key={}, {}", key, e.getMessage());
+                return action.get();
+            }
+
+            if (acquired) {
+                return runAndStore(key, fingerprint, action);
+            }
+            if (record == null) {
+                // 선점했던 요청이 실패하여 키가 지워진 경우 다시 선점 시도
+                continue;
+            }
+            verifyFingerprint(record.getFingerprint(), fingerprint);
+            if (record.isCompleted()) {
+                return record.getResponse();
+            }
+            if (System.nanoTime() > deadline) {
+                throw new BusinessException(ErrorCode.ORDER_REQUEST_IN_PROGRESS);
+            }
+            sleep();
+        }
+    }
+
+    private OrderResponseDto runAndStore(String key, String fingerprint, Supplier<OrderResponseDto> action) {
+        OrderResponseDto response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            release(key);
+            throw e;
+        }
+
+        try {
+            redisTemplate.opsForValue().set(key,
+                    objectMapper.writeValueAsString(OrderIdempotencyRecord.completed(fingerprint, response)), resultTtl);
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("Idempotency 결과 저장 실패: key={}, {}", key, e.getMessage());
+            release(key);
+        }
+        return response;
+    }
+
+    private boolean tryAcquire(String key, String fingerprint) {
+        Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(key, write(OrderIdempotencyRecord.inProgress(fingerprint)), inProgressTtl);
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    private OrderIdempotencyRecord read(String key) {
+        String json = redisTemplate.opsForValue().get(key);
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, OrderIdempotencyRecord.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Idempotency 레코드 역직렬화 실패: key={}", key);
+            redisTemplate.delete(key);
+            return null;
+        }
+    }
+
+    private void release(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            log.warn("Idempotency 키 삭제 실패: key={}, {}", key, e.getMessage());
+        }
+    }
+
+    private OrderResponseDto await(CompletableFuture<OrderResponseDto> result) {
+        try {
+            return result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new BusinessException(ErrorCode.ORDER_REQUEST_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BusinessException(ErrorCode.UNEXPECTED_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.ORDER_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    private void verifyFingerprint(String stored, String requested) {
+        if (stored != null && !stored.equals(requested)) {
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+    }
+
+    private String fingerprint(OrderRequestDto request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(write(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.UNEXPECTED_ERROR);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.ORDER_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    private static final class InFlight {
+        private final String fingerprint;
+        private final CompletableFuture<OrderResponseDto> result = new CompletableFuture<>();
+
+        private InFlight(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.sparta.tl3p.backend.domain.order.service;
+
+import com.sparta.tl3p.backend.domain.order.dto.OrderEvent;
+import com.sparta.tl3p.backend.domain.order.dto.OrderOutboxStatsResponseDto;
+import com.sparta.tl3p.backend.domain.order.entity.OrderOutboxEvent;
+import com.sparta.tl3p.backend.domain.order.enums.OutboxStatus;
+import com.sparta.tl3p.backend.domain.order.repository.OrderOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * outbox에 쌓인 주문 이벤트를 배치 단위로 리스너에 전달
+ * - 최소 한 번 전달: 리스너가 성공한 뒤에 PUBLISHED로 표시한다.
+ * - 주문별 순서 보장: 한 주문의 이벤트 전달이 실패하면 같은 배치의 해당 주문 이후 이벤트는 건너뛴다.
+ *   FAILED로 전환된 이벤트가 있는 주문의 이후 이벤트는 다음 배치부터 조회되지 않는다.
+ * - 전달 완료 이벤트는 보관 기간이 지나면 청크 단위로 삭제한다.
+ * - 배치를 잠그고 처리하므로 여러 인스턴스가 떠 있어도 같은 이벤트를 동시에 전달하지 않는다.
+ */
+@Slf4j
+@Component
+public class OrderOutboxDispatcher {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final ObjectProvider<OrderEventListener> listeners;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final int retentionDays;
+    private final int purgeChunkSize;
+
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder deliveryFailures = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final AtomicLong lastDispatchLagMillis = new AtomicLong();
+    private final AtomicLong maxDispatchLagMillis = new AtomicLong();
+
+    public OrderOutboxDispatcher(OrderOutboxRepository orderOutboxRepository,
+                                 ObjectProvider<OrderEventListener> listeners,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${order.outbox.enabled:true}") boolean enabled,
+                                 @Value("${order.outbox.batch-size:100}") int batchSize,
+                                 @Value("${order.outbox.max-attempts:10}") int maxAttempts,
+                                 @Value("${order.outbox.retention-days:7}") int retentionDays,
+                                 @Value("${order.outbox.purge-chunk-size:1000}") int purgeChunkSize) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.listeners = listeners;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retentionDays = retentionDays;
+        this.purgeChunkSize = purgeChunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${order.outbox.dispatch-interval-millis:500}")
+    public void scheduledDispatch() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            // 가득 찬 배치가 나오는 동안 연속으로 처리하여 밀린 이벤트를 빠르게 소진
+            while (dispatchBatch() >= batchSize) {
+                log.debug("주문 이벤트 배치 연속 전달");
+            }
+        } catch (RuntimeException e) {
+            log.error("주문 이벤트 배치 전달 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(cron = "${order.outbox.purge-cron:0 0 4 * * *}")
+    public void scheduledPurge() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            purgePublished();
+        } catch (RuntimeException e) {
+            log.error("주문 이벤트 정리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 PUBLISHED 이벤트를 청크마다 별도 트랜잭션으로 삭제하고 삭제 건수를 반환
+     */
+    public long purgePublished() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        long purged = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = orderOutboxRepository.findPublishedIdsBefore(cutoff, PageRequest.of(0, purgeChunkSize));
+                return ids.isEmpty() ? 0 : orderOutboxRepository.deleteByIds(ids);
+            });
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            purged += deleted;
+            if (deleted < purgeChunkSize) {
+                break;
+            }
+        }
+        if (purged > 0) {
+            log.info("전달 완료 주문 이벤트 정리: {}건 (cutoff={})", purged, cutoff);
+        }
+        return purged;
+    }
+
+    /**
+     * 미전달 이벤트 한 배치를 하나의 트랜잭션에서 전달하고 전달 완료된 이벤트 수를 반환
+     */
+    public int dispatchBatch() {
+        Integer delivered = transactionTemplate.execute(status -> dispatchPending());
+        return delivered != null ? delivered : 0;
+    }
+
+    private int dispatchPending() {
+        List<OrderOutboxEvent> events = orderOutboxRepository.findPendingForDispatch(PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+        batches.increment();
+
+        Set<UUID> blockedOrders = new HashSet<>();
+        int delivered = 0;
+        for (OrderOutboxEvent event : events) {
+            if (blockedOrders.contains(event.getOrderId())) {
+                continue;
+            }
+            try {
+                deliver(OrderEvent.from(event));
+                event.markPublished();
+                delivered++;
+                recordLag(event);
+            } catch (RuntimeException e) {
+                deliveryFailures.increment();
+                event.markAttemptFailed(maxAttempts);
+                // 실패한 이벤트 뒤의 같은 주문 이벤트는 이번 배치에서 전달하지 않음
+                blockedOrders.add(event.getOrderId());
+                if (event.getStatus() == OutboxStatus.FAILED) {
+                    deadLettered.increment();
+                    log.error("주문 이벤트 전달 포기: eventId={}, orderId={}, type={}",
+                            event.getId(), event.getOrderId(), event.getEventType(), e);
+                } else {
+                    log.warn("주문 이벤트 전달 실패: eventId={}, attempts={}, {}",
+                            event.getId(), event.getAttempts(), e.getMessage());
+                }
+            }
+        }
+        dispatched.add(delivered);
+        return delivered;
+    }
+
+    @Transactional(readOnly = true)
+    public OrderOutboxStatsResponseDto stats() {
+        long oldestPendingAgeMillis = orderOutboxRepository.findFirstByStatusOrderByIdAsc(OutboxStatus.PENDING)
+                .map(event -> Duration.between(event.getCreatedAt(), LocalDateTime.now()).toMillis())
+                .orElse(0L);
+
+        return OrderOutboxStatsResponseDto.builder()
+                .dispatched(dispatched.sum())
+                .deliveryFailures(deliveryFailures.sum())
+                .deadLettered(deadLettered.sum())
+                .batches(batches.sum())
+                .pending(orderOutboxRepository.countByStatus(OutboxStatus.PENDING))
+                .oldestPendingAgeMillis(oldestPendingAgeMillis)
+                .lastDispatchLagMillis(lastDispatchLagMillis.get())
+                .maxDispatchLagMillis(maxDispatchLagMillis.get())
+                .build();
+    }
+
+    private void deliver(OrderEvent event) {
+        listeners.orderedStream().forEach(listener -> listener.onOrderEvent(event));
+    }
+
+    private void recordLag(OrderOutboxEvent event) {
+        long lag = Duration.between(event.getCreatedAt(), event.getPublishedAt()).toMillis();
+        lastDispatchLagMillis.set(lag);
+        maxDispatchLagMillis.accumulateAndGet(lag, Math::max);
+    }
+}
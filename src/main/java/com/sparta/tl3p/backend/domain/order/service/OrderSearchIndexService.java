@@ -0,0 +1,154 @@
+package com.sparta.tl3p.backend.domain.order.service;
+
+import com.sparta.tl3p.backend.common.exception.BusinessException;
+import com.sparta.tl3p.backend.common.type.ErrorCode;
+import com.sparta.tl3p.backend.domain.order.entity.OrderBatchJob;
+import com.sparta.tl3p.backend.domain.order.entity.OrderSearchTrigram;
+import com.sparta.tl3p.backend.domain.order.enums.OrderSearchTarget;
+import com.sparta.tl3p.backend.domain.order.repository.OrderSearchTrigramRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 주문 검색용 트라이그램 인덱스 갱신
+ * - 가게 생성/이름 변경, 상품 생성/이름 변경 시 호출하는 쪽 트랜잭션에서 해당 이름의 트라이그램을 교체한다.
+ * - 기동 시 인덱스가 완료 표시되지 않았으면 아직 색인되지 않은 가게/상품만 청크 단위로 채운다.
+ *   (청크마다 커밋하므로 중단되어도 다음 실행이 남은 대상부터 이어서 채움)
+ * - 완료 표시 전에는 검색이 트라이그램 조건 없이 부분 문자열 비교만 사용하므로, 일부만 색인된 상태에서도 검색 결과가 빠지지 않는다.
+ * - 백필/재생성은 배치 작업 잠금으로 여러 인스턴스 중 하나에서만 실행한다.
+ */
+@Slf4j
+@Service
+public class OrderSearchIndexService {
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final OrderSearchTrigramRepository orderSearchTrigramRepository;
+    private final OrderBatchJobLock orderBatchJobLock;
+    private final EntityManager em;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int rebuildChunkSize;
+
+    public OrderSearchIndexService(OrderSearchTrigramRepository orderSearchTrigramRepository,
+                                   OrderBatchJobLock orderBatchJobLock,
+                                   EntityManager em,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${order.search.trigram.enabled:true}") boolean enabled,
+                                   @Value("${order.search.trigram.rebuild-chunk-size:1000}") int rebuildChunkSize) {
+        this.orderSearchTrigramRepository = orderSearchTrigramRepository;
+        this.orderBatchJobLock = orderBatchJobLock;
+        this.em = em;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.rebuildChunkSize = rebuildChunkSize;
+    }
+
+    @Transactional
+    public void indexStoreName(UUID storeId, String name) {
+        reindex(OrderSearchTarget.STORE, storeId, name);
+    }
+
+    @Transactional
+    public void indexItemName(UUID itemId, String name) {
+        reindex(OrderSearchTarget.ITEM, itemId, name);
+    }
+
+    // 다른 인스턴스가 생성 중이면 건너뜀 (완료 표시 전까지는 부분 문자열 검색만 사용하므로 기동을 막지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!enabled || orderBatchJobLock.isCompleted(OrderBatchJob.SEARCH_TRIGRAM)) {
+            return;
+        }
+        try {
+            long indexed = rebuild(false);
+            log.info("주문 검색 트라이그램 인덱스 생성 완료: {}건", indexed);
+        } catch (BusinessException e) {
+            log.info("주문 검색 트라이그램 인덱스를 다른 인스턴스에서 생성 중");
+        } catch (RuntimeException e) {
+            log.error("주문 검색 트라이그램 인덱스 생성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 색인되지 않은 가게/상품을 채우고 완료 표시한 뒤 색인한 이름 수를 반환
+     * - reset이면 완료 표시와 인덱스를 먼저 비우고 전체를 다시 생성한다.
+     */
+    public long rebuild(boolean reset) {
+        if (!orderBatchJobLock.tryAcquire(OrderBatchJob.SEARCH_TRIGRAM)) {
+            throw new BusinessException(ErrorCode.ORDER_BATCH_JOB_IN_PROGRESS);
+        }
+        try {
+            if (reset) {
+                // 완료 표시를 먼저 지워 재생성 중에는 검색이 트라이그램 조건을 사용하지 않게 함
+                orderBatchJobLock.resetCompleted(OrderBatchJob.SEARCH_TRIGRAM);
+                transactionTemplate.executeWithoutResult(status -> orderSearchTrigramRepository.deleteAllInBatch());
+            }
+            long indexed = backfillTarget(OrderSearchTarget.STORE,
+                    "SELECT s.storeId, s.name FROM Store s WHERE s.storeId > :after " +
+                            "AND NOT EXISTS (SELECT 1 FROM OrderSearchTrigram g " +
+                            "WHERE g.id.targetType = :targetType AND g.id.targetId = s.storeId) ORDER BY s.storeId")
+                    + backfillTarget(OrderSearchTarget.ITEM,
+                    "SELECT i.itemId, i.name FROM Item i WHERE i.itemId > :after " +
+                            "AND NOT EXISTS (SELECT 1 FROM OrderSearchTrigram g " +
+                            "WHERE g.id.targetType = :targetType AND g.id.targetId = i.itemId) ORDER BY i.itemId");
+            orderBatchJobLock.markCompleted(OrderBatchJob.SEARCH_TRIGRAM);
+            return indexed;
+        } finally {
+            orderBatchJobLock.release(OrderBatchJob.SEARCH_TRIGRAM);
+        }
+    }
+
+    // id 기준 keyset으로 청크를 나누어 청크마다 트랜잭션을 커밋 (긴 트랜잭션 방지), 청크마다 잠금 임대 연장
+    private long backfillTarget(OrderSearchTarget targetType, String namesQuery) {
+        long indexed = 0;
+        UUID after = MIN_UUID;
+        while (true) {
+            orderBatchJobLock.extend(OrderBatchJob.SEARCH_TRIGRAM);
+            UUID cursor = after;
+            List<Object[]> rows = transactionTemplate.execute(status -> {
+                List<Object[]> names = em.createQuery(namesQuery, Object[].class)
+                        .setParameter("after", cursor)
+                        .setParameter("targetType", targetType)
+                        .setMaxResults(rebuildChunkSize)
+                        .getResultList();
+                for (Object[] row : names) {
+                    persistGrams(targetType, (UUID) row[0], (String) row[1]);
+                }
+                em.flush();
+                em.clear();
+                return names;
+            });
+            if (rows == null || rows.isEmpty()) {
+                return indexed;
+            }
+            indexed += rows.size();
+            after = (UUID) rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    private void reindex(OrderSearchTarget targetType, UUID targetId, String name) {
+        if (!enabled) {
+            return;
+        }
+        orderSearchTrigramRepository.deleteByTarget(targetType, targetId);
+        persistGrams(targetType, targetId, name);
+    }
+
+    // 식별자가 직접 할당되는 엔티티이므로 save(merge) 대신 persist로 조회 없이 insert
+    private void persistGrams(OrderSearchTarget targetType, UUID targetId, String name) {
+        for (String gram : OrderSearchTrigram.gramsOf(name)) {
+            em.persist(new OrderSearchTrigram(targetType, targetId, gram));
+        }
+    }
+}
@@ -2,34 +2,50 @@ package com.sparta.tl3p.backend.domain.order.service;
 
 import com.sparta.tl3p.backend.common.exception.BusinessException;
 import com.sparta.tl3p.backend.common.type.ErrorCode;
+import com.sparta.tl3p.backend.common.util.AccessControl;
+import com.sparta.tl3p.backend.common.util.OptimisticRetryExecutor;
+import com.sparta.tl3p.backend.domain.item.entity.Item;
+import com.sparta.tl3p.backend.domain.item.enums.ItemStatus;
 import com.sparta.tl3p.backend.domain.item.repository.ItemRepository;
 import com.sparta.tl3p.backend.domain.member.entity.Member;
 import com.sparta.tl3p.backend.domain.member.enums.Role;
 import com.sparta.tl3p.backend.domain.member.repository.MemberRepository;
 import com.sparta.tl3p.backend.domain.order.dto.OrderCancelRequestDto;
 import com.sparta.tl3p.backend.domain.order.dto.OrderDetailResponseDto;
+import com.sparta.tl3p.backend.domain.order.dto.OrderItemRequestDto;
 import com.sparta.tl3p.backend.domain.order.dto.OrderRequestDto;
 import com.sparta.tl3p.backend.domain.order.dto.OrderResponseDto;
 import com.sparta.tl3p.backend.domain.order.dto.OrderUpdateRequestDto;
 import com.sparta.tl3p.backend.domain.order.entity.Order;
+import com.sparta.tl3p.backend.domain.order.entity.OrderArchive;
 import com.sparta.tl3p.backend.domain.order.entity.OrderItem;
+import com.sparta.tl3p.backend.domain.order.enums.OrderEventType;
+import com.sparta.tl3p.backend.domain.order.repository.OrderArchiveRepository;
+import com.sparta.tl3p.backend.domain.order.repository.OrderItemArchiveRepository;
 import com.sparta.tl3p.backend.domain.order.repository.OrderRepository;
 import com.sparta.tl3p.backend.domain.payment.dto.PaymentRequestDto;
 import com.sparta.tl3p.backend.domain.payment.dto.PaymentResponseDto;
-import com.sparta.tl3p.backend.domain.payment.entity.Payment;
 import com.sparta.tl3p.backend.domain.payment.enums.PaymentMethod;
 import com.sparta.tl3p.backend.domain.payment.enums.PaymentStatus;
 import com.sparta.tl3p.backend.domain.payment.service.PaymentService;
 import com.sparta.tl3p.backend.domain.store.entity.Store;
 import com.sparta.tl3p.backend.domain.store.repository.StoreRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -41,6 +57,12 @@ public class OrderService {
     private final MemberRepository memberRepository;
     private final StoreRepository storeRepository;
     private final ItemRepository itemRepository;
+    private final OrderEventPublisher orderEventPublisher;
+    private final OptimisticRetryExecutor optimisticRetryExecutor;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final OrderItemArchiveRepository orderItemArchiveRepository;
+    private final OrderSummaryService orderSummaryService;
+    private final AccessControl accessControl;
 
     @Transactional
     public OrderResponseDto createOrder(OrderRequestDto dto, Long memberId) {
@@ -50,159 +72,146 @@ public class OrderService {
         Store store = storeRepository.findById(dto.getStoreId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
 
-        BigDecimal totalAmount = BigDecimal.ZERO;
-        if (dto.getItems() != null && !dto.getItems().isEmpty()) {
-            for (var itemDto : dto.getItems()) {
-                var item = itemRepository.findById(itemDto.getItemId())
-                        .orElseThrow(() -> new BusinessException(ErrorCode.ITEM_NOT_FOUND));
-                totalAmount = totalAmount.add(item.getPrice().multiply(BigDecimal.valueOf(itemDto.getQuantity())));
-            }
-        }
-
         Order order = new Order(dto, member, store);
         order.setCreatedAt(LocalDateTime.now());
 
+        // 장바구니 전체 상품을 IN 쿼리 한 번으로 조회한 뒤 주문 항목 생성
         if (dto.getItems() != null && !dto.getItems().isEmpty()) {
-            List<OrderItem> orderItems = dto.getItems().stream()
-                    .map(itemDto -> {
-                        var item = itemRepository.findById(itemDto.getItemId())
-                                .orElseThrow(() -> new BusinessException(ErrorCode.ITEM_NOT_FOUND));
-                        OrderItem orderItem = new OrderItem(itemDto, item);
-                        // 1번 방법: OrderItem 생성 후 현재 주문(Order)을 할당
-                        orderItem.setOrder(order);
-                        return orderItem;
-                    })
-                    .collect(Collectors.toList());
-            order.setOrderItems(orderItems);
+            Map<UUID, Item> items = findOrderableItems(dto.getItems(), dto.getStoreId());
+            for (OrderItemRequestDto itemDto : dto.getItems()) {
+                OrderItem orderItem = new OrderItem(itemDto, items.get(itemDto.getItemId()));
+                // 1번 방법: OrderItem 생성 후 현재 주문(Order)을 할당
+                orderItem.setOrder(order);
+                order.getOrderItems().add(orderItem);
+            }
         }
 
         PaymentRequestDto paymentRequestDto = new PaymentRequestDto();
-        paymentRequestDto.setAmount(totalAmount);
+        paymentRequestDto.setAmount(order.calculateTotalAmount());
         paymentRequestDto.setPaymentMethod(PaymentMethod.CARD);
 
+        // 결제 엔티티는 requestPayment에서 주문에 연결되어 주문 저장 시 함께 저장됨
         PaymentResponseDto paymentResponse = paymentService.requestPayment(order, paymentRequestDto);
         if (paymentResponse.getPaymentStatus() != PaymentStatus.SUCCESS) {
             throw new BusinessException(ErrorCode.PAYMENT_FAILED);
         }
-        Payment payment = paymentResponse.toPayment();
-        order.setPayment(payment);
 
         Order savedOrder = orderRepository.save(order);
+        orderSummaryService.recordCreated(savedOrder);
+        // 주문과 같은 트랜잭션에서 outbox에 기록 (후속 처리는 디스패처가 비동기로 전달)
+        orderEventPublisher.publish(savedOrder, OrderEventType.CREATED);
+        orderEventPublisher.publish(savedOrder, OrderEventType.PAID);
         return new OrderResponseDto(savedOrder);
     }
 
-    @Transactional
     public OrderResponseDto updateOrder(UUID orderId, OrderUpdateRequestDto dto, Long memberId) {
+        return optimisticRetryExecutor.execute(() -> doUpdateOrder(orderId, dto, memberId));
+    }
+
+    private OrderResponseDto doUpdateOrder(UUID orderId, OrderUpdateRequestDto dto, Long memberId) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-
-        if (member.getRole() == Role.CUSTOMER) {
-            if (!order.getMember().getMemberId().equals(memberId)) {
-                throw new BusinessException(ErrorCode.ACCESS_DENIED);
-            }
-            if (order.getCreatedAt().plusMinutes(5).isBefore(LocalDateTime.now())) {
-                throw new BusinessException(ErrorCode.ORDER_TIME_OUT);
-            }
-        } else if (member.getRole() == Role.OWNER) {
-            Store store = order.getStore();
-            if (!store.getMember().getMemberId().equals(memberId)) {
-                throw new BusinessException(ErrorCode.ACCESS_DENIED);
-            }
-        }
         // 관리자나 최고관리자는 전체 수정 허용
+        checkModifiable(order, memberId);
 
         // 주문의 storeRequest 업데이트
         order.setStoreRequest(dto.getStoreRequest());
 
-        // 주문 항목 업데이트: 기존 항목을 전부 제거하고 새로 추가
+        // 주문 항목 병합: 변경된 항목만 수정/추가/삭제
         if (dto.getItems() != null) {
-            // 기존 주문 항목 전체 제거
-            order.getOrderItems().clear();
-
-            // 새 항목 리스트 생성 및 주문에 추가
-            List<OrderItem> updatedItems = dto.getItems().stream()
-                    .map(itemDto -> {
-                        // itemId로 실제 상품 엔티티 조회
-                        var item = itemRepository.findById(itemDto.getItemId())
-                                .orElseThrow(() -> new BusinessException(ErrorCode.ITEM_NOT_FOUND));
-                        // 새로운 OrderItem 생성
-                        OrderItem orderItem = new OrderItem(itemDto, item);
-                        orderItem.setOrder(order);
-                        return orderItem;
-                    })
-                    .collect(Collectors.toList());
-            order.getOrderItems().addAll(updatedItems);
+            mergeOrderItems(order, dto.getItems());
         }
 
         // 변경된 주문 저장
         Order updatedOrder = orderRepository.save(order);
+        orderSummaryService.recordChanged(updatedOrder);
+        orderEventPublisher.publish(updatedOrder, OrderEventType.UPDATED);
         return new OrderResponseDto(updatedOrder);
     }
 
-    @Transactional
     public OrderResponseDto cancelOrder(UUID orderId, OrderCancelRequestDto dto, Long memberId) {
+        return optimisticRetryExecutor.execute(() -> doCancelOrder(orderId, memberId));
+    }
+
+    private OrderResponseDto doCancelOrder(UUID orderId, Long memberId) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-
-        if (member.getRole() == Role.CUSTOMER) {
-            if (!order.getMember().getMemberId().equals(memberId)) {
-                throw new BusinessException(ErrorCode.ACCESS_DENIED);
-            }
-            if (order.getCreatedAt().plusMinutes(5).isBefore(LocalDateTime.now())) {
-                throw new BusinessException(ErrorCode.ORDER_TIME_OUT);
-            }
-        } else if (member.getRole() == Role.OWNER) {
-            Store store = order.getStore();
-            if (!store.getMember().getMemberId().equals(memberId)) {
-                throw new BusinessException(ErrorCode.ACCESS_DENIED);
-            }
-        }
         // 관리자/최고관리자: 전체 접근 허용
+        checkModifiable(order, memberId);
 
         order.cancelOrder();
         Order canceledOrder = orderRepository.save(order);
+        orderSummaryService.recordChanged(canceledOrder);
+        orderEventPublisher.publish(canceledOrder, OrderEventType.CANCELLED);
         return new OrderResponseDto(canceledOrder);
     }
 
     @Transactional(readOnly = true)
     public OrderDetailResponseDto getOrderDetail(UUID orderId, Long memberId) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        return getOrderDetail(orderId, memberId, false);
+    }
 
-        if (member.getRole() == Role.CUSTOMER) {
-            if (!order.getMember().getMemberId().equals(memberId)) {
-                throw new BusinessException(ErrorCode.ACCESS_DENIED);
-            }
-        } else if (member.getRole() == Role.OWNER) {
-            Store store = order.getStore();
-            if (!store.getMember().getMemberId().equals(memberId)) {
-                throw new BusinessException(ErrorCode.ACCESS_DENIED);
+    /**
+     * 주문 상세 조회 (history가 true이면 원본에 없는 주문을 보관 테이블에서 조회)
+     */
+    @Transactional(readOnly = true)
+    public OrderDetailResponseDto getOrderDetail(UUID orderId, Long memberId, boolean history) {
+        Order order = orderRepository.findById(orderId).orElse(null);
+        if (order == null) {
+            if (!history) {
+                throw new BusinessException(ErrorCode.ORDER_NOT_FOUND);
             }
+            return getArchivedOrderDetail(orderId, memberId);
         }
         // 관리자나 최고관리자는 전체 주문 조회 가능
+        accessControl.checkOrderAccess(memberId, order.getMember().getMemberId(), order.getStore().getStoreId());
 
         return new OrderDetailResponseDto(order);
     }
 
+    private OrderDetailResponseDto getArchivedOrderDetail(UUID orderId, Long memberId) {
+        OrderArchive order = orderArchiveRepository.findById(orderId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
+        accessControl.checkOrderAccess(memberId, order.getMemberId(), order.getStoreId());
+
+        return new OrderDetailResponseDto(order, orderItemArchiveRepository.findByOrderId(orderId));
+    }
+
     @Transactional(readOnly = true)
     public List<OrderResponseDto> getUserOrders(Long memberId) {
         List<Order> orders = orderRepository.findByMemberMemberId(memberId);
         return orders.stream().map(OrderResponseDto::new).collect(Collectors.toList());
     }
 
+    // history가 true이면 원본 주문 뒤에 보관된 주문을 최신순으로 이어 붙임
     @Transactional(readOnly = true)
-    public List<OrderResponseDto> getStoreOrders(UUID storeId, Long memberId) {
-        Store store = storeRepository.findById(storeId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
-        if (!store.getMember().getMemberId().equals(memberId)) {
-            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+    public List<OrderResponseDto> getUserOrders(Long memberId, boolean history) {
+        List<OrderResponseDto> orders = getUserOrders(memberId);
+        if (!history) {
+            return orders;
         }
+        return withArchived(orders, orderArchiveRepository.findByMemberIdOrderByCreatedAtDesc(memberId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderResponseDto> getStoreOrders(UUID storeId, Long memberId, boolean history) {
+        List<OrderResponseDto> orders = getStoreOrders(storeId, memberId);
+        if (!history) {
+            return orders;
+        }
+        return withArchived(orders, orderArchiveRepository.findByStoreIdOrderByCreatedAtDesc(storeId));
+    }
+
+    private List<OrderResponseDto> withArchived(List<OrderResponseDto> orders, List<OrderArchive> archived) {
+        List<OrderResponseDto> merged = new ArrayList<>(orders.size() + archived.size());
+        merged.addAll(orders);
+        archived.forEach(order -> merged.add(new OrderResponseDto(order)));
+        return merged;
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderResponseDto> getStoreOrders(UUID storeId, Long memberId) {
+        accessControl.checkStoreOwner(storeId, memberId);
         List<Order> orders = orderRepository.findByStoreStoreId(storeId);
         return orders.stream().map(OrderResponseDto::new).collect(Collectors.toList());
     }
@@ -212,4 +221,93 @@ public class OrderService {
         List<Order> orders = orderRepository.searchOrders(memberId, storeName, productName);
         return orders.stream().map(OrderResponseDto::new).collect(Collectors.toList());
     }
+
+    @Transactional(readOnly = true)
+    public Page<OrderResponseDto> searchOrders(Long memberId, String storeName, String productName, Pageable pageable) {
+        return orderRepository.searchOrders(memberId, storeName, productName, pageable)
+                .map(OrderResponseDto::new);
+    }
+
+    // 주문 수정/취소 권한: 주문 접근 권한 + 고객은 주문 후 5분 이내만 허용
+    private void checkModifiable(Order order, Long memberId) {
+        Role role = accessControl.checkOrderAccess(
+                memberId, order.getMember().getMemberId(), order.getStore().getStoreId());
+        if (role == Role.CUSTOMER && order.getCreatedAt().plusMinutes(5).isBefore(LocalDateTime.now())) {
+            throw new BusinessException(ErrorCode.ORDER_TIME_OUT);
+        }
+    }
+
+    /**
+     * 요청 항목을 itemId 기준으로 기존 주문 항목과 비교하여 반영
+     * - 수량이 바뀐 항목은 제자리에서 수정, 새 항목만 추가, 요청에서 빠진 항목만 삭제(orphanRemoval)
+     * - 상품 조회는 추가/수량 변경 항목에 대해서만 IN 쿼리 한 번
+     */
+    private void mergeOrderItems(Order order, List<OrderItemRequestDto> itemDtos) {
+        // 같은 상품이 여러 줄로 들어오면 수량을 합산
+        Map<UUID, Integer> requested = new LinkedHashMap<>();
+        for (OrderItemRequestDto itemDto : itemDtos) {
+            requested.merge(itemDto.getItemId(), itemDto.getQuantity(), Integer::sum);
+        }
+
+        Map<UUID, OrderItem> existing = new HashMap<>();
+        Iterator<OrderItem> iterator = order.getOrderItems().iterator();
+        while (iterator.hasNext()) {
+            OrderItem orderItem = iterator.next();
+            // 프록시의 식별자 조회는 상품 로딩을 일으키지 않음
+            UUID itemId = orderItem.getItem().getItemId();
+            if (!requested.containsKey(itemId) || existing.putIfAbsent(itemId, orderItem) != null) {
+                iterator.remove();
+            }
+        }
+
+        List<OrderItemRequestDto> changed = new ArrayList<>();
+        for (Map.Entry<UUID, Integer> entry : requested.entrySet()) {
+            OrderItem orderItem = existing.get(entry.getKey());
+            if (orderItem == null || orderItem.getQuantity() != entry.getValue()) {
+                OrderItemRequestDto itemDto = new OrderItemRequestDto();
+                itemDto.setItemId(entry.getKey());
+                itemDto.setQuantity(entry.getValue());
+                changed.add(itemDto);
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, Item> items = findOrderableItems(changed, order.getStore().getStoreId());
+        for (OrderItemRequestDto itemDto : changed) {
+            Item item = items.get(itemDto.getItemId());
+            OrderItem orderItem = existing.get(itemDto.getItemId());
+            if (orderItem != null) {
+                orderItem.changeQuantity(itemDto.getQuantity(), item.getPrice());
+            } else {
+                OrderItem newOrderItem = new OrderItem(itemDto, item);
+                newOrderItem.setOrder(order);
+                order.getOrderItems().add(newOrderItem);
+            }
+        }
+    }
+
+    // 주문 상품 일괄 조회: 존재 여부, 판매 상태(ACTIVE), 가게 소속을 한 번에 검증
+    private Map<UUID, Item> findOrderableItems(List<OrderItemRequestDto> itemDtos, UUID storeId) {
+        Set<UUID> itemIds = itemDtos.stream()
+                .map(OrderItemRequestDto::getItemId)
+                .collect(Collectors.toSet());
+
+        Map<UUID, Item> items = itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(Item::getItemId, Function.identity()));
+        if (items.size() != itemIds.size()) {
+            throw new BusinessException(ErrorCode.ITEM_NOT_FOUND);
+        }
+
+        for (Item item : items.values()) {
+            if (item.getStatus() != ItemStatus.ACTIVE) {
+                throw new BusinessException(ErrorCode.ITEM_NOT_AVAILABLE);
+            }
+            if (!item.getStore().getStoreId().equals(storeId)) {
+                throw new BusinessException(ErrorCode.ITEM_STORE_MISMATCH);
+            }
+        }
+        return items;
+    }
 }
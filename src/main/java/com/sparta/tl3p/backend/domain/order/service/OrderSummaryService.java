@@ -0,0 +1,134 @@
+package com.sparta.tl3p.backend.domain.order.service;
+
+import com.sparta.tl3p.backend.common.exception.BusinessException;
+import com.sparta.tl3p.backend.common.type.ErrorCode;
+import com.sparta.tl3p.backend.domain.order.dto.OrderSummaryPageResponseDto;
+import com.sparta.tl3p.backend.domain.order.dto.OrderSummarySearchRequestDto;
+import com.sparta.tl3p.backend.domain.order.entity.Order;
+import com.sparta.tl3p.backend.domain.order.entity.OrderBatchJob;
+import com.sparta.tl3p.backend.domain.order.entity.OrderSummary;
+import com.sparta.tl3p.backend.domain.order.repository.OrderSummaryRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 회원 주문 목록 읽기 모델(p_order_summary) 갱신 및 조회
+ * - 갱신은 주문을 변경한 트랜잭션에 참여하므로 주문과 요약이 어긋난 채로 커밋되지 않는다.
+ * - 기동할 때마다 요약이 없는 주문을 청크 단위로 채운다 (중단된 백필도 다음 기동에서 이어서 채움).
+ */
+@Slf4j
+@Service
+public class OrderSummaryService {
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final OrderBatchJobLock orderBatchJobLock;
+    private final EntityManager em;
+    private final TransactionTemplate transactionTemplate;
+    private final int backfillChunkSize;
+
+    public OrderSummaryService(OrderSummaryRepository orderSummaryRepository,
+                               OrderBatchJobLock orderBatchJobLock,
+                               EntityManager em,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${order.summary.backfill-chunk-size:1000}") int backfillChunkSize) {
+        this.orderSummaryRepository = orderSummaryRepository;
+        this.orderBatchJobLock = orderBatchJobLock;
+        this.em = em;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.backfillChunkSize = backfillChunkSize;
+    }
+
+    // 새 주문: 식별자가 직접 할당되는 엔티티이므로 save(merge) 대신 persist로 조회 없이 insert
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Order order) {
+        em.persist(new OrderSummary(order));
+    }
+
+    // 수정/취소: 요약이 없으면(백필 전 주문) 새로 만든다
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChanged(Order order) {
+        orderSummaryRepository.findById(order.getOrderId())
+                .ifPresentOrElse(summary -> summary.apply(order), () -> em.persist(new OrderSummary(order)));
+    }
+
+    @Transactional(readOnly = true)
+    public OrderSummaryPageResponseDto getMemberOrders(Long memberId, OrderSummarySearchRequestDto condition) {
+        return OrderSummaryPageResponseDto.of(
+                orderSummaryRepository.findMemberOrders(memberId, condition), condition.getSize());
+    }
+
+    // 다른 인스턴스가 실행 중이면 건너뜀 (중단되면 다음 기동에서 이어서 채움)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        try {
+            long copied = backfill();
+            log.info("주문 요약 백필 완료: {}건", copied);
+        } catch (BusinessException e) {
+            log.info("주문 요약 백필을 다른 인스턴스에서 실행 중");
+        } catch (RuntimeException e) {
+            log.error("주문 요약 백필 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 요약이 없는 주문을 id 기준 keyset 청크로 복사하고 복사한 주문 수를 반환 (청크마다 커밋, 재실행 가능)
+     * - 배치 작업 잠금으로 여러 인스턴스 중 하나에서만 실행한다.
+     */
+    public long backfill() {
+        if (!orderBatchJobLock.tryAcquire(OrderBatchJob.SUMMARY_BACKFILL)) {
+            throw new BusinessException(ErrorCode.ORDER_BATCH_JOB_IN_PROGRESS);
+        }
+        try {
+            return copyMissingSummaries();
+        } finally {
+            orderBatchJobLock.release(OrderBatchJob.SUMMARY_BACKFILL);
+        }
+    }
+
+    private long copyMissingSummaries() {
+        long copied = 0;
+        UUID after = MIN_UUID;
+        while (true) {
+            orderBatchJobLock.extend(OrderBatchJob.SUMMARY_BACKFILL);
+            List<UUID> orderIds;
+            try {
+                orderIds = copyChunk(after);
+            } catch (DataIntegrityViolationException e) {
+                // NOT EXISTS 확인과 insert 사이에 아직 커밋되지 않은 주문 수정이 같은 요약을 만든 경우: 같은 구간을 다시 복사
+                log.info("주문 요약 백필 청크 충돌, 재시도: after={}", after);
+                orderIds = copyChunk(after);
+            }
+            if (orderIds == null || orderIds.isEmpty()) {
+                return copied;
+            }
+            copied += orderIds.size();
+            after = orderIds.get(orderIds.size() - 1);
+        }
+    }
+
+    private List<UUID> copyChunk(UUID after) {
+        return transactionTemplate.execute(status -> {
+            List<UUID> ids = orderSummaryRepository.findOrderIdsWithoutSummary(
+                    after, PageRequest.of(0, backfillChunkSize));
+            if (!ids.isEmpty()) {
+                orderSummaryRepository.copyFromOrders(ids);
+            }
+            return ids;
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package com.sparta.tl3p.backend.domain.order.service;
+
+import com.sparta.tl3p.backend.domain.order.dto.OrderEvent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 가게별 최근 주문 이벤트 링 버퍼 (Last-Event-ID 재연결 시 놓친 이벤트 재전송용)
+ * - outbox id는 커밋이 아니라 insert 시점에 매겨지므로 작은 id가 큰 id보다 늦게 전달될 수 있다.
+ *   그래서 id 크기가 아니라 도착(전달) 순서로 보관하고, 클라이언트가 마지막으로 받은 이벤트 뒤에 도착한 이벤트를 재전송한다.
+ * - 마지막으로 받은 이벤트가 버퍼에 없으면(밀려났거나 이 인스턴스가 받기 전) 어디까지 받았는지 알 수 없으므로 재동기화가 필요하다.
+ */
+public class StoreOrderFeedBuffer {
+
+    private final int capacity;
+    private final ArrayDeque<OrderEvent> events;
+    private long lastAccessMillis;
+
+    public StoreOrderFeedBuffer(int capacity) {
+        this.capacity = capacity;
+        this.events = new ArrayDeque<>(capacity);
+        this.lastAccessMillis = System.currentTimeMillis();
+    }
+
+    // 최소 한 번 전달되므로 이미 받은 이벤트는 false를 반환하여 중복 전송을 막는다
+    public synchronized boolean append(OrderEvent event) {
+        lastAccessMillis = System.currentTimeMillis();
+        for (OrderEvent buffered : events) {
+            if (buffered.getEventId().equals(event.getEventId())) {
+                return false;
+            }
+        }
+        if (events.size() == capacity) {
+            events.pollFirst();
+        }
+        events.addLast(event);
+        return true;
+    }
+
+    /**
+     * lastEventId 이벤트 뒤에 도착한 이벤트를 도착 순으로 반환 (id가 더 작아도 포함),
+     * lastEventId 이벤트가 버퍼에 없으면 Optional.empty()
+     */
+    public synchronized Optional<List<OrderEvent>> eventsAfter(long lastEventId) {
+        lastAccessMillis = System.currentTimeMillis();
+        Iterator<OrderEvent> iterator = events.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getEventId() == lastEventId) {
+                List<OrderEvent> missed = new ArrayList<>();
+                iterator.forEachRemaining(missed::add);
+                return Optional.of(missed);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public synchronized long lastAccessMillis() {
+        return lastAccessMillis;
+    }
+}
@@ -0,0 +1,37 @@
+package com.sparta.tl3p.backend.domain.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.tl3p.backend.domain.order.dto.OrderEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * outbox로 전달된 주문 이벤트를 Redis 채널로 발행하여 모든 인스턴스의 가게 피드 연결에 전달
+ * - 디스패처는 배치를 잠근 한 인스턴스에서만 이벤트를 전달하므로 다른 인스턴스에 연결된 점주에게는 채널로 전달한다.
+ * - Redis 장애 시 이 인스턴스의 연결에만 직접 전송 (피드는 알림이므로 outbox 재전달을 막지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreOrderFeedPublisher implements OrderEventListener {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final StoreOrderFeedService storeOrderFeedService;
+
+    @Override
+    public void onOrderEvent(OrderEvent event) {
+        if (!StoreOrderFeedService.isFeedEvent(event)) {
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(StoreOrderFeedService.FEED_CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("주문 피드 발행 실패, 로컬 연결에만 전송: eventId={}, {}", event.getEventId(), e.getMessage());
+            storeOrderFeedService.broadcast(event);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.sparta.tl3p.backend.domain.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.tl3p.backend.common.util.AccessControl;
+import com.sparta.tl3p.backend.domain.order.dto.OrderEvent;
+import com.sparta.tl3p.backend.domain.order.enums.OrderEventType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * 가게별 주문 SSE 피드
+ * - 연결은 비동기 요청(SseEmitter)으로 유지되어 연결마다 요청 스레드를 점유하지 않는다.
+ * - 이벤트는 outbox 디스패처 → Redis 채널 → 각 인스턴스의 broadcast 순으로 전달되며,
+ *   이벤트마다 JSON 직렬화 한 번으로 해당 가게의 모든 연결에 보낸다 (연결별 DB 조회 없음).
+ * - broadcast는 버퍼에 넣고 연결별 대기열에 쌓기만 하며, 실제 전송은 크기가 제한된 전송 스레드 풀에서 연결마다 순서대로 한다.
+ *   대기열이 가득 찬 느린 연결은 끊는다 (StoreOrderFeedSubscriber).
+ * - Last-Event-ID로 재연결하면 가게별 링 버퍼에서 그 이벤트 뒤에 도착한 이벤트를 재전송하고,
+ *   버퍼로 빠짐없이 재전송할 수 없으면 resync 이벤트를 보내 목록을 한 번 다시 조회하게 한다.
+ */
+@Slf4j
+@Service
+public class StoreOrderFeedService {
+
+    public static final String FEED_CHANNEL = "order:store-feed";
+    private static final Set<OrderEventType> FEED_EVENT_TYPES =
+            EnumSet.of(OrderEventType.CREATED, OrderEventType.UPDATED, OrderEventType.CANCELLED);
+
+    private final AccessControl accessControl;
+    private final ObjectMapper objectMapper;
+    private final Executor sendExecutor;
+    private final long emitterTimeoutMillis;
+    private final int bufferSize;
+    private final long idleBufferMillis;
+    private final int maxPendingEvents;
+
+    private final Map<UUID, List<StoreOrderFeedSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Map<UUID, StoreOrderFeedBuffer> buffers = new ConcurrentHashMap<>();
+
+    public StoreOrderFeedService(AccessControl accessControl,
+                                 ObjectMapper objectMapper,
+                                 @Qualifier("orderFeedSendExecutor") Executor sendExecutor,
+                                 @Value("${order.feed.emitter-timeout-millis:1800000}") long emitterTimeoutMillis,
+                                 @Value("${order.feed.buffer-size:50}") int bufferSize,
+                                 @Value("${order.feed.idle-buffer-millis:600000}") long idleBufferMillis,
+                                 @Value("${order.feed.max-pending-events:100}") int maxPendingEvents) {
+        this.accessControl = accessControl;
+        this.objectMapper = objectMapper;
+        this.sendExecutor = sendExecutor;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.bufferSize = bufferSize;
+        this.idleBufferMillis = idleBufferMillis;
+        this.maxPendingEvents = maxPendingEvents;
+    }
+
+    public static boolean isFeedEvent(OrderEvent event) {
+        return event.getStoreId() != null && FEED_EVENT_TYPES.contains(event.getEventType());
+    }
+
+    @Transactional(readOnly = true)
+    public void verifyStoreOwner(UUID storeId, Long memberId) {
+        accessControl.checkStoreOwner(storeId, memberId);
+    }
+
+    public SseEmitter subscribe(UUID storeId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        register(storeId, emitter, lastEventId);
+        return emitter;
+    }
+
+    /**
+     * 연결을 등록한 뒤 재전송 (등록 먼저: 그 사이 도착한 이벤트는 중복될 수 있어도 누락되지 않음, 클라이언트는 id로 중복 제거)
+     * - 등록 후 도착한 이벤트는 연결 대기열에 쌓였다가 재전송 이벤트 뒤에 전송된다.
+     */
+    public void register(UUID storeId, SseEmitter emitter, Long lastEventId) {
+        StoreOrderFeedSubscriber subscriber = new StoreOrderFeedSubscriber(emitter, sendExecutor, maxPendingEvents,
+                closed -> remove(storeId, closed));
+        // 추가도 remove와 같은 compute 안에서 수행 (마지막 연결 제거로 빈 목록이 지워지는 중에 추가되면 연결이 유실됨)
+        subscribers.compute(storeId, (id, current) -> {
+            List<StoreOrderFeedSubscriber> target = current != null ? current : new CopyOnWriteArrayList<>();
+            target.add(subscriber);
+            return target;
+        });
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        if (lastEventId == null) {
+            subscriber.start(List.of(SseEmitter.event().name("connected").data("{}", MediaType.APPLICATION_JSON)));
+            return;
+        }
+
+        Optional<List<OrderEvent>> missed = buffer(storeId).eventsAfter(lastEventId);
+        if (missed.isEmpty()) {
+            subscriber.start(List.of(SseEmitter.event().name("resync").data("{}", MediaType.APPLICATION_JSON)));
+            return;
+        }
+        List<SseEmitter.SseEventBuilder> replay = new ArrayList<>();
+        for (OrderEvent event : missed.get()) {
+            String json = toJson(event);
+            if (json != null) {
+                replay.add(toSseEvent(event, json));
+            }
+        }
+        subscriber.start(replay);
+    }
+
+    /**
+     * 이 인스턴스에 연결된 해당 가게의 모든 피드에 이벤트 전송 (이미 받은 이벤트는 무시)
+     */
+    public void broadcast(OrderEvent event) {
+        if (!isFeedEvent(event)) {
+            return;
+        }
+        if (!buffer(event.getStoreId()).append(event)) {
+            return;
+        }
+
+        List<StoreOrderFeedSubscriber> storeSubscribers = subscribers.get(event.getStoreId());
+        if (storeSubscribers == null || storeSubscribers.isEmpty()) {
+            return;
+        }
+        String json = toJson(event);
+        if (json == null) {
+            return;
+        }
+        for (StoreOrderFeedSubscriber subscriber : storeSubscribers) {
+            if (!subscriber.offer(toSseEvent(event, json))) {
+                log.debug("주문 피드 연결 종료(대기열 초과 또는 끊김): storeId={}", event.getStoreId());
+            }
+        }
+    }
+
+    public int connectionCount() {
+        return subscribers.values().stream().mapToInt(List::size).sum();
+    }
+
+    // 프록시/로드밸런서의 유휴 연결 종료를 막고 끊어진 연결을 정리, 구독자 없는 오래된 버퍼 제거
+    @Scheduled(fixedDelayString = "${order.feed.heartbeat-millis:25000}")
+    public void heartbeat() {
+        subscribers.forEach((storeId, storeSubscribers) -> {
+            for (StoreOrderFeedSubscriber subscriber : storeSubscribers) {
+                subscriber.offer(SseEmitter.event().comment("ping"));
+            }
+        });
+
+        long idleBefore = System.currentTimeMillis() - idleBufferMillis;
+        buffers.entrySet().removeIf(entry -> !subscribers.containsKey(entry.getKey())
+                && entry.getValue().lastAccessMillis() < idleBefore);
+    }
+
+    private StoreOrderFeedBuffer buffer(UUID storeId) {
+        return buffers.computeIfAbsent(storeId, id -> new StoreOrderFeedBuffer(bufferSize));
+    }
+
+    private SseEmitter.SseEventBuilder toSseEvent(OrderEvent event, String json) {
+        return SseEmitter.event()
+                .id(String.valueOf(event.getEventId()))
+                .name(event.getEventType().name().toLowerCase(Locale.ROOT))
+                .data(json, MediaType.APPLICATION_JSON);
+    }
+
+    private String toJson(OrderEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.warn("주문 피드 직렬화 실패: eventId={}", event.getEventId());
+            return null;
+        }
+    }
+
+    private void remove(UUID storeId, StoreOrderFeedSubscriber subscriber) {
+        subscribers.computeIfPresent(storeId, (id, current) -> {
+            current.remove(subscriber);
+            return current.isEmpty() ? null : current;
+        });
+    }
+}
@@ -0,0 +1,140 @@
+package com.sparta.tl3p.backend.domain.order.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * 가게 피드 연결 하나의 전송 대기열
+ * - 이벤트는 도착 순으로 쌓이고 전송 스레드 풀에서 연결마다 한 번에 하나씩 순서대로 보낸다 (broadcast 스레드는 전송을 기다리지 않음).
+ * - 느린 연결은 대기열이 maxPending을 넘으면 끊는다. 클라이언트는 Last-Event-ID로 재연결하여 버퍼에서 이어 받는다.
+ * - 시작 전(재전송 목록 계산 중)에 도착한 이벤트는 재전송 이벤트 뒤에 보낸다.
+ */
+public class StoreOrderFeedSubscriber {
+
+    private final SseEmitter emitter;
+    private final Executor executor;
+    private final int maxPending;
+    private final Consumer<StoreOrderFeedSubscriber> onClose;
+
+    private final ArrayDeque<SseEmitter.SseEventBuilder> pending = new ArrayDeque<>();
+    private boolean started;
+    private boolean draining;
+    private boolean closed;
+
+    public StoreOrderFeedSubscriber(SseEmitter emitter, Executor executor, int maxPending,
+                                    Consumer<StoreOrderFeedSubscriber> onClose) {
+        this.emitter = emitter;
+        this.executor = executor;
+        this.maxPending = maxPending;
+        this.onClose = onClose;
+    }
+
+    // 대기열이 가득 찼거나 이미 닫힌 연결이면 false (연결은 닫힘)
+    public boolean offer(SseEmitter.SseEventBuilder event) {
+        synchronized (this) {
+            if (closed) {
+                return false;
+            }
+            if (pending.size() >= maxPending) {
+                markClosed();
+            } else {
+                pending.addLast(event);
+            }
+        }
+        launch();
+        return isOpen();
+    }
+
+    // 재전송(또는 connected/resync) 이벤트를 대기열 앞에 두고 전송 시작
+    public void start(List<SseEmitter.SseEventBuilder> first) {
+        synchronized (this) {
+            for (int i = first.size() - 1; i >= 0; i--) {
+                pending.addFirst(first.get(i));
+            }
+            started = true;
+        }
+        launch();
+    }
+
+    // 이미 종료된 연결(완료/타임아웃/오류): 남은 이벤트를 버림
+    public synchronized void close() {
+        markClosed();
+    }
+
+    public synchronized boolean isOpen() {
+        return !closed;
+    }
+
+    private void launch() {
+        synchronized (this) {
+            if (!started || draining) {
+                return;
+            }
+            if (pending.isEmpty() && !closed) {
+                return;
+            }
+            draining = true;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // 전송 스레드 풀이 포화: 연결을 끊어 재연결 후 버퍼에서 이어 받게 한다
+            synchronized (this) {
+                draining = false;
+                markClosed();
+            }
+            completeQuietly();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            SseEmitter.SseEventBuilder event;
+            synchronized (this) {
+                if (closed) {
+                    draining = false;
+                    break;
+                }
+                event = pending.pollFirst();
+                if (event == null) {
+                    draining = false;
+                    return;
+                }
+            }
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                // 끊어진 연결: 비동기 요청 종료는 컨테이너의 오류 처리에 맡김
+                synchronized (this) {
+                    draining = false;
+                    markClosed();
+                }
+                return;
+            }
+        }
+        completeQuietly();
+    }
+
+    private void markClosed() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pending.clear();
+        onClose.accept(this);
+    }
+
+    private void completeQuietly() {
+        try {
+            emitter.complete();
+        } catch (RuntimeException ignored) {
+            // 이미 종료된 연결
+        }
+    }
+}
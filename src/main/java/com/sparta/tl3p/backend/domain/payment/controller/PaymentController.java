@@ -2,13 +2,14 @@ package com.sparta.tl3p.backend.domain.payment.controller;
 
 import com.sparta.tl3p.backend.common.dto.SuccessResponseDto;
 import com.sparta.tl3p.backend.common.type.ResponseCode;
+import com.sparta.tl3p.backend.domain.payment.dto.PaymentPageResponseDto;
 import com.sparta.tl3p.backend.domain.payment.dto.PaymentResponseDto;
+import com.sparta.tl3p.backend.domain.payment.dto.PaymentSearchRequestDto;
 import com.sparta.tl3p.backend.domain.payment.service.PaymentService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -40,12 +41,13 @@ public class PaymentController {
      * GET /api/v1/payments?memberId={memberId}  -> 멤버별 결제 내역 조회
      * GET /api/v1/payments?storeId={storeId}    -> 가게별 결제 내역 조회
      *
+     * 선택 파라미터: from, to (결제일 기간), size, cursorDate + cursorId (이전 응답의 nextCursor 값)
      * 파라미터가 둘 다 없는 경우에는 에러를 반환합니다.
      */
     @GetMapping
-    public ResponseEntity<SuccessResponseDto> getPayments(
-            @RequestParam(required = false) Long memberId,
-            @RequestParam(required = false) UUID storeId) {
+    public ResponseEntity<SuccessResponseDto> getPayments(@ModelAttribute PaymentSearchRequestDto condition) {
+        Long memberId = condition.getMemberId();
+        UUID storeId = condition.getStoreId();
 
         if (memberId != null && storeId != null) {
             return ResponseEntity.badRequest().body(
@@ -56,10 +58,13 @@ public class PaymentController {
                             .build()
             );
         } else if (memberId != null) {
-            List<PaymentResponseDto> payments = paymentService.getPaymentsByMemberId(memberId);
+            PaymentPageResponseDto page = paymentService.getPaymentsByMemberId(memberId, condition);
             var data = new HashMap<String, Object>();
             data.put("memberId", memberId);
-            data.put("payments", payments);
+            data.put("payments", page.getPayments());
+            data.put("hasNext", page.isHasNext());
+            data.put("nextCursorDate", page.getNextCursorDate());
+            data.put("nextCursorId", page.getNextCursorId());
             return ResponseEntity.ok(
                     SuccessResponseDto.builder()
                             .code(ResponseCode.NS)
@@ -68,10 +73,13 @@ public class PaymentController {
                             .build()
             );
         } else if (storeId != null) {
-            List<PaymentResponseDto> payments = paymentService.getPaymentsByStoreId(storeId);
+            PaymentPageResponseDto page = paymentService.getPaymentsByStoreId(storeId, condition);
             var data = new HashMap<String, Object>();
             data.put("storeId", storeId);
-            data.put("payments", payments);
+            data.put("payments", page.getPayments());
+            data.put("hasNext", page.isHasNext());
+            data.put("nextCursorDate", page.getNextCursorDate());
+            data.put("nextCursorId", page.getNextCursorId());
             return ResponseEntity.ok(
                     SuccessResponseDto.builder()
                             .code(ResponseCode.NS)
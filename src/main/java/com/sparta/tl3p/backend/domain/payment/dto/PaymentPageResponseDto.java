@@ -0,0 +1,32 @@
+package com.sparta.tl3p.backend.domain.payment.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+public class PaymentPageResponseDto {
+    private final List<PaymentResponseDto> payments;
+    private final int                      pageSize;
+    private final boolean                  hasNext;
+    private final LocalDateTime            nextCursorDate;
+    private final UUID                     nextCursorId;
+
+    public static PaymentPageResponseDto of(List<PaymentResponseDto> fetched, int pageSize) {
+        boolean hasNext = fetched.size() > pageSize;
+        List<PaymentResponseDto> payments = hasNext ? fetched.subList(0, pageSize) : fetched;
+        PaymentResponseDto last = payments.isEmpty() ? null : payments.get(payments.size() - 1);
+
+        return PaymentPageResponseDto.builder()
+                .payments(payments)
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .nextCursorDate(hasNext ? last.getPaymentDate() : null)
+                .nextCursorId(hasNext ? last.getPaymentId() : null)
+                .build();
+    }
+}
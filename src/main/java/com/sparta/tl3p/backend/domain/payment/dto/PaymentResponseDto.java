@@ -19,6 +19,16 @@ public class PaymentResponseDto {
     private PaymentMethod paymentMethod;
     private LocalDateTime paymentDate;
 
+    // QueryDSL 프로젝션 조회용 생성자
+    public PaymentResponseDto(UUID paymentId, PaymentStatus paymentStatus, BigDecimal amount,
+                              PaymentMethod paymentMethod, LocalDateTime paymentDate) {
+        this.paymentId = paymentId;
+        this.paymentStatus = paymentStatus;
+        this.amount = amount;
+        this.paymentMethod = paymentMethod;
+        this.paymentDate = paymentDate;
+    }
+
     public PaymentResponseDto(Payment payment) {
         this.paymentId = payment.getPaymentId();
         this.paymentStatus = payment.getPaymentStatus();
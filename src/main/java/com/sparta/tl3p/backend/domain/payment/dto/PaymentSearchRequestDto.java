@@ -0,0 +1,46 @@
+package com.sparta.tl3p.backend.domain.payment.dto;
+
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentSearchRequestDto {
+    private Long memberId;
+
+    private UUID storeId;
+
+    // 조회 기간 (from 이상, to 미만)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    // 키셋 커서: 이전 페이지 마지막 결제의 (paymentDate, paymentId)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime cursorDate;
+
+    private UUID cursorId;
+
+    @Builder.Default
+    private Integer size = 20;
+
+    public int getSize() {
+        return Optional.ofNullable(size)
+                .filter(s -> Set.of(10, 20, 50, 100).contains(s))
+                .orElse(20);
+    }
+
+    public boolean hasCursor() {
+        return cursorDate != null && cursorId != null;
+    }
+}
@@ -12,7 +12,10 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "p_payment")
+@Table(name = "p_payment", indexes = {
+        @Index(name = "idx_payment_store_date", columnList = "store_id, payment_date, payment_id"),
+        @Index(name = "idx_payment_member_date", columnList = "member_id, payment_date, payment_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -38,6 +41,13 @@ public class Payment extends BaseEntity {
     @Column(name = "payment_date")
     private LocalDateTime paymentDate;
 
+    /** 가게별/회원별 결제 내역 조회용 비정규화 컬럼 (Order 조인 없이 인덱스로 조회) */
+    @Column(name = "store_id")
+    private UUID storeId;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
     /** 1:1 주문 결제 매핑 */
     @OneToOne
     @JoinColumn(name = "order_id", unique = true)
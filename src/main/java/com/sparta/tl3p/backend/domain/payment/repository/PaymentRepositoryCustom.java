@@ -0,0 +1,11 @@
+package com.sparta.tl3p.backend.domain.payment.repository;
+
+import com.sparta.tl3p.backend.domain.payment.dto.PaymentResponseDto;
+import com.sparta.tl3p.backend.domain.payment.dto.PaymentSearchRequestDto;
+
+import java.util.List;
+
+public interface PaymentRepositoryCustom {
+    // 다음 페이지 존재 여부 판단을 위해 size + 1 건까지 조회
+    List<PaymentResponseDto> searchPayments(PaymentSearchRequestDto condition);
+}
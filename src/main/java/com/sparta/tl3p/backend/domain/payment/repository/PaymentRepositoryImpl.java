@@ -0,0 +1,55 @@
+package com.sparta.tl3p.backend.domain.payment.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.tl3p.backend.domain.payment.dto.PaymentResponseDto;
+import com.sparta.tl3p.backend.domain.payment.dto.PaymentSearchRequestDto;
+import com.sparta.tl3p.backend.domain.payment.entity.QPayment;
+import jakarta.persistence.EntityManager;
+
+import java.util.List;
+
+public class PaymentRepositoryImpl implements PaymentRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    public PaymentRepositoryImpl(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    @Override
+    public List<PaymentResponseDto> searchPayments(PaymentSearchRequestDto condition) {
+        QPayment payment = QPayment.payment;
+
+        // (store_id | member_id, payment_date, payment_id) 인덱스 범위 스캔으로 처리되도록
+        // 조건과 정렬 순서를 인덱스 컬럼 순서에 맞춘다.
+        return queryFactory
+                .select(Projections.constructor(PaymentResponseDto.class,
+                        payment.paymentId,
+                        payment.paymentStatus,
+                        payment.amount,
+                        payment.paymentMethod,
+                        payment.paymentDate))
+                .from(payment)
+                .where(
+                        condition.getStoreId() != null ? payment.storeId.eq(condition.getStoreId()) : null,
+                        condition.getMemberId() != null ? payment.memberId.eq(condition.getMemberId()) : null,
+                        condition.getFrom() != null ? payment.paymentDate.goe(condition.getFrom()) : null,
+                        condition.getTo() != null ? payment.paymentDate.lt(condition.getTo()) : null,
+                        cursorCondition(payment, condition)
+                )
+                .orderBy(payment.paymentDate.desc(), payment.paymentId.desc())
+                .limit(condition.getSize() + 1L)
+                .fetch();
+    }
+
+    private BooleanExpression cursorCondition(QPayment payment, PaymentSearchRequestDto condition) {
+        if (!condition.hasCursor()) {
+            return null;
+        }
+        return payment.paymentDate.lt(condition.getCursorDate())
+                .or(payment.paymentDate.eq(condition.getCursorDate())
+                        .and(payment.paymentId.lt(condition.getCursorId())));
+    }
+}
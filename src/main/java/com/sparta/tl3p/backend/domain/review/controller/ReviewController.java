@@ -1,7 +1,10 @@
 package com.sparta.tl3p.backend.domain.review.controller;
 
+import com.sparta.tl3p.backend.common.dto.PageResponseDto;
+import com.sparta.tl3p.backend.common.dto.ResourceVersion;
 import com.sparta.tl3p.backend.common.dto.SuccessResponseDto;
 import com.sparta.tl3p.backend.common.type.ResponseCode;
+import com.sparta.tl3p.backend.common.util.ConditionalGet;
 import com.sparta.tl3p.backend.domain.member.entity.CustomUserDetails;
 import com.sparta.tl3p.backend.domain.review.dto.ReviewCreationRequestDto;
 import com.sparta.tl3p.backend.domain.review.dto.ReviewResponseDto;
@@ -12,6 +15,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -60,31 +64,43 @@ public class ReviewController {
     public ResponseEntity<SuccessResponseDto> searchReviews(
             @RequestParam(required = false) UUID storeId,
             @RequestParam(required = false) String query,
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
-        List<ReviewResponseDto> responseDtos = reviewService.searchReviews(storeId, query);
-        return ResponseEntity.ok(
+            @RequestParam(required = false) Integer page,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest) {
+        // page 파라미터가 있으면 페이지 단위로 조회, 조회한 목록으로 검증자를 만들어 재검증 (count는 페이지 조회에서만)
+        Object data;
+        ResourceVersion version;
+        if (page != null) {
+            PageResponseDto<ReviewResponseDto> pageData =
+                    PageResponseDto.of(reviewService.searchReviews(storeId, query, PageResponseDto.pageable(page, size)));
+            data = pageData;
+            version = ReviewResponseDto.listVersion(pageData.getContent(), pageData.getTotalElements(), pageData.isHasNext());
+        } else {
+            List<ReviewResponseDto> reviews = reviewService.searchReviews(storeId, query);
+            data = reviews;
+            version = ReviewResponseDto.listVersion(reviews);
+        }
+        return ConditionalGet.respond(webRequest, version, () ->
                 SuccessResponseDto.builder()
                         .code(ResponseCode.NS)
                         .message("리뷰 검색 성공")
-                        .data(responseDtos)
-                        .build()
-        );
-
+                        .data(data)
+                        .build());
     }
 
     @GetMapping("/{reviewId}")
     @PreAuthorize("hasAnyAuthority('ROLE_CUSTOMER','ROLE_OWNER','ROLE_MANAGER')")
     public ResponseEntity<SuccessResponseDto> findReview(
             @PathVariable UUID reviewId,
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
-        ReviewResponseDto responseDto = reviewService.findReview(reviewId);
-        return ResponseEntity.ok(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, reviewService.getReviewVersion(reviewId), () ->
                 SuccessResponseDto.builder()
                         .code(ResponseCode.NS)
                         .message("리뷰 단건 조회 성공")
-                        .data(responseDto)
-                        .build()
-        );
+                        .data(reviewService.findReview(reviewId))
+                        .build());
     }
 
     @PatchMapping("/{reviewId}")
@@ -1,7 +1,10 @@
 package com.sparta.tl3p.backend.domain.review.controller;
 
+import com.sparta.tl3p.backend.common.dto.PageResponseDto;
+import com.sparta.tl3p.backend.common.dto.ResourceVersion;
 import com.sparta.tl3p.backend.common.dto.SuccessResponseDto;
 import com.sparta.tl3p.backend.common.type.ResponseCode;
+import com.sparta.tl3p.backend.common.util.ConditionalGet;
 import com.sparta.tl3p.backend.domain.member.entity.CustomUserDetails;
 import com.sparta.tl3p.backend.domain.review.dto.ReviewResponseDto;
 import com.sparta.tl3p.backend.domain.review.service.ReviewService;
@@ -13,6 +16,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -27,14 +31,30 @@ public class ReviewOwnerController {
     @PreAuthorize("hasAuthority('ROLE_CUSTOMER')")
     public ResponseEntity<SuccessResponseDto> searchOwnerReviews(
             @RequestParam(required = false) UUID storeId,
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
-        List<ReviewResponseDto> responseDtos = reviewService.searchOwnerReviews(storeId,userDetails.getMemberId());
-        return ResponseEntity.ok(SuccessResponseDto
-                .builder()
-                .code(ResponseCode.NS)
-                .message("내 리뷰 검색 성공")
-                .data(responseDtos)
-                .build());
+            @RequestParam(required = false) Integer page,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest) {
+        Long memberId = userDetails.getMemberId();
+        Object data;
+        ResourceVersion version;
+        if (page != null) {
+            PageResponseDto<ReviewResponseDto> pageData =
+                    PageResponseDto.of(reviewService.searchOwnerReviews(storeId, memberId, PageResponseDto.pageable(page, size)));
+            data = pageData;
+            version = ReviewResponseDto.listVersion(pageData.getContent(), pageData.getTotalElements(), pageData.isHasNext());
+        } else {
+            List<ReviewResponseDto> reviews = reviewService.searchOwnerReviews(storeId, memberId);
+            data = reviews;
+            version = ReviewResponseDto.listVersion(reviews);
+        }
+        return ConditionalGet.respond(webRequest, version, () ->
+                SuccessResponseDto
+                        .builder()
+                        .code(ResponseCode.NS)
+                        .message("내 리뷰 검색 성공")
+                        .data(data)
+                        .build());
     }
 
 
@@ -0,0 +1,28 @@
+package com.sparta.tl3p.backend.domain.review.dto;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 리뷰 목록 조회용 프로젝션 (엔티티 로딩 없이 필요한 컬럼만 조회)
+ */
+@Getter
+public class ReviewProjectionDto {
+    private final UUID reviewId;
+    private final UUID orderId;
+    private final String nickname;
+    private final String storeName;
+    private final String content;
+    private final Double score;
+
+    public ReviewProjectionDto(UUID reviewId, UUID orderId, String nickname, String storeName,
+                               String content, Double score) {
+        this.reviewId = reviewId;
+        this.orderId = orderId;
+        this.nickname = nickname;
+        this.storeName = storeName;
+        this.content = content;
+        this.score = score;
+    }
+}
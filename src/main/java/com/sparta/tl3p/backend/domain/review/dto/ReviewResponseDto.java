@@ -1,5 +1,6 @@
 package com.sparta.tl3p.backend.domain.review.dto;
 
+import com.sparta.tl3p.backend.common.dto.ResourceVersion;
 import com.sparta.tl3p.backend.domain.item.enums.ItemStatus;
 import com.sparta.tl3p.backend.domain.order.entity.OrderItem;
 import com.sparta.tl3p.backend.domain.review.entity.Review;
@@ -8,6 +9,7 @@ import lombok.Getter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Getter
@@ -29,10 +31,39 @@ public class ReviewResponseDto {
 
         this.items = new ArrayList<>();
         for (OrderItem orderItem : review.getOrder().getOrderItems()) {
-            if (orderItem.getItem().getStatus() == ItemStatus.ACTIVE) {
+            // 삭제된 상품은 fetch join 시 null로 조회될 수 있음
+            if (orderItem.getItem() != null && orderItem.getItem().getStatus() == ItemStatus.ACTIVE) {
                 this.items.add(ReviewItemResponseDto.of(orderItem.getItem()));
             }
         }
     }
 
+    // 프로젝션 조회 결과와 일괄 조회한 상품 목록으로 생성
+    public ReviewResponseDto(ReviewProjectionDto projection, List<ReviewItemResponseDto> items) {
+        this.reviewId = projection.getReviewId();
+        this.nickname = projection.getNickname();
+        this.storeName = projection.getStoreName();
+        this.content = projection.getContent();
+        this.score = projection.getScore();
+        this.items = items;
+    }
+
+    // 조건부 GET 검증자: 조회한 리뷰 행들의 표시 값과 페이지 정보로 생성
+    public static ResourceVersion listVersion(List<ReviewResponseDto> reviews, Object... pageTokens) {
+        List<String> rows = reviews.stream()
+                .map(ReviewResponseDto::versionToken)
+                .toList();
+        return ResourceVersion.ofContent("reviews", rows, pageTokens);
+    }
+
+    private String versionToken() {
+        StringBuilder token = new StringBuilder()
+                .append(reviewId).append(':').append(score).append(':')
+                .append(Objects.hash(nickname, storeName, content));
+        for (ReviewItemResponseDto item : items) {
+            token.append(':').append(item.getItemId())
+                    .append('/').append(Objects.hash(item.getItemName(), item.getDescription()));
+        }
+        return token.toString();
+    }
 }
@@ -1,6 +1,7 @@
 package com.sparta.tl3p.backend.domain.review.entity;
 
 import com.sparta.tl3p.backend.common.audit.BaseEntity;
+import com.sparta.tl3p.backend.common.util.UuidV7Id;
 import com.sparta.tl3p.backend.domain.order.entity.Order;
 import com.sparta.tl3p.backend.domain.store.entity.Store;
 import jakarta.persistence.*;
@@ -17,7 +18,7 @@ import java.util.UUID;
 public class Review extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID reviewId;
 
     @Column(nullable = false)
@@ -1,13 +1,25 @@
 package com.sparta.tl3p.backend.domain.review.repository;
 
-import com.sparta.tl3p.backend.domain.review.entity.Review;
+import com.sparta.tl3p.backend.common.dto.ResourceVersion;
+import com.sparta.tl3p.backend.domain.review.dto.ReviewResponseDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface ReviewCustomRepository {
 
-    List<Review> searchReviews(UUID storeId, String query);
+    List<ReviewResponseDto> searchReviews(UUID storeId, String query);
 
-    List<Review> searchOwnerReviews(UUID storeId, Long memberId);
+    List<ReviewResponseDto> searchOwnerReviews(UUID storeId, Long memberId);
+
+    // 페이지 단위 조회: 리뷰 행은 DB에서 limit, 상품은 페이지의 주문 ID로 일괄 조회
+    Page<ReviewResponseDto> searchReviews(UUID storeId, String query, Pageable pageable);
+
+    Page<ReviewResponseDto> searchOwnerReviews(UUID storeId, Long memberId, Pageable pageable);
+
+    // 조건부 GET 검증용: 리뷰 행을 조회하지 않고 수정 시각만 조회
+    Optional<ResourceVersion> findReviewVersion(UUID reviewId);
 }
@@ -1,74 +1,191 @@
 package com.sparta.tl3p.backend.domain.review.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.tl3p.backend.common.dto.ResourceVersion;
 import com.sparta.tl3p.backend.domain.item.entity.QItem;
+import com.sparta.tl3p.backend.domain.item.enums.ItemStatus;
 import com.sparta.tl3p.backend.domain.member.entity.QMember;
 import com.sparta.tl3p.backend.domain.order.entity.QOrder;
 import com.sparta.tl3p.backend.domain.order.entity.QOrderItem;
+import com.sparta.tl3p.backend.domain.review.dto.ReviewItemResponseDto;
+import com.sparta.tl3p.backend.domain.review.dto.ReviewProjectionDto;
+import com.sparta.tl3p.backend.domain.review.dto.ReviewResponseDto;
 import com.sparta.tl3p.backend.domain.review.entity.QReview;
-import com.sparta.tl3p.backend.domain.review.entity.Review;
 import com.sparta.tl3p.backend.domain.review.entity.ReviewStatus;
 import com.sparta.tl3p.backend.domain.store.entity.QStore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+/**
+ * 리뷰 목록은 엔티티 대신 프로젝션으로 조회한다.
+ * 1) 리뷰 + 주문 + 회원 + 가게 컬럼을 한 번에 조회 (to-one 조인만 사용하므로 limit이 DB에서 적용됨)
+ * 2) 조회된 주문 ID로 판매중(ACTIVE) 상품을 IN 쿼리 한 번으로 조회
+ * 3) 페이지 조회 시에만 count 쿼리
+ */
 @Repository
 @RequiredArgsConstructor
 public class ReviewCustomRepositoryImpl implements ReviewCustomRepository{
     private final JPAQueryFactory queryFactory;
 
+    private final QReview qReview = QReview.review;
+    private final QOrder qOrder = QOrder.order;
+    private final QMember qMember = QMember.member;
+    private final QStore qStore = QStore.store;
+
     @Override
-    public List<Review> searchReviews(UUID storeId, String query) {
-        QReview qReview = QReview.review;
-        QStore qStore = QStore.store;
-        QOrder qOrder = QOrder.order;
-        QOrderItem qOrderItem = QOrderItem.orderItem;
-        QItem qItem = QItem.item;
+    public List<ReviewResponseDto> searchReviews(UUID storeId, String query) {
+        return fetchReviewResponses(searchConditions(storeId, query), null);
+    }
 
-        return queryFactory
-                .selectDistinct(qReview)
-                .from(qReview)
-                .join(qReview.order, qOrder).fetchJoin()
-                .join(qOrder.orderItems, qOrderItem).fetchJoin()
-                .join(qOrderItem.item, qItem)
-                .join(qReview.store, qStore)
-                .where(
-                        qReview.status.notIn(ReviewStatus.DELETED),
-                        storeId != null ? qStore.storeId.eq(storeId) : null,
-                        query != null ? qItem.name.contains(query) : null
-                )
-                .orderBy(qReview.createdAt.asc())
-                .fetch();
+    @Override
+    public List<ReviewResponseDto> searchOwnerReviews(UUID storeId, Long memberId) {
+        return fetchReviewResponses(ownerConditions(storeId, memberId), null);
     }
 
     @Override
-    public List<Review> searchOwnerReviews(UUID storeId, Long memberId) {
-        QReview qReview = QReview.review;
-        QStore qStore = QStore.store;
-        QOrder qOrder = QOrder.order;
+    public Page<ReviewResponseDto> searchReviews(UUID storeId, String query, Pageable pageable) {
+        return fetchReviewPage(searchConditions(storeId, query), pageable);
+    }
+
+    @Override
+    public Page<ReviewResponseDto> searchOwnerReviews(UUID storeId, Long memberId, Pageable pageable) {
+        return fetchReviewPage(ownerConditions(storeId, memberId), pageable);
+    }
+
+    @Override
+    public Optional<ResourceVersion> findReviewVersion(UUID reviewId) {
+        Tuple row = queryFactory.select(qReview.reviewId, qReview.updatedAt)
+                .from(qReview)
+                .where(qReview.reviewId.eq(reviewId), qReview.status.notIn(ReviewStatus.DELETED))
+                .fetchOne();
+        if (row == null) {
+            return Optional.empty();
+        }
+        LocalDateTime updatedAt = row.get(qReview.updatedAt);
+        return Optional.of(ResourceVersion.of("review", updatedAt, updatedAt));
+    }
+
+    private Predicate[] searchConditions(UUID storeId, String query) {
+        return new Predicate[]{
+                qReview.status.notIn(ReviewStatus.DELETED),
+                storeId != null ? qStore.storeId.eq(storeId) : null,
+                query != null ? orderHasItemNamed(qOrder, query) : null
+        };
+    }
+
+    private Predicate[] ownerConditions(UUID storeId, Long memberId) {
+        return new Predicate[]{
+                qReview.status.notIn(ReviewStatus.DELETED),
+                storeId != null ? qStore.storeId.eq(storeId) : null,
+                qMember.memberId.eq(memberId)
+        };
+    }
+
+    private Page<ReviewResponseDto> fetchReviewPage(Predicate[] conditions, Pageable pageable) {
+        List<ReviewResponseDto> content = fetchReviewResponses(conditions, pageable);
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Long total = joinReviewGraph(queryFactory.select(qReview.count()))
+                    .where(conditions)
+                    .fetchOne();
+            return total != null ? total : 0L;
+        });
+    }
+
+    private List<ReviewResponseDto> fetchReviewResponses(Predicate[] conditions, Pageable pageable) {
+        JPAQuery<ReviewProjectionDto> query = joinReviewGraph(queryFactory
+                .select(Projections.constructor(ReviewProjectionDto.class,
+                        qReview.reviewId,
+                        qOrder.orderId,
+                        qMember.nickname,
+                        qStore.name,
+                        qReview.content,
+                        qReview.score)))
+                .where(conditions)
+                .orderBy(qReview.createdAt.asc(), qReview.reviewId.asc());
+
+        if (pageable != null) {
+            query.offset(pageable.getOffset()).limit(pageable.getPageSize());
+        }
+
+        List<ReviewProjectionDto> rows = query.fetch();
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, List<ReviewItemResponseDto>> itemsByOrderId = findActiveItemsByOrderIds(
+                rows.stream().map(ReviewProjectionDto::getOrderId).collect(Collectors.toSet()));
+
+        return rows.stream()
+                .map(row -> new ReviewResponseDto(row, itemsByOrderId.getOrDefault(row.getOrderId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    private <T> JPAQuery<T> joinReviewGraph(JPAQuery<T> query) {
+        return query
+                .from(qReview)
+                .join(qReview.order, qOrder)
+                .join(qOrder.member, qMember)
+                .join(qReview.store, qStore);
+    }
+
+    // 주문 ID 목록에 포함된 판매중 상품을 한 번에 조회하여 주문별로 묶음
+    private Map<UUID, List<ReviewItemResponseDto>> findActiveItemsByOrderIds(Set<UUID> orderIds) {
         QOrderItem qOrderItem = QOrderItem.orderItem;
         QItem qItem = QItem.item;
-        QMember qMember = QMember.member;
 
-        return queryFactory
-                .selectDistinct(qReview)
-                .from(qReview)
-                .join(qReview.order, qOrder).fetchJoin()  // Review -> Order
-                .join(qOrder.orderItems, qOrderItem).fetchJoin()  // Order -> OrderItems
-                .join(qOrderItem.item, qItem)  // OrderItem -> Item
-                .join(qOrder.member, qMember)  // Order -> Member
-                .join(qReview.store, qStore)  // Review -> Store
+        List<Tuple> rows = queryFactory
+                .select(qOrderItem.order.orderId, qItem.itemId, qItem.name, qItem.description)
+                .from(qOrderItem)
+                .join(qOrderItem.item, qItem)
                 .where(
-                        qReview.status.notIn(ReviewStatus.DELETED),
-                        storeId != null ? qStore.storeId.eq(storeId) : null,
-                        qMember.memberId.eq(memberId)
+                        qOrderItem.order.orderId.in(orderIds),
+                        qItem.status.eq(ItemStatus.ACTIVE)
                 )
-                .orderBy(qReview.createdAt.asc())
                 .fetch();
 
+        Map<UUID, List<ReviewItemResponseDto>> itemsByOrderId = new HashMap<>();
+        for (Tuple row : rows) {
+            itemsByOrderId.computeIfAbsent(row.get(qOrderItem.order.orderId), id -> new ArrayList<>())
+                    .add(ReviewItemResponseDto.builder()
+                            .itemId(row.get(qItem.itemId))
+                            .itemName(row.get(qItem.name))
+                            .description(row.get(qItem.description))
+                            .build());
+        }
+        return itemsByOrderId;
+    }
+
+    // 주문에 해당 이름의 상품이 포함되어 있는지 (컬렉션 조인 대신 EXISTS 서브쿼리)
+    private BooleanExpression orderHasItemNamed(QOrder qOrder, String query) {
+        QOrderItem subOrderItem = new QOrderItem("subOrderItem");
+        return JPAExpressions
+                .selectOne()
+                .from(subOrderItem)
+                .where(
+                        subOrderItem.order.eq(qOrder),
+                        subOrderItem.item.name.contains(query)
+                )
+                .exists();
     }
 
 }
@@ -1,65 +1,76 @@
 package com.sparta.tl3p.backend.domain.review.service;
 
+import com.sparta.tl3p.backend.common.dto.ResourceVersion;
 import com.sparta.tl3p.backend.common.exception.BusinessException;
 import com.sparta.tl3p.backend.common.type.ErrorCode;
-import com.sparta.tl3p.backend.domain.member.entity.Member;
-import com.sparta.tl3p.backend.domain.member.repository.MemberRepository;
+import com.sparta.tl3p.backend.common.util.AccessControl;
 import com.sparta.tl3p.backend.domain.order.entity.Order;
 import com.sparta.tl3p.backend.domain.order.repository.OrderRepository;
 import com.sparta.tl3p.backend.domain.review.dto.ReviewResponseDto;
 import com.sparta.tl3p.backend.domain.review.entity.Review;
 import com.sparta.tl3p.backend.domain.review.entity.ReviewStatus;
 import com.sparta.tl3p.backend.domain.review.repository.ReviewRepository;
+import com.sparta.tl3p.backend.domain.store.service.StoreRatingService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final OrderRepository orderRepository;
-    private final MemberRepository memberRepository;
+    private final StoreRatingService storeRatingService;
 
     @Transactional
     public void createReview(UUID orderId, String content, Double score, Long memberId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
 
-        if (member != order.getMember()) {
+        if (!AccessControl.isSameMember(order.getMember(), memberId)) {
             throw new BusinessException(ErrorCode.INVALID_MEMBER);
         }
 
         Review review = Review.createReview(content, score, order);
         reviewRepository.save(review);
+        storeRatingService.addReview(review.getStore().getStoreId(), score);
     }
 
     @Transactional
     public void updateReview(UUID reviewId, String content, Double score, Long memberId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.REVIEW_NOT_FOUND));
 
-        if (member != review.getOrder().getMember()) {
+        if (!AccessControl.isSameMember(review.getOrder().getMember(), memberId)) {
             throw new BusinessException(ErrorCode.INVALID_MEMBER);
         }
 
+        // 숨김 상태였던 리뷰는 수정 시 다시 노출되므로 평점 집계에 새로 반영
+        boolean counted = review.getStatus() != ReviewStatus.DELETED;
+        double oldScore = review.getScore();
         review.updateReview(content, score);
+
+        UUID storeId = review.getStore().getStoreId();
+        if (counted) {
+            storeRatingService.changeReviewScore(storeId, oldScore, score);
+        } else {
+            storeRatingService.addReview(storeId, score);
+        }
     }
 
     @Transactional(readOnly = true)
     public List<ReviewResponseDto> searchReviews(UUID storeId, String query) {
-        List<Review> reviews = reviewRepository.searchReviews(storeId, query);
-        return reviews.stream().map(ReviewResponseDto::new).collect(Collectors.toList());
+        return reviewRepository.searchReviews(storeId, query);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ReviewResponseDto> searchReviews(UUID storeId, String query, Pageable pageable) {
+        return reviewRepository.searchReviews(storeId, query, pageable);
     }
 
     @Transactional(readOnly = true)
@@ -71,39 +82,45 @@ public class ReviewService {
         return new ReviewResponseDto(review);
     }
 
+    @Transactional(readOnly = true)
+    public ResourceVersion getReviewVersion(UUID reviewId) {
+        return reviewRepository.findReviewVersion(reviewId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.REVIEW_NOT_FOUND));
+    }
+
     @Transactional
     public void hideReview(UUID reviewId, Long memberId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-
         Review review = reviewRepository.findByReviewIdAndStatusNot(reviewId, ReviewStatus.DELETED)
                 .orElseThrow(() -> new BusinessException(ErrorCode.REVIEW_ALREADY_DELETED));
 
-        if (member != review.getOrder().getMember()) {
+        if (!AccessControl.isSameMember(review.getOrder().getMember(), memberId)) {
             throw new BusinessException(ErrorCode.INVALID_MEMBER);
         }
 
         review.hideReview();
+        storeRatingService.removeReview(review.getStore().getStoreId(), review.getScore());
     }
 
     @Transactional
     public void deleteReview(UUID reviewId, Long memberId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-
         Review review = reviewRepository.findByReviewIdAndStatusNot(reviewId, ReviewStatus.DELETED)
                 .orElseThrow(() -> new BusinessException(ErrorCode.REVIEW_ALREADY_DELETED));
 
-        if (member != review.getOrder().getMember()) {
+        if (!AccessControl.isSameMember(review.getOrder().getMember(), memberId)) {
             throw new BusinessException(ErrorCode.INVALID_MEMBER);
         }
 
+        storeRatingService.removeReview(review.getStore().getStoreId(), review.getScore());
         reviewRepository.delete(review);
     }
 
     @Transactional(readOnly = true)
     public List<ReviewResponseDto> searchOwnerReviews(UUID storeId, Long memberId) {
-        List<Review> reviews = reviewRepository.searchOwnerReviews(storeId, memberId);
-        return reviews.stream().map(ReviewResponseDto::new).collect(Collectors.toList());
+        return reviewRepository.searchOwnerReviews(storeId, memberId);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ReviewResponseDto> searchOwnerReviews(UUID storeId, Long memberId, Pageable pageable) {
+        return reviewRepository.searchOwnerReviews(storeId, memberId, pageable);
     }
 }
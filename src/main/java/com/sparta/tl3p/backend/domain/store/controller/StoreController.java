@@ -2,9 +2,13 @@ package com.sparta.tl3p.backend.domain.store.controller;
 
 import com.sparta.tl3p.backend.common.dto.SuccessResponseDto;
 import com.sparta.tl3p.backend.common.type.ResponseCode;
+import com.sparta.tl3p.backend.common.util.ConditionalGet;
 import com.sparta.tl3p.backend.domain.member.entity.CustomUserDetails;
+import com.sparta.tl3p.backend.domain.store.dto.StoreAutocompleteResponseDto;
+import com.sparta.tl3p.backend.domain.store.dto.StoreRatingRebuildResponseDto;
 import com.sparta.tl3p.backend.domain.store.dto.StoreRequestDto;
 import com.sparta.tl3p.backend.domain.store.dto.StoreResponseDto;
+import com.sparta.tl3p.backend.domain.store.service.StoreRatingService;
 import com.sparta.tl3p.backend.domain.store.service.StoreService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -21,7 +26,11 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class StoreController {
 
+    private static final int MAX_AUTOCOMPLETE_SIZE = 20;
+    private static final int MAX_NEARBY_SIZE = 50;
+
     private final StoreService storeService;
+    private final StoreRatingService storeRatingService;
 
     @PostMapping
     public ResponseEntity<SuccessResponseDto> createStore(
@@ -38,14 +47,15 @@ public class StoreController {
         );
     }
 
+    // 캐시된 응답의 버전과 비교하여 변경이 없으면 304 (캐시 적중 시 DB 조회 없음)
     @GetMapping("/{storeId}")
-    public ResponseEntity<SuccessResponseDto> getStore(@PathVariable UUID storeId) {
-        StoreResponseDto response = storeService.getStore(storeId);
-        return ResponseEntity.ok(
+    public ResponseEntity<SuccessResponseDto> getStore(@PathVariable UUID storeId, WebRequest webRequest) {
+        StoreResponseDto store = storeService.getStore(storeId);
+        return ConditionalGet.respond(webRequest, store.toResourceVersion(), () ->
                 SuccessResponseDto.builder()
                         .code(ResponseCode.S)
                         .message("가게 조회 완료.")
-                        .data(response)
+                        .data(store)
                         .build()
         );
     }
@@ -64,6 +74,39 @@ public class StoreController {
         );
     }
 
+    @GetMapping("/autocomplete")
+    public ResponseEntity<SuccessResponseDto> autocompleteStores(
+            @RequestParam String prefix,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "10") int size) {
+        List<StoreAutocompleteResponseDto> stores =
+                storeService.autocompleteStores(prefix, category, Math.max(1, Math.min(size, MAX_AUTOCOMPLETE_SIZE)));
+        return ResponseEntity.ok(
+                SuccessResponseDto.builder()
+                        .code(stores.isEmpty() ? ResponseCode.NS : ResponseCode.S)
+                        .message("가게 자동완성 완료.")
+                        .data(stores)
+                        .build()
+        );
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<SuccessResponseDto> findNearbyStores(
+            @RequestParam(required = false) String zipcode,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "20") int size) {
+        List<StoreResponseDto> stores =
+                storeService.findNearbyStores(zipcode, city, category, Math.max(1, Math.min(size, MAX_NEARBY_SIZE)));
+        return ResponseEntity.ok(
+                SuccessResponseDto.builder()
+                        .code(stores.isEmpty() ? ResponseCode.NS : ResponseCode.S)
+                        .message("주변 가게 조회 완료.")
+                        .data(stores)
+                        .build()
+        );
+    }
+
     @PreAuthorize("hasRole('OWNER')")
     @GetMapping("/owner/stores")
     public ResponseEntity<SuccessResponseDto> getMyStores(@AuthenticationPrincipal CustomUserDetails userDetails) {
@@ -139,4 +182,17 @@ public class StoreController {
                         .build()
         );
     }
+
+    @PreAuthorize("hasRole('MASTER')")
+    @PostMapping("/ratings/rebuild")
+    public ResponseEntity<SuccessResponseDto> rebuildStoreRatings() {
+        StoreRatingRebuildResponseDto response = storeRatingService.rebuildAll();
+        return ResponseEntity.ok(
+                SuccessResponseDto.builder()
+                        .code(ResponseCode.S)
+                        .message("가게 평점 집계 재계산 완료.")
+                        .data(response)
+                        .build()
+        );
+    }
 }
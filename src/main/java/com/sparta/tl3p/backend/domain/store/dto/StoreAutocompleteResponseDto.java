@@ -0,0 +1,27 @@
+package com.sparta.tl3p.backend.domain.store.dto;
+
+import com.sparta.tl3p.backend.domain.store.enums.CategoryType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+public class StoreAutocompleteResponseDto {
+
+    private UUID id;
+    private String name;
+    private List<CategoryType> categories;
+    private double avgScore;
+
+    public static StoreAutocompleteResponseDto from(StoreSearchEntry entry) {
+        return StoreAutocompleteResponseDto.builder()
+                .id(entry.getStoreId())
+                .name(entry.getName())
+                .categories(entry.getCategories())
+                .avgScore(entry.getAvgScore())
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.sparta.tl3p.backend.domain.store.dto;
+
+import com.sparta.tl3p.backend.domain.store.entity.StoreRating;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+public class StoreRatingRebuildResponseDto {
+
+    private final int storeCount;
+    private final int driftCount;
+    private final List<Drift> drifts;
+
+    @Getter
+    @Builder
+    public static class Drift {
+        private final UUID storeId;
+        private final long storedReviewCount;
+        private final long actualReviewCount;
+        private final double storedAvgScore;
+        private final double actualAvgScore;
+
+        public static Drift of(StoreRating stored, StoreRatingSnapshot actual) {
+            return Drift.builder()
+                    .storeId(actual.getStoreId())
+                    .storedReviewCount(stored.getReviewCount())
+                    .actualReviewCount(actual.getReviewCount())
+                    .storedAvgScore(stored.getAverageScore())
+                    .actualAvgScore(actual.getAverageScore())
+                    .build();
+        }
+    }
+}
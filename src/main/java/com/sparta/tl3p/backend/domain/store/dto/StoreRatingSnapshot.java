@@ -0,0 +1,41 @@
+package com.sparta.tl3p.backend.domain.store.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 리뷰 테이블에서 직접 계산한 가게별 평점 집계 (리빌드 비교용)
+ */
+@Getter
+public class StoreRatingSnapshot {
+
+    private final UUID storeId;
+    private final double scoreSum;
+    private final long reviewCount;
+    private final List<Long> histogram;
+
+    public StoreRatingSnapshot(UUID storeId, Double scoreSum, Long reviewCount,
+                               Long score1Count, Long score2Count, Long score3Count,
+                               Long score4Count, Long score5Count) {
+        this.storeId = storeId;
+        this.scoreSum = scoreSum != null ? scoreSum : 0.0;
+        this.reviewCount = reviewCount != null ? reviewCount : 0L;
+        this.histogram = List.of(
+                nullToZero(score1Count), nullToZero(score2Count), nullToZero(score3Count),
+                nullToZero(score4Count), nullToZero(score5Count));
+    }
+
+    public static StoreRatingSnapshot empty(UUID storeId) {
+        return new StoreRatingSnapshot(storeId, 0.0, 0L, 0L, 0L, 0L, 0L, 0L);
+    }
+
+    public double getAverageScore() {
+        return reviewCount == 0 ? 0.0 : scoreSum / reviewCount;
+    }
+
+    private static long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
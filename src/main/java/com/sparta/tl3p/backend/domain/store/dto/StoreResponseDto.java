@@ -1,5 +1,6 @@
 package com.sparta.tl3p.backend.domain.store.dto;
 
+import com.sparta.tl3p.backend.common.dto.ResourceVersion;
 import com.sparta.tl3p.backend.common.type.Address;
 import com.sparta.tl3p.backend.domain.store.entity.Store;
 import com.sparta.tl3p.backend.domain.store.entity.StoreCategory;
@@ -26,6 +27,7 @@ public class StoreResponseDto {
     private Long memberId;
     private List<CategoryType> categories;
     private double avgScore;
+    private Long version;
 
     public StoreResponseDto(Store store) {
         this.id = store.getStoreId();
@@ -38,10 +40,32 @@ public class StoreResponseDto {
                 .map(StoreCategory::getCategory)
                 .collect(Collectors.toList());
         this.avgScore = 0.0;
+        this.version = store.getVersion();
     }
 
     public StoreResponseDto(Store store, Double avgScore) {
         this(store);
         this.avgScore = (avgScore != null) ? avgScore : 0.0;
     }
+
+    // 검색 인덱스 항목으로 생성 (엔티티/평점 조회 없음)
+    public StoreResponseDto(StoreSearchEntry entry) {
+        this.id = entry.getStoreId();
+        this.name = entry.getName();
+        this.content = entry.getContent();
+        this.address = entry.getAddress();
+        this.status = entry.getStatus();
+        this.memberId = entry.getMemberId();
+        this.categories = entry.getCategories();
+        this.avgScore = entry.getAvgScore();
+    }
+
+    // 조건부 GET 검증자: 캐시된 응답 자체의 값으로 만들어 본문과 ETag가 항상 같은 시점을 가리키게 함
+    // (카테고리 변경은 가게 버전을 올리지 않으므로 카테고리도 포함)
+    public ResourceVersion toResourceVersion() {
+        String categoryToken = categories == null ? null : categories.stream()
+                .map(CategoryType::name)
+                .collect(Collectors.joining("."));
+        return ResourceVersion.of("store", version, categoryToken, avgScore);
+    }
 }
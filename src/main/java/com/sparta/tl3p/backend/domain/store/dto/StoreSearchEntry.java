@@ -0,0 +1,102 @@
+package com.sparta.tl3p.backend.domain.store.dto;
+
+import com.sparta.tl3p.backend.common.type.Address;
+import com.sparta.tl3p.backend.domain.store.enums.CategoryType;
+import com.sparta.tl3p.backend.domain.store.enums.StoreStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * 가게 검색 인덱스 항목
+ * - 카테고리는 CategoryType ordinal 위치의 비트로 저장 (카테고리 필터는 AND 연산 한 번)
+ * - 불변 객체: 가게 변경 시에는 물론 평균 평점 갱신 시에도 항목을 통째로 교체한다.
+ *   (정렬 중인 항목의 비교 키가 바뀌지 않도록 함)
+ */
+@Getter
+public class StoreSearchEntry {
+
+    private final UUID storeId;
+    private final String name;
+    private final String normalizedName;
+    private final String content;
+    private final Address address;
+    private final StoreStatus status;
+    private final Long memberId;
+    private final int categoryBits;
+    private final double avgScore;
+
+    @Builder
+    public StoreSearchEntry(UUID storeId, String name, String content, Address address,
+                            StoreStatus status, Long memberId, int categoryBits, double avgScore) {
+        this.storeId = storeId;
+        this.name = name;
+        this.normalizedName = normalize(name);
+        this.content = content;
+        this.address = address;
+        this.status = status;
+        this.memberId = memberId;
+        this.categoryBits = categoryBits;
+        this.avgScore = avgScore;
+    }
+
+    private StoreSearchEntry(StoreSearchEntry source, double avgScore) {
+        this.storeId = source.storeId;
+        this.name = source.name;
+        this.normalizedName = source.normalizedName;
+        this.content = source.content;
+        this.address = source.address;
+        this.status = source.status;
+        this.memberId = source.memberId;
+        this.categoryBits = source.categoryBits;
+        this.avgScore = avgScore;
+    }
+
+    // 대소문자/공백 차이를 무시하고 비교하기 위한 정규화
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        text.toLowerCase(Locale.ROOT).codePoints()
+                .filter(codePoint -> !Character.isWhitespace(codePoint))
+                .forEach(normalized::appendCodePoint);
+        return normalized.toString();
+    }
+
+    public static int bitOf(CategoryType category) {
+        return 1 << category.ordinal();
+    }
+
+    public static int maskOf(Collection<CategoryType> categories) {
+        int mask = 0;
+        for (CategoryType category : categories) {
+            mask |= bitOf(category);
+        }
+        return mask;
+    }
+
+    // mask가 0이면 카테고리 조건 없음
+    public boolean matchesAny(int categoryMask) {
+        return categoryMask == 0 || (categoryBits & categoryMask) != 0;
+    }
+
+    public List<CategoryType> getCategories() {
+        List<CategoryType> categories = new ArrayList<>();
+        for (CategoryType category : CategoryType.values()) {
+            if ((categoryBits & bitOf(category)) != 0) {
+                categories.add(category);
+            }
+        }
+        return categories;
+    }
+
+    public StoreSearchEntry withAvgScore(double avgScore) {
+        return new StoreSearchEntry(this, avgScore);
+    }
+}
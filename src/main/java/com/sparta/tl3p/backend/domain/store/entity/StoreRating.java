@@ -0,0 +1,84 @@
+package com.sparta.tl3p.backend.domain.store.entity;
+
+import com.sparta.tl3p.backend.domain.store.dto.StoreRatingSnapshot;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 가게별 리뷰 평점 집계 (합계, 개수, 점수 분포)
+ * 리뷰 생성/수정/숨김/삭제 시 StoreRatingService가 증분 반영하며,
+ * 평균 평점은 리뷰 테이블 집계 없이 이 행 하나로 계산한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "p_store_rating")
+public class StoreRating {
+
+    public static final int MAX_SCORE = 5;
+
+    @Id
+    @Column(name = "store_id", columnDefinition = "uuid")
+    private UUID storeId;
+
+    @Column(name = "score_sum", nullable = false)
+    private double scoreSum;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "score1_count", nullable = false)
+    private long score1Count;
+
+    @Column(name = "score2_count", nullable = false)
+    private long score2Count;
+
+    @Column(name = "score3_count", nullable = false)
+    private long score3Count;
+
+    @Column(name = "score4_count", nullable = false)
+    private long score4Count;
+
+    @Column(name = "score5_count", nullable = false)
+    private long score5Count;
+
+    public StoreRating(UUID storeId) {
+        this.storeId = storeId;
+    }
+
+    // 점수를 반올림하여 1~5 구간으로 분류 (집계 쿼리의 CASE 조건과 동일한 기준)
+    public static int bucketOf(double score) {
+        return (int) Math.max(1, Math.min(MAX_SCORE, Math.round(score)));
+    }
+
+    public double getAverageScore() {
+        return reviewCount == 0 ? 0.0 : scoreSum / reviewCount;
+    }
+
+    // 1점 ~ 5점 구간별 리뷰 수
+    public List<Long> getHistogram() {
+        return List.of(score1Count, score2Count, score3Count, score4Count, score5Count);
+    }
+
+    public boolean matches(StoreRatingSnapshot snapshot) {
+        return reviewCount == snapshot.getReviewCount()
+                && Math.abs(scoreSum - snapshot.getScoreSum()) < 1e-6
+                && getHistogram().equals(snapshot.getHistogram());
+    }
+
+    public void overwrite(StoreRatingSnapshot snapshot) {
+        List<Long> histogram = snapshot.getHistogram();
+        this.scoreSum = snapshot.getScoreSum();
+        this.reviewCount = snapshot.getReviewCount();
+        this.score1Count = histogram.get(0);
+        this.score2Count = histogram.get(1);
+        this.score3Count = histogram.get(2);
+        this.score4Count = histogram.get(3);
+        this.score5Count = histogram.get(4);
+    }
+}
@@ -0,0 +1,68 @@
+package com.sparta.tl3p.backend.domain.store.repository;
+
+import com.sparta.tl3p.backend.domain.store.dto.StoreRatingSnapshot;
+import com.sparta.tl3p.backend.domain.store.entity.StoreRating;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface StoreRatingRepository extends JpaRepository<StoreRating, UUID> {
+
+    // 단일 UPDATE로 합계/개수/점수 구간을 원자적으로 증감 (동시 리뷰 작성 시 갱신 유실 방지)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE StoreRating r SET " +
+            "r.scoreSum = r.scoreSum + :scoreDelta, " +
+            "r.reviewCount = r.reviewCount + :countDelta, " +
+            "r.score1Count = r.score1Count + CASE WHEN :bucket = 1 THEN :countDelta ELSE 0 END, " +
+            "r.score2Count = r.score2Count + CASE WHEN :bucket = 2 THEN :countDelta ELSE 0 END, " +
+            "r.score3Count = r.score3Count + CASE WHEN :bucket = 3 THEN :countDelta ELSE 0 END, " +
+            "r.score4Count = r.score4Count + CASE WHEN :bucket = 4 THEN :countDelta ELSE 0 END, " +
+            "r.score5Count = r.score5Count + CASE WHEN :bucket = 5 THEN :countDelta ELSE 0 END " +
+            "WHERE r.storeId = :storeId")
+    int applyDelta(UUID storeId, double scoreDelta, long countDelta, int bucket);
+
+    // 집계 행이 없으면 빈 행 생성 (동시에 첫 리뷰가 들어와도 중복 키 오류 없이 한 행만 생성)
+    @Modifying
+    @Query(value = "INSERT INTO p_store_rating (store_id, score_sum, review_count, " +
+            "score1_count, score2_count, score3_count, score4_count, score5_count) " +
+            "VALUES (:storeId, 0, 0, 0, 0, 0, 0, 0) ON CONFLICT (store_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(UUID storeId);
+
+    // 집계 행이 없는 가게(집계 도입 이전 가게)를 리뷰 테이블 기준 값으로 생성 (구간 기준은 StoreRating.bucketOf와 동일)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO p_store_rating (store_id, score_sum, review_count, " +
+            "score1_count, score2_count, score3_count, score4_count, score5_count) " +
+            "SELECT s.store_id, COALESCE(SUM(r.score), 0), COUNT(r.review_id), " +
+            "SUM(CASE WHEN r.score < 1.5 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.score >= 1.5 AND r.score < 2.5 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.score >= 2.5 AND r.score < 3.5 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.score >= 3.5 AND r.score < 4.5 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.score >= 4.5 THEN 1 ELSE 0 END) " +
+            "FROM p_store s LEFT JOIN p_review r ON r.store_id = s.store_id AND r.status <> 'DELETED' " +
+            "WHERE NOT EXISTS (SELECT 1 FROM p_store_rating sr WHERE sr.store_id = s.store_id) " +
+            "GROUP BY s.store_id " +
+            "ON CONFLICT (store_id) DO NOTHING", nativeQuery = true)
+    int seedMissingFromReviews();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM StoreRating r")
+    List<StoreRating> findAllForUpdate();
+
+    // 리뷰 테이블 기준 가게별 집계 (구간 기준은 StoreRating.bucketOf와 동일)
+    @Query("SELECT new com.sparta.tl3p.backend.domain.store.dto.StoreRatingSnapshot(" +
+            "r.store.storeId, SUM(r.score), COUNT(r), " +
+            "SUM(CASE WHEN r.score < 1.5 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.score >= 1.5 AND r.score < 2.5 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.score >= 2.5 AND r.score < 3.5 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.score >= 3.5 AND r.score < 4.5 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.score >= 4.5 THEN 1 ELSE 0 END)) " +
+            "FROM Review r WHERE r.status != 'DELETED' GROUP BY r.store.storeId")
+    List<StoreRatingSnapshot> aggregateFromReviews();
+}
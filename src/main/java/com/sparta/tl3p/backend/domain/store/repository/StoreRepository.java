@@ -18,9 +18,10 @@ public interface StoreRepository extends JpaRepository<Store, UUID> {
             "AND (:query IS NULL OR s.name LIKE %:query%)")
     List<Store> findStoresByCategoryAndQuery(CategoryType category, String query);
 
-    @Query("SELECT COALESCE(AVG(r.score), 0) FROM Review r WHERE r.store.storeId = :storeId")
-    double findAvgReviewScoreByStoreId(UUID storeId);
-
     @Query("SELECT s FROM Store s WHERE s.storeId = :storeId AND s.status != 'DELETED'")
     Optional<Store> findByIdExcludeDeleted(UUID storeId);
+
+    // 가게 소유자 ID만 조회 (가게/회원 엔티티를 로딩하지 않는 권한 확인용)
+    @Query("SELECT s.member.memberId FROM Store s WHERE s.storeId = :storeId")
+    Optional<Long> findOwnerIdByStoreId(UUID storeId);
 }
@@ -0,0 +1,225 @@
+package com.sparta.tl3p.backend.domain.store.service;
+
+import com.sparta.tl3p.backend.common.type.Address;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * 배달 지역(우편번호/도시) -> 가게 색인
+ * - 가게마다 정수 번호를 부여하고, 우편번호(숫자)와 도시(정수 ID로 치환)를 키로 정렬된 int 배열에 가게 번호 배열을 둔다.
+ * - 읽기는 불변 스냅샷에서 이진 탐색만 수행하고(잠금/박싱 없음), 쓰기는 잠금 후 변경된 키의 가게 번호 배열만 키당 한 번 새로 만든다.
+ *   나머지 배열과 가게 ID 배열, 도시 ID 맵은 이전 스냅샷과 공유하며, 정렬된 키 배열은 키가 추가/삭제될 때만 다시 만든다.
+ * - 5자리 우편번호의 앞 3자리는 시군구 단위이므로, 같은 시군구는 정렬된 우편번호 키의 범위 조회로 찾는다.
+ * - 제거된 가게의 번호는 재사용하지 않는다 (가게 삭제는 드물고 번호당 비용은 int 두 개).
+ */
+public class DeliveryZoneIndex {
+
+    private static final int NO_KEY = -1;
+    private static final int DISTRICT_DIVISOR = 100;
+    private static final int[] NO_STORES = new int[0];
+
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    // 번호 -> 가게 ID, 뒤에만 추가하므로 스냅샷과 공유 (스냅샷은 발행 시점까지의 번호만 참조)
+    private UUID[] stores = new UUID[16];
+    private int storeCount;
+    private int[] zipcodeOf = new int[16];
+    private int[] cityOf = new int[16];
+    private final Map<String, Integer> cityIds = new HashMap<>();
+    private final TreeMap<Integer, int[]> zipcodeStores = new TreeMap<>();
+    private final TreeMap<Integer, int[]> cityStores = new TreeMap<>();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public synchronized void put(UUID storeId, Address address) {
+        putAll(Collections.singletonMap(storeId, address));
+    }
+
+    // 기동 시 청크 단위 생성용: 키별로 모아 키당 배열을 한 번만 만들고 스냅샷도 한 번만 교체
+    public synchronized void putAll(Map<UUID, Address> addresses) {
+        Changes zipcodeChanges = new Changes();
+        Changes cityChanges = new Changes();
+        int cityCount = cityIds.size();
+        addresses.forEach((storeId, address) -> {
+            int ordinal = ordinalOf(storeId);
+            String city = address != null ? normalizeCity(address.getCity()) : "";
+            zipcodeChanges.move(zipcodeOf, ordinal, address != null ? parseZipcode(address.getZipcode()) : NO_KEY);
+            cityChanges.move(cityOf, ordinal, city.isEmpty() ? NO_KEY : cityIds.computeIfAbsent(city, key -> cityIds.size()));
+        });
+        publish(zipcodeChanges, cityChanges, cityIds.size() != cityCount);
+    }
+
+    public synchronized void remove(UUID storeId) {
+        Integer ordinal = ordinals.get(storeId);
+        if (ordinal == null) {
+            return;
+        }
+        Changes zipcodeChanges = new Changes();
+        Changes cityChanges = new Changes();
+        zipcodeChanges.move(zipcodeOf, ordinal, NO_KEY);
+        cityChanges.move(cityOf, ordinal, NO_KEY);
+        publish(zipcodeChanges, cityChanges, false);
+    }
+
+    public List<UUID> sameZipcode(String zipcode) {
+        Snapshot current = snapshot;
+        int key = parseZipcode(zipcode);
+        return key == NO_KEY ? List.of() : current.storesOf(current.zipcodes, key, key);
+    }
+
+    // 같은 시군구(우편번호 앞 3자리)의 가게 (같은 우편번호 포함)
+    public List<UUID> sameDistrict(String zipcode) {
+        Snapshot current = snapshot;
+        int key = parseZipcode(zipcode);
+        if (key == NO_KEY) {
+            return List.of();
+        }
+        int from = key / DISTRICT_DIVISOR * DISTRICT_DIVISOR;
+        return current.storesOf(current.zipcodes, from, from + DISTRICT_DIVISOR - 1);
+    }
+
+    public List<UUID> sameCity(String city) {
+        Snapshot current = snapshot;
+        Integer key = current.cityIds.get(normalizeCity(city));
+        return key == null ? List.of() : current.storesOf(current.cities, key, key);
+    }
+
+    private int ordinalOf(UUID storeId) {
+        Integer existing = ordinals.get(storeId);
+        if (existing != null) {
+            return existing;
+        }
+        int ordinal = storeCount++;
+        if (ordinal == stores.length) {
+            int newLength = stores.length * 2;
+            stores = Arrays.copyOf(stores, newLength);
+            zipcodeOf = Arrays.copyOf(zipcodeOf, newLength);
+            cityOf = Arrays.copyOf(cityOf, newLength);
+        }
+        ordinals.put(storeId, ordinal);
+        stores[ordinal] = storeId;
+        zipcodeOf[ordinal] = NO_KEY;
+        cityOf[ordinal] = NO_KEY;
+        return ordinal;
+    }
+
+    private void publish(Changes zipcodeChanges, Changes cityChanges, boolean cityAdded) {
+        Snapshot current = snapshot;
+        snapshot = new Snapshot(
+                zipcodeChanges.apply(zipcodeStores, zipcodeOf, current.zipcodes),
+                cityChanges.apply(cityStores, cityOf, current.cities),
+                cityAdded ? Map.copyOf(cityIds) : current.cityIds,
+                stores);
+    }
+
+    // 한 번의 쓰기에서 키가 바뀐 가게 번호 (이전 키와 새 키 모두 변경된 키로 기록)
+    private static class Changes {
+        private final Set<Integer> touched = new HashSet<>();
+        private final Map<Integer, List<Integer>> joined = new HashMap<>();
+
+        void move(int[] keyOf, int ordinal, int key) {
+            int previous = keyOf[ordinal];
+            if (previous == key) {
+                return;
+            }
+            keyOf[ordinal] = key;
+            if (previous != NO_KEY) {
+                touched.add(previous);
+            }
+            if (key != NO_KEY) {
+                touched.add(key);
+                joined.computeIfAbsent(key, k -> new ArrayList<>()).add(ordinal);
+            }
+        }
+
+        // 변경된 키마다 남은 가게 + 새로 들어온 가게로 배열을 한 번 만들고, 스냅샷 배열은 바뀐 칸만 교체
+        Keyed apply(TreeMap<Integer, int[]> index, int[] keyOf, Keyed previous) {
+            if (touched.isEmpty()) {
+                return previous;
+            }
+            boolean keySetChanged = false;
+            for (int key : touched) {
+                int[] current = index.getOrDefault(key, NO_STORES);
+                List<Integer> added = joined.getOrDefault(key, List.of());
+                int[] values = new int[current.length + added.size()];
+                int size = 0;
+                for (int ordinal : current) {
+                    if (keyOf[ordinal] == key) {
+                        values[size++] = ordinal;
+                    }
+                }
+                for (int ordinal : added) {
+                    values[size++] = ordinal;
+                }
+                if (size == 0) {
+                    keySetChanged |= index.remove(key) != null;
+                } else {
+                    keySetChanged |= index.put(key, size == values.length ? values : Arrays.copyOf(values, size)) == null;
+                }
+            }
+            if (keySetChanged) {
+                return new Keyed(
+                        index.keySet().stream().mapToInt(Integer::intValue).toArray(),
+                        index.values().toArray(new int[0][]));
+            }
+            int[][] values = previous.values.clone();
+            for (int key : touched) {
+                int position = Arrays.binarySearch(previous.keys, key);
+                if (position >= 0) {
+                    values[position] = index.get(key);
+                }
+            }
+            return new Keyed(previous.keys, values);
+        }
+    }
+
+    static int parseZipcode(String zipcode) {
+        if (zipcode == null) {
+            return NO_KEY;
+        }
+        String digits = zipcode.strip();
+        if (digits.isEmpty() || digits.length() > 9 || !digits.chars().allMatch(Character::isDigit)) {
+            return NO_KEY;
+        }
+        return Integer.parseInt(digits);
+    }
+
+    static String normalizeCity(String city) {
+        return city == null ? "" : city.strip();
+    }
+
+    // 정렬된 키와 키별 가게 번호 배열 (배열은 교체만 하므로 불변으로 공유)
+    private record Keyed(int[] keys, int[][] values) {
+
+        static final Keyed EMPTY = new Keyed(new int[0], new int[0][]);
+    }
+
+    private record Snapshot(Keyed zipcodes, Keyed cities, Map<String, Integer> cityIds, UUID[] stores) {
+
+        static final Snapshot EMPTY = new Snapshot(Keyed.EMPTY, Keyed.EMPTY, Map.of(), new UUID[0]);
+
+        // [from, to] 범위 키에 속한 가게 ID
+        List<UUID> storesOf(Keyed index, int from, int to) {
+            int[] keys = index.keys;
+            int start = Arrays.binarySearch(keys, from);
+            if (start < 0) {
+                start = -start - 1;
+            }
+            List<UUID> result = new ArrayList<>();
+            for (int i = start; i < keys.length && keys[i] <= to; i++) {
+                for (int ordinal : index.values[i]) {
+                    result.add(stores[ordinal]);
+                }
+            }
+            return result;
+        }
+    }
+}
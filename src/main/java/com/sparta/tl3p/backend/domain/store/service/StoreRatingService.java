@@ -0,0 +1,143 @@
+package com.sparta.tl3p.backend.domain.store.service;
+
+import com.sparta.tl3p.backend.domain.store.dto.StoreRatingRebuildResponseDto;
+import com.sparta.tl3p.backend.domain.store.dto.StoreRatingSnapshot;
+import com.sparta.tl3p.backend.domain.store.entity.StoreRating;
+import com.sparta.tl3p.backend.domain.store.repository.StoreRatingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreRatingService {
+
+    private static final int MAX_REPORTED_DRIFTS = 100;
+
+    private final StoreRatingRepository storeRatingRepository;
+
+    @Transactional
+    public void initialize(UUID storeId) {
+        if (!storeRatingRepository.existsById(storeId)) {
+            storeRatingRepository.save(new StoreRating(storeId));
+        }
+    }
+
+    /**
+     * 집계 행이 없는 가게를 리뷰 테이블 기준으로 채움 (집계 도입 이전 가게, 기동 시 실행)
+     * 이미 행이 있는 가게는 건드리지 않으므로 매 기동마다 실행해도 된다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedMissingRatings() {
+        try {
+            int seeded = storeRatingRepository.seedMissingFromReviews();
+            if (seeded > 0) {
+                log.info("가게 평점 집계 행 생성: {}건", seeded);
+            }
+        } catch (RuntimeException e) {
+            log.error("가게 평점 집계 행 생성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Transactional
+    public void addReview(UUID storeId, double score) {
+        applyDelta(storeId, score, 1);
+    }
+
+    @Transactional
+    public void removeReview(UUID storeId, double score) {
+        applyDelta(storeId, score, -1);
+    }
+
+    @Transactional
+    public void changeReviewScore(UUID storeId, double oldScore, double newScore) {
+        applyDelta(storeId, oldScore, -1);
+        applyDelta(storeId, newScore, 1);
+    }
+
+    @Transactional(readOnly = true)
+    public double getAverageScore(UUID storeId) {
+        return storeRatingRepository.findById(storeId)
+                .map(StoreRating::getAverageScore)
+                .orElse(0.0);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<UUID, Double> getAverageScores(Collection<UUID> storeIds) {
+        if (storeIds.isEmpty()) {
+            return Map.of();
+        }
+        return storeRatingRepository.findAllById(storeIds).stream()
+                .collect(Collectors.toMap(StoreRating::getStoreId, StoreRating::getAverageScore));
+    }
+
+    @Transactional(readOnly = true)
+    public Map<UUID, Double> getAllAverageScores() {
+        return storeRatingRepository.findAll().stream()
+                .collect(Collectors.toMap(StoreRating::getStoreId, StoreRating::getAverageScore));
+    }
+
+    /**
+     * 리뷰 테이블 기준으로 전체 가게 평점 집계를 다시 계산하고, 저장된 값과 다른 가게(drift)를 보고한다.
+     * 집계 행을 먼저 잠그므로 리빌드 중 들어온 리뷰 반영은 리빌드 커밋 이후에 적용된다.
+     */
+    @Transactional
+    public StoreRatingRebuildResponseDto rebuildAll() {
+        Map<UUID, StoreRating> storedRatings = storeRatingRepository.findAllForUpdate().stream()
+                .collect(Collectors.toMap(StoreRating::getStoreId, Function.identity()));
+        Map<UUID, StoreRatingSnapshot> actualRatings = storeRatingRepository.aggregateFromReviews().stream()
+                .collect(Collectors.toMap(StoreRatingSnapshot::getStoreId, Function.identity()));
+
+        Set<UUID> storeIds = new HashSet<>(storedRatings.keySet());
+        storeIds.addAll(actualRatings.keySet());
+
+        List<StoreRating> newRatings = new ArrayList<>();
+        List<StoreRatingRebuildResponseDto.Drift> drifts = new ArrayList<>();
+        int driftCount = 0;
+
+        for (UUID storeId : storeIds) {
+            StoreRatingSnapshot actual = actualRatings.getOrDefault(storeId, StoreRatingSnapshot.empty(storeId));
+            StoreRating stored = storedRatings.get(storeId);
+            if (stored == null) {
+                stored = new StoreRating(storeId);
+                newRatings.add(stored);
+            }
+
+            if (!stored.matches(actual)) {
+                driftCount++;
+                if (drifts.size() < MAX_REPORTED_DRIFTS) {
+                    drifts.add(StoreRatingRebuildResponseDto.Drift.of(stored, actual));
+                }
+                stored.overwrite(actual);
+            }
+        }
+        storeRatingRepository.saveAll(newRatings);
+
+        log.info("가게 평점 집계 리빌드 완료: stores={}, drift={}", storeIds.size(), driftCount);
+
+        return StoreRatingRebuildResponseDto.builder()
+                .storeCount(storeIds.size())
+                .driftCount(driftCount)
+                .drifts(drifts)
+                .build();
+    }
+
+    private void applyDelta(UUID storeId, double score, long countDelta) {
+        int bucket = StoreRating.bucketOf(score);
+        int updated = storeRatingRepository.applyDelta(storeId, score * countDelta, countDelta, bucket);
+
+        // 기동 시 채우기 전에 들어온 리뷰 등 집계 행이 없으면 행을 만든 뒤 반영, 차감은 리빌드에 맡김
+        if (updated == 0 && countDelta > 0) {
+            storeRatingRepository.insertIfAbsent(storeId);
+            storeRatingRepository.applyDelta(storeId, score * countDelta, countDelta, bucket);
+        }
+    }
+}
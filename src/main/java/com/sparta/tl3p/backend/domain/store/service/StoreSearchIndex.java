@@ -0,0 +1,174 @@
+package com.sparta.tl3p.backend.domain.store.service;
+
+import com.sparta.tl3p.backend.domain.store.dto.StoreSearchEntry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가게 이름/카테고리 메모리 인덱스
+ * - 접두어: 정규화한 이름 순으로 정렬된 skip list의 범위 조회 (트라이와 같은 접두어 탐색을 동시성 컬렉션으로 구현)
+ * - 부분 문자열: 이름의 2-gram별 가게 ID 집합을 교집합한 뒤 실제 포함 여부를 확인
+ * - 쓰기(put/remove)만 직렬화하고 읽기는 잠금 없이 수행한다.
+ *   쓰기 도중의 읽기는 색인 후보를 항상 현재 항목으로 다시 확인하므로 잘못된 결과를 반환하지 않는다.
+ */
+public class StoreSearchIndex {
+
+    private static final int GRAM_SIZE = 2;
+    private static final char KEY_DELIMITER = '\u0000';
+
+    // 평점 높은 순, 같으면 이름 순
+    static final Comparator<StoreSearchEntry> RANKING = Comparator
+            .comparingDouble(StoreSearchEntry::getAvgScore).reversed()
+            .thenComparing(StoreSearchEntry::getName);
+
+    private final Map<UUID, StoreSearchEntry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, UUID> nameKeys = new ConcurrentSkipListMap<>();
+    private final Map<String, Set<UUID>> postings = new ConcurrentHashMap<>();
+
+    public synchronized void put(StoreSearchEntry entry) {
+        StoreSearchEntry previous = entries.put(entry.getStoreId(), entry);
+        nameKeys.put(nameKey(entry), entry.getStoreId());
+
+        Set<String> grams = gramsOf(entry.getNormalizedName());
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(entry.getStoreId());
+        }
+        if (previous != null && !previous.getNormalizedName().equals(entry.getNormalizedName())) {
+            nameKeys.remove(nameKey(previous));
+            Set<String> staleGrams = gramsOf(previous.getNormalizedName());
+            staleGrams.removeAll(grams);
+            removePostings(previous.getStoreId(), staleGrams);
+        }
+    }
+
+    public synchronized void remove(UUID storeId) {
+        StoreSearchEntry previous = entries.remove(storeId);
+        if (previous != null) {
+            nameKeys.remove(nameKey(previous));
+            removePostings(storeId, gramsOf(previous.getNormalizedName()));
+        }
+    }
+
+    public Optional<StoreSearchEntry> get(UUID storeId) {
+        return Optional.ofNullable(entries.get(storeId));
+    }
+
+    public Collection<StoreSearchEntry> entries() {
+        return entries.values();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 평점이 바뀐 항목만 새 항목으로 교체 (색인 키는 가게 ID이므로 entries만 바꾸면 됨)
+    public void updateAvgScores(Map<UUID, Double> avgScores) {
+        avgScores.forEach((storeId, avgScore) -> entries.computeIfPresent(storeId, (id, entry) ->
+                entry.getAvgScore() == avgScore ? entry : entry.withAvgScore(avgScore)));
+    }
+
+    /**
+     * 카테고리(mask, 0이면 전체)와 이름 부분 문자열(null/공백이면 전체)로 검색하여 평점 순으로 반환
+     */
+    public List<StoreSearchEntry> search(int categoryMask, String query) {
+        String normalizedQuery = StoreSearchEntry.normalize(query);
+        return candidates(normalizedQuery).stream()
+                .filter(entry -> entry.matchesAny(categoryMask))
+                .filter(entry -> entry.getNormalizedName().contains(normalizedQuery))
+                .sorted(RANKING)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 자동완성: 이름이 접두어로 시작하는 가게를 평점 순으로 먼저, 남는 자리는 이름에 포함된 가게로 채움
+     */
+    public List<StoreSearchEntry> autocomplete(String prefix, int categoryMask, int limit) {
+        String normalizedPrefix = StoreSearchEntry.normalize(prefix);
+        if (normalizedPrefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        List<StoreSearchEntry> prefixMatches = nameKeys
+                .subMap(normalizedPrefix, true, normalizedPrefix + Character.MAX_VALUE, false)
+                .values().stream()
+                .map(entries::get)
+                .filter(entry -> entry != null
+                        && entry.matchesAny(categoryMask)
+                        && entry.getNormalizedName().startsWith(normalizedPrefix))
+                .sorted(RANKING)
+                .limit(limit)
+                .collect(Collectors.toList());
+        if (prefixMatches.size() >= limit) {
+            return prefixMatches;
+        }
+
+        Set<StoreSearchEntry> results = new LinkedHashSet<>(prefixMatches);
+        for (StoreSearchEntry entry : search(categoryMask, normalizedPrefix)) {
+            if (results.size() >= limit) {
+                break;
+            }
+            results.add(entry);
+        }
+        return new ArrayList<>(results);
+    }
+
+    // 2-gram 색인으로 후보를 좁힘 (검색어가 한 글자 이하면 전체가 후보)
+    private Collection<StoreSearchEntry> candidates(String normalizedQuery) {
+        if (normalizedQuery.length() < GRAM_SIZE) {
+            return entries.values();
+        }
+
+        List<Set<UUID>> gramPostings = new ArrayList<>();
+        for (String gram : gramsOf(normalizedQuery)) {
+            Set<UUID> storeIds = postings.get(gram);
+            if (storeIds == null || storeIds.isEmpty()) {
+                return List.of();
+            }
+            gramPostings.add(storeIds);
+        }
+        gramPostings.sort(Comparator.comparingInt(Set::size));
+
+        List<StoreSearchEntry> candidates = new ArrayList<>();
+        for (UUID storeId : gramPostings.get(0)) {
+            if (gramPostings.stream().allMatch(storeIds -> storeIds.contains(storeId))) {
+                StoreSearchEntry entry = entries.get(storeId);
+                if (entry != null) {
+                    candidates.add(entry);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private void removePostings(UUID storeId, Set<String> grams) {
+        for (String gram : grams) {
+            postings.computeIfPresent(gram, (key, storeIds) -> {
+                storeIds.remove(storeId);
+                return storeIds.isEmpty() ? null : storeIds;
+            });
+        }
+    }
+
+    private static String nameKey(StoreSearchEntry entry) {
+        return entry.getNormalizedName() + KEY_DELIMITER + entry.getStoreId();
+    }
+
+    static Set<String> gramsOf(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+}
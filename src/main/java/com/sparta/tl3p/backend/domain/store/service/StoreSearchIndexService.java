@@ -0,0 +1,278 @@
+package com.sparta.tl3p.backend.domain.store.service;
+
+import com.sparta.tl3p.backend.common.type.Address;
+import com.sparta.tl3p.backend.domain.store.dto.StoreAutocompleteResponseDto;
+import com.sparta.tl3p.backend.domain.store.dto.StoreResponseDto;
+import com.sparta.tl3p.backend.domain.store.dto.StoreSearchEntry;
+import com.sparta.tl3p.backend.domain.store.enums.CategoryType;
+import com.sparta.tl3p.backend.domain.store.enums.StoreStatus;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 가게 검색 메모리 인덱스 관리
+ * - 기동 시 DB의 노출 중인 가게(삭제/숨김 제외)로 id keyset 청크 단위로 생성하며, 생성 전까지는 DB 검색을 사용한다.
+ * - 가게 생성/수정/숨김/삭제 커밋 후 가게 ID를 Redis 채널로 발행하고, 모든 인스턴스가 해당 가게 항목만 다시 읽는다.
+ *   Redis 장애 시 이 인스턴스의 인덱스만 직접 갱신한다.
+ * - 평균 평점은 리뷰마다 바뀌므로 집계 테이블에서 주기적으로 한 번에 반영한다.
+ * - 배달 지역 색인(우편번호/도시)도 같은 항목으로 함께 갱신한다.
+ */
+@Slf4j
+@Service
+public class StoreSearchIndexService {
+
+    public static final String INDEX_CHANNEL = "store:search-index";
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+    private static final String STORE_ROWS_QUERY =
+            "SELECT s.storeId, s.name, s.content, s.address.city, s.address.street, s.address.zipcode, " +
+                    "s.status, s.member.memberId FROM Store s " +
+                    "WHERE s.status <> :deleted AND s.deletedAt IS NULL ";
+
+    private final StoreSearchIndex index = new StoreSearchIndex();
+    private final DeliveryZoneIndex deliveryZoneIndex = new DeliveryZoneIndex();
+    private final EntityManager em;
+    private final StoreRatingService storeRatingService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int rebuildChunkSize;
+
+    private volatile boolean ready;
+    private volatile Set<UUID> changedDuringRebuild;
+
+    public StoreSearchIndexService(EntityManager em,
+                                   StoreRatingService storeRatingService,
+                                   StringRedisTemplate stringRedisTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${store.search.index.enabled:true}") boolean enabled,
+                                   @Value("${store.search.index.rebuild-chunk-size:1000}") int rebuildChunkSize) {
+        this.em = em;
+        this.storeRatingService = storeRatingService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        // 커밋 후 콜백에서도 호출되므로 항상 새 읽기 전용 트랜잭션에서 조회
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        this.rebuildChunkSize = rebuildChunkSize;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<StoreResponseDto> search(CategoryType category, String query) {
+        return index.search(maskOf(category), query).stream()
+                .map(StoreResponseDto::new)
+                .collect(Collectors.toList());
+    }
+
+    public List<StoreAutocompleteResponseDto> autocomplete(String prefix, CategoryType category, int size) {
+        return index.autocomplete(prefix, maskOf(category), size).stream()
+                .map(StoreAutocompleteResponseDto::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 배달 지역 기준 가게 조회: 같은 우편번호 -> 같은 시군구 -> 같은 도시 순, 각 단계 안에서는 평점 순
+     */
+    public List<StoreResponseDto> findNearby(String zipcode, String city, CategoryType category, int size) {
+        int categoryMask = maskOf(category);
+        Set<UUID> seen = new HashSet<>();
+        List<StoreResponseDto> results = new ArrayList<>();
+
+        List<Supplier<List<UUID>>> tiers = List.of(
+                () -> deliveryZoneIndex.sameZipcode(zipcode),
+                () -> deliveryZoneIndex.sameDistrict(zipcode),
+                () -> deliveryZoneIndex.sameCity(city));
+        for (Supplier<List<UUID>> tier : tiers) {
+            if (results.size() >= size) {
+                break;
+            }
+            tier.get().stream()
+                    .filter(seen::add)
+                    .map(index::get)
+                    .flatMap(Optional::stream)
+                    .filter(entry -> entry.matchesAny(categoryMask))
+                    .sorted(StoreSearchIndex.RANKING)
+                    .limit(size - results.size())
+                    .map(StoreResponseDto::new)
+                    .forEach(results::add);
+        }
+        return results;
+    }
+
+    /**
+     * 가게 변경 알림. 트랜잭션 안이면 커밋 후에 발행한다 (롤백된 변경은 반영하지 않음)
+     */
+    public void storeChanged(UUID storeId) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(storeId);
+                }
+            });
+        } else {
+            publish(storeId);
+        }
+    }
+
+    // 가게 한 건을 DB에서 다시 읽어 교체 (노출 대상이 아니면 제거)
+    public void reload(UUID storeId) {
+        if (!enabled) {
+            return;
+        }
+        Set<UUID> pending = changedDuringRebuild;
+        if (pending != null) {
+            pending.add(storeId);
+        }
+        List<StoreSearchEntry> entries = transactionTemplate.execute(status -> loadEntries(
+                em.createQuery(STORE_ROWS_QUERY + "AND s.storeId = :storeId", Object[].class)
+                        .setParameter("deleted", StoreStatus.DELETED)
+                        .setParameter("storeId", storeId)
+                        .getResultList()));
+        if (entries == null || entries.isEmpty()) {
+            index.remove(storeId);
+            deliveryZoneIndex.remove(storeId);
+        } else {
+            index.put(entries.get(0));
+            deliveryZoneIndex.put(storeId, entries.get(0).getAddress());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        changedDuringRebuild = ConcurrentHashMap.newKeySet();
+        long indexed = rebuild();
+        Set<UUID> changed = changedDuringRebuild;
+        changedDuringRebuild = null;
+
+        // 청크를 읽은 뒤 커밋된 변경이 이전 값으로 덮이지 않도록 리빌드 중 변경된 가게는 다시 읽음
+        changed.forEach(this::reload);
+        ready = true;
+        log.info("가게 검색 인덱스 생성 완료: {}건", indexed);
+    }
+
+    // id 기준 keyset으로 청크를 나누어 청크마다 짧은 읽기 트랜잭션 사용
+    private long rebuild() {
+        long indexed = 0;
+        UUID after = MIN_UUID;
+        while (true) {
+            UUID cursor = after;
+            List<StoreSearchEntry> entries = transactionTemplate.execute(status -> loadEntries(
+                    em.createQuery(STORE_ROWS_QUERY + "AND s.storeId > :after ORDER BY s.storeId", Object[].class)
+                            .setParameter("deleted", StoreStatus.DELETED)
+                            .setParameter("after", cursor)
+                            .setMaxResults(rebuildChunkSize)
+                            .getResultList()));
+            if (entries == null || entries.isEmpty()) {
+                return indexed;
+            }
+            entries.forEach(index::put);
+            deliveryZoneIndex.putAll(entries.stream()
+                    .collect(Collectors.toMap(StoreSearchEntry::getStoreId, StoreSearchEntry::getAddress)));
+            indexed += entries.size();
+            after = entries.get(entries.size() - 1).getStoreId();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${store.search.index.score-refresh-millis:30000}")
+    public void refreshAvgScores() {
+        if (!ready) {
+            return;
+        }
+        try {
+            index.updateAvgScores(storeRatingService.getAllAverageScores());
+        } catch (RuntimeException e) {
+            log.warn("가게 검색 인덱스 평점 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    private void publish(UUID storeId) {
+        try {
+            stringRedisTemplate.convertAndSend(INDEX_CHANNEL, storeId.toString());
+        } catch (RuntimeException e) {
+            log.warn("가게 검색 인덱스 변경 발행 실패, 로컬 인덱스만 갱신: storeId={}, {}", storeId, e.getMessage());
+            reload(storeId);
+        }
+    }
+
+    // 가게 행 + 카테고리(IN 쿼리 한 번) + 평균 평점(IN 쿼리 한 번)으로 항목 생성
+    private List<StoreSearchEntry> loadEntries(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> storeIds = rows.stream().map(row -> (UUID) row[0]).collect(Collectors.toList());
+        Map<UUID, Integer> categoryBits = loadCategoryBits(storeIds);
+        Map<UUID, Double> avgScores = storeRatingService.getAverageScores(storeIds);
+
+        List<StoreSearchEntry> entries = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            UUID storeId = (UUID) row[0];
+            entries.add(StoreSearchEntry.builder()
+                    .storeId(storeId)
+                    .name((String) row[1])
+                    .content((String) row[2])
+                    .address(new Address((String) row[3], (String) row[4], (String) row[5]))
+                    .status((StoreStatus) row[6])
+                    .memberId((Long) row[7])
+                    .categoryBits(categoryBits.getOrDefault(storeId, 0))
+                    .avgScore(avgScores.getOrDefault(storeId, 0.0))
+                    .build());
+        }
+        return entries;
+    }
+
+    private Map<UUID, Integer> loadCategoryBits(Collection<UUID> storeIds) {
+        List<Object[]> rows = em.createQuery(
+                        "SELECT sc.store.storeId, sc.category FROM StoreCategory sc WHERE sc.store.storeId IN :storeIds",
+                        Object[].class)
+                .setParameter("storeIds", storeIds)
+                .getResultList();
+        Map<UUID, Integer> categoryBits = new HashMap<>();
+        for (Object[] row : rows) {
+            categoryBits.merge((UUID) row[0], StoreSearchEntry.bitOf((CategoryType) row[1]), (a, b) -> a | b);
+        }
+        return categoryBits;
+    }
+
+    private static int maskOf(CategoryType category) {
+        return category != null ? StoreSearchEntry.bitOf(category) : 0;
+    }
+}
@@ -1,9 +1,13 @@
 package com.sparta.tl3p.backend.domain.store.service;
 
+import com.sparta.tl3p.backend.common.cache.TwoTierCache;
 import com.sparta.tl3p.backend.common.exception.BusinessException;
 import com.sparta.tl3p.backend.common.type.ErrorCode;
+import com.sparta.tl3p.backend.common.util.OptimisticRetryExecutor;
 import com.sparta.tl3p.backend.domain.member.entity.Member;
 import com.sparta.tl3p.backend.domain.member.repository.MemberRepository;
+import com.sparta.tl3p.backend.domain.order.service.OrderSearchIndexService;
+import com.sparta.tl3p.backend.domain.store.dto.StoreAutocompleteResponseDto;
 import com.sparta.tl3p.backend.domain.store.dto.StoreRequestDto;
 import com.sparta.tl3p.backend.domain.store.dto.StoreResponseDto;
 import com.sparta.tl3p.backend.domain.store.entity.Store;
@@ -16,6 +20,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -26,6 +32,11 @@ public class StoreService {
     private final StoreRepository storeRepository;
     private final StoreCategoryRepository storeCategoryRepository;
     private final MemberRepository memberRepository;
+    private final StoreRatingService storeRatingService;
+    private final TwoTierCache<StoreResponseDto> storeCache;
+    private final OptimisticRetryExecutor optimisticRetryExecutor;
+    private final OrderSearchIndexService orderSearchIndexService;
+    private final StoreSearchIndexService storeSearchIndexService;
 
     @Transactional
     public StoreResponseDto createStore(StoreRequestDto requestDto, Long memberId) {
@@ -49,68 +60,117 @@ public class StoreService {
                 .map(category -> new StoreCategory(store, CategoryType.valueOf(category.name())))
                 .collect(Collectors.toList());
         storeCategoryRepository.saveAll(categories);
+        storeRatingService.initialize(store.getStoreId());
+        orderSearchIndexService.indexStoreName(store.getStoreId(), store.getName());
+        storeSearchIndexService.storeChanged(store.getStoreId());
 
         return new StoreResponseDto(store);
     }
 
     public StoreResponseDto getStore(UUID storeId) {
-        Store store = storeRepository.findByIdExcludeDeleted(storeId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
-        double avgScore = storeRepository.findAvgReviewScoreByStoreId(storeId);
-        return new StoreResponseDto(store, avgScore);
+        return storeCache.get(storeId, () -> {
+            Store store = storeRepository.findByIdExcludeDeleted(storeId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
+            double avgScore = storeRatingService.getAverageScore(storeId);
+            return new StoreResponseDto(store, avgScore);
+        });
     }
 
+    // 검색 인덱스가 준비되면 DB 조회 없이 메모리 인덱스에서 검색 (평점 순)
     public List<StoreResponseDto> searchStores(String category, String query) {
-        CategoryType categoryType = (category != null) ? CategoryType.valueOf(category.toUpperCase()) : null;
+        CategoryType categoryType = toCategoryType(category);
+        if (storeSearchIndexService.isReady()) {
+            return storeSearchIndexService.search(categoryType, query);
+        }
         List<Store> stores = storeRepository.findStoresByCategoryAndQuery(categoryType, query);
-        return stores.stream().map(StoreResponseDto::new).collect(Collectors.toList());
+        return toResponsesWithScore(stores);
     }
 
-    public List<StoreResponseDto> getStoresByOwner(Long memberId) {
-        List<Store> stores = storeRepository.findByMemberMemberId(memberId);
-        return stores.stream().map(StoreResponseDto::new).collect(Collectors.toList());
+    public List<StoreAutocompleteResponseDto> autocompleteStores(String prefix, String category, int size) {
+        if (!storeSearchIndexService.isReady()) {
+            return List.of();
+        }
+        return storeSearchIndexService.autocomplete(prefix, toCategoryType(category), size);
     }
 
-    @Transactional
-    public void updateStore(UUID storeId, StoreRequestDto requestDto, Long memberId) {
-        Store store = storeRepository.findByIdExcludeDeleted(storeId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
-
-        if (!store.getMember().getMemberId().equals(memberId)) {
-            throw new BusinessException(ErrorCode.UNAUTHORIZED_ACTION);
+    // 배달 지역 색인으로 주변 가게 조회 (DB 조회 없음)
+    public List<StoreResponseDto> findNearbyStores(String zipcode, String city, String category, int size) {
+        if ((zipcode == null || zipcode.isBlank()) && (city == null || city.isBlank())) {
+            throw new BusinessException(ErrorCode.PARAM_NOT_VALID);
         }
+        if (!storeSearchIndexService.isReady()) {
+            return List.of();
+        }
+        return storeSearchIndexService.findNearby(zipcode, city, toCategoryType(category), size);
+    }
 
-        store.updateStore(requestDto.getName(), requestDto.getContent(), requestDto.getAddress(), requestDto.getStatus());
-
-        storeCategoryRepository.deleteByStoreId(storeId);
+    public List<StoreResponseDto> getStoresByOwner(Long memberId) {
+        List<Store> stores = storeRepository.findByMemberMemberId(memberId);
+        return toResponsesWithScore(stores);
+    }
 
-        List<StoreCategory> newCategories = requestDto.getCategories().stream()
-                .map(category -> new StoreCategory(store, CategoryType.valueOf(category.name())))
-                .collect(Collectors.toList());
-        storeCategoryRepository.saveAll(newCategories);
+    public void updateStore(UUID storeId, StoreRequestDto requestDto, Long memberId) {
+        optimisticRetryExecutor.run(() -> {
+            Store store = findOwnedStore(storeId, memberId);
+
+            String previousName = store.getName();
+            store.updateStore(requestDto.getName(), requestDto.getContent(), requestDto.getAddress(), requestDto.getStatus());
+            if (!Objects.equals(previousName, store.getName())) {
+                orderSearchIndexService.indexStoreName(storeId, store.getName());
+            }
+
+            storeCategoryRepository.deleteByStoreId(storeId);
+
+            List<StoreCategory> newCategories = requestDto.getCategories().stream()
+                    .map(category -> new StoreCategory(store, CategoryType.valueOf(category.name())))
+                    .collect(Collectors.toList());
+            storeCategoryRepository.saveAll(newCategories);
+            storeCache.evict(storeId);
+            storeSearchIndexService.storeChanged(storeId);
+        });
     }
 
-    @Transactional
     public void hideStore(UUID storeId, Long memberId) {
-        Store store = storeRepository.findByIdExcludeDeleted(storeId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
-        if (!store.getMember().getMemberId().equals(memberId)) {
-            throw new BusinessException(ErrorCode.UNAUTHORIZED_ACTION);
-        }
-        store.hideStore();
+        optimisticRetryExecutor.run(() -> {
+            Store store = findOwnedStore(storeId, memberId);
+            store.hideStore();
+            storeCache.evict(storeId);
+            storeSearchIndexService.storeChanged(storeId);
+        });
     }
 
-    @Transactional
     public void deleteStore(UUID storeId, Long memberId) {
+        optimisticRetryExecutor.run(() -> {
+            Store store = findOwnedStore(storeId, memberId);
+            store.softDelete(memberId);
+            storeCache.evict(storeId);
+            storeSearchIndexService.storeChanged(storeId);
+        });
+    }
+
+    private Store findOwnedStore(UUID storeId, Long memberId) {
         Store store = storeRepository.findByIdExcludeDeleted(storeId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
         if (!store.getMember().getMemberId().equals(memberId)) {
             throw new BusinessException(ErrorCode.UNAUTHORIZED_ACTION);
         }
-        store.softDelete(memberId);
+        return store;
+    }
+
+    private CategoryType toCategoryType(String category) {
+        return (category != null) ? CategoryType.valueOf(category.toUpperCase()) : null;
     }
 
     public double getStoreReviewScore(UUID storeId) {
-        return storeRepository.findAvgReviewScoreByStoreId(storeId);
+        return storeRatingService.getAverageScore(storeId);
+    }
+
+    // 가게 목록의 평균 평점을 집계 테이블에서 한 번에 조회
+    private List<StoreResponseDto> toResponsesWithScore(List<Store> stores) {
+        Map<UUID, Double> avgScores = storeRatingService.getAverageScores(
+                stores.stream().map(Store::getStoreId).collect(Collectors.toSet()));
+        return stores.stream()
+                .map(store -> new StoreResponseDto(store, avgScores.get(store.getStoreId())))
+                .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,103 @@
+package com.sparta.tl3p.backend.common;
+
+import com.sparta.tl3p.backend.common.exception.BusinessException;
+import com.sparta.tl3p.backend.common.type.ErrorCode;
+import com.sparta.tl3p.backend.common.util.AccessControl;
+import com.sparta.tl3p.backend.domain.member.entity.CustomUserDetails;
+import com.sparta.tl3p.backend.domain.member.entity.Member;
+import com.sparta.tl3p.backend.domain.member.enums.Role;
+import com.sparta.tl3p.backend.domain.member.repository.MemberRepository;
+import com.sparta.tl3p.backend.domain.store.repository.StoreRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccessControlTest {
+
+    @InjectMocks
+    private AccessControl accessControl;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("인증 principal이 있으면 회원 조회 없이 토큰의 권한 사용")
+    void roleOf_readsPrincipal() {
+        // given
+        authenticate(1L, Role.MASTER);
+
+        // when & then
+        assertThat(accessControl.isMaster(1L)).isTrue();
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    @DisplayName("principal이 없거나 다른 회원이면 회원 조회로 권한 확인")
+    void roleOf_fallsBackToLookup() {
+        // given
+        authenticate(1L, Role.MASTER);
+        Member member = mock(Member.class);
+        when(member.getRole()).thenReturn(Role.CUSTOMER);
+        when(memberRepository.findById(2L)).thenReturn(Optional.of(member));
+
+        // when & then
+        assertThat(accessControl.roleOf(2L)).isEqualTo(Role.CUSTOMER);
+        verify(memberRepository).findById(2L);
+    }
+
+    @Test
+    @DisplayName("고객은 다른 회원의 주문에 접근 불가")
+    void checkOrderAccess_customerDenied() {
+        // given
+        authenticate(1L, Role.CUSTOMER);
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> accessControl.checkOrderAccess(1L, 2L, UUID.randomUUID()));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.ACCESS_DENIED);
+        verifyNoInteractions(memberRepository, storeRepository);
+    }
+
+    @Test
+    @DisplayName("점주는 가게 소유자 ID만 조회하여 확인")
+    void checkOrderAccess_ownerChecksOwnerId() {
+        // given
+        UUID storeId = UUID.randomUUID();
+        authenticate(2L, Role.OWNER);
+        when(storeRepository.findOwnerIdByStoreId(storeId)).thenReturn(Optional.of(3L));
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> accessControl.checkOrderAccess(2L, 1L, storeId));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.ACCESS_DENIED);
+        verifyNoInteractions(memberRepository);
+    }
+
+    private void authenticate(Long memberId, Role role) {
+        CustomUserDetails userDetails = new CustomUserDetails(memberId, memberId.toString(), "", role);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities()));
+    }
+}
@@ -0,0 +1,122 @@
+package com.sparta.tl3p.backend.common;
+
+import com.sparta.tl3p.backend.common.dto.ResourceVersion;
+import com.sparta.tl3p.backend.common.dto.SuccessResponseDto;
+import com.sparta.tl3p.backend.common.type.ResponseCode;
+import com.sparta.tl3p.backend.common.util.ConditionalGet;
+import com.sparta.tl3p.backend.domain.store.dto.StoreResponseDto;
+import com.sparta.tl3p.backend.domain.store.enums.CategoryType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalGetTest {
+
+    private final ResourceVersion version = ResourceVersion.of("store", 3L, LocalDateTime.of(2025, 2, 1, 12, 0), null);
+
+    @Test
+    @DisplayName("ETag가 일치하면 본문을 만들지 않고 304")
+    void respond_notModified() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/stores/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, version.getEtag());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicInteger bodyBuilt = new AtomicInteger();
+
+        // when
+        ResponseEntity<SuccessResponseDto> result = ConditionalGet.respond(
+                new ServletWebRequest(request, response), version, () -> body(bodyBuilt));
+
+        // then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(result.getBody()).isNull();
+        assertThat(bodyBuilt.get()).isZero();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(version.getEtag());
+    }
+
+    @Test
+    @DisplayName("ETag가 다르면 본문과 함께 200, 재검증 Cache-Control")
+    void respond_modified() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/stores/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ResourceVersion.of("store", 2L).getEtag());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicInteger bodyBuilt = new AtomicInteger();
+
+        // when
+        ResponseEntity<SuccessResponseDto> result = ConditionalGet.respond(
+                new ServletWebRequest(request, response), version, () -> body(bodyBuilt));
+
+        // then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(bodyBuilt.get()).isEqualTo(1);
+        assertThat(result.getHeaders().getCacheControl()).contains("no-cache").contains("private");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(version.getEtag());
+    }
+
+    @Test
+    @DisplayName("버전 값이 같으면 같은 약한 ETag, 수정 시각이 없으면 Last-Modified 미사용")
+    void resourceVersion_weakEtag() {
+        assertThat(version.getEtag()).startsWith("W/\"store-3-").endsWith("-0\"");
+        assertThat(ResourceVersion.of("store", 3L).getEtag()).isEqualTo("W/\"store-3\"");
+        assertThat(ResourceVersion.of("store", 3L).getLastModified()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("캐시된 가게 응답의 검증자는 본문의 평점/카테고리가 바뀌면 함께 바뀜")
+    void storeResponse_versionFollowsBody() {
+        // given
+        StoreResponseDto store = new StoreResponseDto();
+        store.setVersion(1L);
+        store.setCategories(List.of(CategoryType.CHICKEN));
+        store.setAvgScore(4.0);
+        String before = store.toResourceVersion().getEtag();
+
+        // when
+        store.setAvgScore(4.5);
+        String rescored = store.toResourceVersion().getEtag();
+        store.setCategories(List.of(CategoryType.CHICKEN, CategoryType.PIZZA));
+
+        // then
+        assertThat(rescored).isNotEqualTo(before);
+        assertThat(store.toResourceVersion().getEtag()).isNotEqualTo(rescored);
+    }
+
+    @Test
+    @DisplayName("목록 검증자는 조회한 행과 페이지 정보로 만들어져 행이 바뀌면 함께 바뀜")
+    void listVersion_followsFetchedRows() {
+        // given
+        String before = ResourceVersion.ofContent("reviews", List.of("r1:4.0", "r2:5.0"), 2L, false).getEtag();
+
+        // when
+        String same = ResourceVersion.ofContent("reviews", List.of("r1:4.0", "r2:5.0"), 2L, false).getEtag();
+        String edited = ResourceVersion.ofContent("reviews", List.of("r1:4.0", "r2:3.0"), 2L, false).getEtag();
+        String added = ResourceVersion.ofContent("reviews", List.of("r1:4.0", "r2:5.0"), 3L, true).getEtag();
+
+        // then
+        assertThat(before).startsWith("W/\"reviews-").isEqualTo(same);
+        assertThat(edited).isNotEqualTo(before);
+        assertThat(added).isNotEqualTo(before);
+        assertThat(ResourceVersion.ofContent("reviews", List.of()).getLastModified()).isEqualTo(-1);
+    }
+
+    private SuccessResponseDto body(AtomicInteger bodyBuilt) {
+        bodyBuilt.incrementAndGet();
+        return SuccessResponseDto.builder()
+                .code(ResponseCode.S)
+                .message("조회 성공")
+                .data(null)
+                .build();
+    }
+}
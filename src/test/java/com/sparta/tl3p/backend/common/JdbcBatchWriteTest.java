@@ -0,0 +1,144 @@
+package com.sparta.tl3p.backend.common;
+
+import com.sparta.tl3p.backend.common.cache.TwoTierCache;
+import com.sparta.tl3p.backend.common.config.JpaBatchConfig;
+import com.sparta.tl3p.backend.common.config.QueryDslConfig;
+import com.sparta.tl3p.backend.common.util.AccessControl;
+import com.sparta.tl3p.backend.common.util.OptimisticRetryExecutor;
+import com.sparta.tl3p.backend.domain.item.entity.Item;
+import com.sparta.tl3p.backend.domain.member.entity.Member;
+import com.sparta.tl3p.backend.domain.member.enums.Role;
+import com.sparta.tl3p.backend.domain.order.dto.OrderItemRequestDto;
+import com.sparta.tl3p.backend.domain.order.dto.OrderRequestDto;
+import com.sparta.tl3p.backend.domain.order.enums.OrderType;
+import com.sparta.tl3p.backend.domain.order.enums.PaymentMethod;
+import com.sparta.tl3p.backend.domain.order.service.OrderEventPublisher;
+import com.sparta.tl3p.backend.domain.order.service.OrderSearchIndexService;
+import com.sparta.tl3p.backend.domain.order.service.OrderBatchJobLock;
+import com.sparta.tl3p.backend.domain.order.service.OrderSummaryService;
+import com.sparta.tl3p.backend.domain.order.service.OrderService;
+import com.sparta.tl3p.backend.domain.payment.service.PaymentService;
+import com.sparta.tl3p.backend.domain.store.dto.StoreRequestDto;
+import com.sparta.tl3p.backend.domain.store.dto.StoreResponseDto;
+import com.sparta.tl3p.backend.domain.store.entity.Store;
+import com.sparta.tl3p.backend.domain.store.enums.CategoryType;
+import com.sparta.tl3p.backend.domain.store.service.StoreRatingService;
+import com.sparta.tl3p.backend.domain.store.service.StoreService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JDBC 배치 설정 적용 시 여러 행을 쓰는 요청이 소수의 PreparedStatement로 처리되는지 검증
+ * (Hibernate는 배치 내 같은 SQL을 한 번만 준비하므로 prepare 횟수 = 실제 statement 왕복 수)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaBatchConfig.class, QueryDslConfig.class, OptimisticRetryExecutor.class, AccessControl.class,
+        OrderService.class, PaymentService.class, OrderEventPublisher.class, OrderSummaryService.class, OrderBatchJobLock.class,
+        StoreService.class, StoreRatingService.class})
+class JdbcBatchWriteTest {
+
+    private static final int ORDER_LINES = 30;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private StoreService storeService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private TwoTierCache<StoreResponseDto> storeCache;
+
+    // 이름 트라이그램 insert는 측정 대상이 아니므로 제외
+    @MockBean
+    private OrderSearchIndexService orderSearchIndexService;
+
+    private Statistics statistics;
+    private Member customer;
+    private Member owner;
+    private Store store;
+    private List<Item> items;
+
+    @BeforeEach
+    void setUp() {
+        JpaTestFixture fixture = new JpaTestFixture(em);
+        customer = fixture.persistMember("customer", Role.CUSTOMER);
+        owner = fixture.persistMember("owner", Role.OWNER);
+        store = fixture.persistStore(owner, "batch store");
+
+        items = new ArrayList<>();
+        for (int i = 0; i < ORDER_LINES; i++) {
+            items.add(fixture.persistItem(store, "item" + i, BigDecimal.valueOf(1000L + i)));
+        }
+
+        em.flush();
+        em.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("30개 항목 주문 - 주문 항목 insert가 하나의 배치로 전송")
+    void createOrder_batchesOrderItemInserts() {
+        // given
+        List<OrderItemRequestDto> lines = new ArrayList<>();
+        for (Item item : items) {
+            OrderItemRequestDto line = new OrderItemRequestDto();
+            line.setItemId(item.getItemId());
+            line.setQuantity(1);
+            lines.add(line);
+        }
+        OrderRequestDto request = new OrderRequestDto(OrderType.ONLINE, PaymentMethod.CARD,
+                JpaTestFixture.address(), "요청사항", customer.getMemberId(),
+                store.getStoreId(), lines);
+
+        // when
+        orderService.createOrder(request, customer.getMemberId());
+        em.flush();
+
+        // then: 조회 3회(회원, 가게, 상품 IN) + 주문 1 + 주문 항목 배치 1 + 결제 1 + outbox 2(IDENTITY) + 주문 요약 1
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + ORDER_LINES + 1 + 2 + 1);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("7개 카테고리 가게 - 카테고리 insert가 하나의 배치로 전송")
+    void createStore_batchesCategoryInserts() {
+        // given
+        StoreRequestDto request = new StoreRequestDto();
+        request.setName("new batch store");
+        request.setContent("batch");
+        request.setAddress(JpaTestFixture.address());
+        request.setCategories(Arrays.asList(CategoryType.values()).subList(0, 7));
+
+        // when
+        storeService.createStore(request, owner.getMemberId());
+        em.flush();
+
+        // then: 조회(회원, 평점 존재 여부, 평점 merge) + 가게 1 + 카테고리 배치 1 + 평점 1
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + 7 + 1);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+    }
+}
@@ -0,0 +1,132 @@
+package com.sparta.tl3p.backend.common;
+
+import com.sparta.tl3p.backend.common.type.Address;
+import com.sparta.tl3p.backend.common.util.UuidV7;
+import com.sparta.tl3p.backend.domain.item.entity.Item;
+import com.sparta.tl3p.backend.domain.member.entity.Member;
+import com.sparta.tl3p.backend.domain.member.enums.Role;
+import com.sparta.tl3p.backend.domain.order.entity.Order;
+import com.sparta.tl3p.backend.domain.order.entity.OrderItem;
+import com.sparta.tl3p.backend.domain.order.enums.DataStatus;
+import com.sparta.tl3p.backend.domain.order.enums.OrderType;
+import com.sparta.tl3p.backend.domain.payment.entity.Payment;
+import com.sparta.tl3p.backend.domain.payment.enums.PaymentMethod;
+import com.sparta.tl3p.backend.domain.payment.enums.PaymentStatus;
+import com.sparta.tl3p.backend.domain.store.entity.Store;
+import jakarta.persistence.EntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// @DataJpaTest용 테스트 데이터 생성 도우미 (회원/가게/상품/주문을 같은 기본값으로 저장)
+// 전달받은 엔티티는 id로 참조만 하므로 em.clear() 이후의 준영속 엔티티를 넘겨도 된다.
+public class JpaTestFixture {
+
+    private final EntityManager em;
+
+    public JpaTestFixture(EntityManager em) {
+        this.em = em;
+    }
+
+    public static Address address() {
+        return new Address("Seoul", "Main Street", "12345");
+    }
+
+    public Member persistMember(String username, Role role) {
+        Member member = new Member();
+        member.setUsername(username);
+        member.setPassword("password");
+        member.setEmail(username + "@test.com");
+        member.setRole(role);
+        em.persist(member);
+        return member;
+    }
+
+    public Store persistStore(Member owner, String name) {
+        Store store = Store.builder()
+                .name(name)
+                .address(address())
+                .member(reference(owner))
+                .build();
+        em.persist(store);
+        return store;
+    }
+
+    public Item persistItem(Store store, String name, BigDecimal price) {
+        Item item = Item.builder()
+                .store(reference(store))
+                .name(name)
+                .price(price)
+                .build();
+        em.persist(item);
+        return item;
+    }
+
+    // 상품 1개짜리 주문 (결제 없음)
+    public Order persistOrder(Member member, Store store, Item item) {
+        return persistOrder(member, store, item, 1, null);
+    }
+
+    // 같은 상품을 lines개 담은 주문 (결제 없음, createdAt이 null이면 저장 시각)
+    public Order persistOrder(Member member, Store store, Item item, int lines, LocalDateTime createdAt) {
+        Order order = buildOrder(member, store, item, lines, createdAt, null);
+        em.persist(order);
+        return order;
+    }
+
+    // 결제 완료된 주문
+    public Order persistPaidOrder(Member member, Store store, Item item, int lines,
+                                  LocalDateTime createdAt, String storeRequest) {
+        Order order = buildOrder(member, store, item, lines, createdAt, storeRequest);
+        order.setPayment(Payment.builder()
+                .paymentId(UuidV7.next())
+                .paymentStatus(PaymentStatus.SUCCESS)
+                .amount(order.calculateTotalAmount())
+                .paymentMethod(PaymentMethod.CARD)
+                .paymentDate(createdAt)
+                .storeId(store.getStoreId())
+                .memberId(member.getMemberId())
+                .order(order)
+                .build());
+        em.persist(order);
+        return order;
+    }
+
+    private Order buildOrder(Member member, Store store, Item item, int lines,
+                             LocalDateTime createdAt, String storeRequest) {
+        Order order = Order.builder()
+                .orderType(OrderType.ONLINE)
+                .deliveryAddress(address())
+                .storeRequest(storeRequest)
+                .status(DataStatus.CREATED)
+                .member(reference(member))
+                .store(reference(store))
+                .build();
+        if (createdAt != null) {
+            order.setCreatedAt(createdAt);
+        }
+
+        Item itemReference = reference(item);
+        for (int i = 0; i < lines; i++) {
+            order.getOrderItems().add(OrderItem.builder()
+                    .item(itemReference)
+                    .quantity(1)
+                    .price(item.getPrice())
+                    .order(order)
+                    .build());
+        }
+        return order;
+    }
+
+    private Member reference(Member member) {
+        return em.contains(member) ? member : em.getReference(Member.class, member.getMemberId());
+    }
+
+    private Store reference(Store store) {
+        return em.contains(store) ? store : em.getReference(Store.class, store.getStoreId());
+    }
+
+    private Item reference(Item item) {
+        return em.contains(item) ? item : em.getReference(Item.class, item.getItemId());
+    }
+}
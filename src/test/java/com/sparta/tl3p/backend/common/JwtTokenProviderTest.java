@@ -0,0 +1,75 @@
+package com.sparta.tl3p.backend.common;
+
+import com.sparta.tl3p.backend.common.util.JwtPrincipal;
+import com.sparta.tl3p.backend.common.util.JwtTokenProvider;
+import com.sparta.tl3p.backend.domain.member.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final long ACCESS_TOKEN_VALIDITY = 3_600_000L;
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(secret((byte) 1), ACCESS_TOKEN_VALIDITY, 1_209_600_000L, null);
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 1회 파싱으로 회원 ID, 권한, 만료 시각 반환")
+    void parseToken_accessToken() {
+        // given
+        String token = jwtTokenProvider.createAccessToken(7L, Role.OWNER);
+
+        // when
+        Optional<JwtPrincipal> principal = jwtTokenProvider.parseToken(token);
+
+        // then
+        assertThat(principal).isPresent();
+        assertThat(principal.get().getMemberId()).isEqualTo(7L);
+        assertThat(principal.get().getRole()).isEqualTo(Role.OWNER);
+        assertThat(principal.get().getExpiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰은 권한 없이 파싱")
+    void parseToken_refreshTokenHasNoRole() {
+        // given
+        String token = jwtTokenProvider.createRefreshToken(7L);
+
+        // when
+        Optional<JwtPrincipal> principal = jwtTokenProvider.parseToken(token);
+
+        // then
+        assertThat(principal).isPresent();
+        assertThat(principal.get().getRole()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰이나 형식이 잘못된 토큰은 빈 값 반환")
+    void parseToken_invalidToken() {
+        // given
+        JwtTokenProvider otherProvider = new JwtTokenProvider(secret((byte) 2), ACCESS_TOKEN_VALIDITY, 1L, null);
+        String foreignToken = otherProvider.createAccessToken(7L, Role.CUSTOMER);
+
+        // when & then
+        assertThat(jwtTokenProvider.parseToken(foreignToken)).isEmpty();
+        assertThat(jwtTokenProvider.parseToken("not-a-token")).isEmpty();
+    }
+
+    private static String secret(byte fill) {
+        byte[] key = new byte[32];
+        Arrays.fill(key, fill);
+        return Base64.getEncoder().encodeToString(key);
+    }
+}
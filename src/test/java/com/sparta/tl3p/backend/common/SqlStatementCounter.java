@@ -0,0 +1,57 @@
+package com.sparta.tl3p.backend.common;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Hibernate가 실행하는 SQL을 종류별로 집계하는 테스트용 StatementInspector
+// spring.jpa.properties.hibernate.session_factory.statement_inspector 속성으로 등록해서 사용
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final AtomicInteger SELECT = new AtomicInteger();
+    private static final AtomicInteger INSERT = new AtomicInteger();
+    private static final AtomicInteger UPDATE = new AtomicInteger();
+    private static final AtomicInteger DELETE = new AtomicInteger();
+
+    @Override
+    public String inspect(String sql) {
+        String statement = sql.stripLeading().toLowerCase();
+        if (statement.startsWith("select") || statement.startsWith("with")) {
+            SELECT.incrementAndGet();
+        } else if (statement.startsWith("insert")) {
+            INSERT.incrementAndGet();
+        } else if (statement.startsWith("update")) {
+            UPDATE.incrementAndGet();
+        } else if (statement.startsWith("delete")) {
+            DELETE.incrementAndGet();
+        }
+        return sql;
+    }
+
+    public static void reset() {
+        SELECT.set(0);
+        INSERT.set(0);
+        UPDATE.set(0);
+        DELETE.set(0);
+    }
+
+    public static int getSelectCount() {
+        return SELECT.get();
+    }
+
+    public static int getInsertCount() {
+        return INSERT.get();
+    }
+
+    public static int getUpdateCount() {
+        return UPDATE.get();
+    }
+
+    public static int getDeleteCount() {
+        return DELETE.get();
+    }
+
+    public static int getTotalCount() {
+        return SELECT.get() + INSERT.get() + UPDATE.get() + DELETE.get();
+    }
+}
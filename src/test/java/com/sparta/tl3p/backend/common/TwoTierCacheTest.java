@@ -0,0 +1,126 @@
+package com.sparta.tl3p.backend.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.tl3p.backend.common.cache.CacheStats;
+import com.sparta.tl3p.backend.common.cache.TwoTierCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TwoTierCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private TwoTierCache<String> cache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cache = new TwoTierCache<>("test", String.class, 2, Duration.ofMinutes(1), Duration.ofMinutes(5),
+                redisTemplate, new ObjectMapper());
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("캐시 미스 후 재조회는 L1에서 응답")
+    void get_missThenLocalHit() {
+        // when
+        String first = cache.get("a", () -> load("value-a"));
+        String second = cache.get("a", () -> load("value-a"));
+
+        // then
+        assertThat(first).isEqualTo("value-a");
+        assertThat(second).isEqualTo("value-a");
+        assertThat(loadCount.get()).isEqualTo(1);
+        verify(valueOperations).set(eq("cache:test:a"), eq("\"value-a\""), any(Duration.class));
+
+        CacheStats stats = cache.stats();
+        assertThat(stats.getMisses()).isEqualTo(1);
+        assertThat(stats.getL1Hits()).isEqualTo(1);
+        assertThat(stats.getHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("L1에 없으면 Redis(L2) 값을 사용하고 DB는 조회하지 않음")
+    void get_remoteHit() {
+        // given
+        when(valueOperations.get("cache:test:a")).thenReturn("\"remote-a\"");
+
+        // when
+        String value = cache.get("a", () -> load("value-a"));
+
+        // then
+        assertThat(value).isEqualTo("remote-a");
+        assertThat(loadCount.get()).isZero();
+        assertThat(cache.stats().getL2Hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("L1 최대 크기를 넘으면 가장 오래 사용되지 않은 항목 제거")
+    void get_evictsLeastRecentlyUsed() {
+        // when
+        cache.get("a", () -> load("value-a"));
+        cache.get("b", () -> load("value-b"));
+        cache.get("c", () -> load("value-c"));
+
+        // then
+        assertThat(cache.stats().getEvictions()).isEqualTo(1);
+        assertThat(cache.stats().getL1Size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무효화 시 L1/L2 제거 후 다른 인스턴스에 무효화 메시지 발행")
+    void evict_removesBothTiers() {
+        // given
+        cache.get("a", () -> load("value-a"));
+
+        // when
+        cache.evict("a");
+        cache.get("a", () -> load("value-a2"));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        verify(redisTemplate).delete("cache:test:a");
+        verify(redisTemplate).convertAndSend(TwoTierCache.INVALIDATION_CHANNEL, "test|a");
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB 조회로 대체")
+    void get_redisFailure_fallsBackToLoader() {
+        // given
+        when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        String value = cache.get("a", () -> load("value-a"));
+
+        // then
+        assertThat(value).isEqualTo("value-a");
+        assertThat(cache.stats().getMisses()).isEqualTo(1);
+    }
+
+    private String load(String value) {
+        loadCount.incrementAndGet();
+        return value;
+    }
+}
@@ -0,0 +1,92 @@
+package com.sparta.tl3p.backend.common;
+
+import com.sparta.tl3p.backend.common.util.UuidV7;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Test {
+
+    @Test
+    @DisplayName("버전 7, RFC 9562 variant 비트와 현재 시각의 타임스탬프를 가짐")
+    void next_versionVariantAndTimestamp() {
+        // given
+        long before = System.currentTimeMillis();
+
+        // when
+        UUID uuid = UuidV7.next();
+
+        // then
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        // 같은 밀리초에 카운터가 넘치면 1ms씩 앞설 수 있으므로 약간의 여유를 둠
+        assertThat(UuidV7.timestampOf(uuid)).isBetween(before, System.currentTimeMillis() + 50);
+    }
+
+    @Test
+    @DisplayName("단일 스레드에서 생성 순서대로 정렬됨 (문자열/바이트 순서 기준)")
+    void next_monotonicInSingleThread() {
+        // given
+        UUID previous = UuidV7.next();
+
+        // when & then
+        for (int i = 0; i < 100_000; i++) {
+            UUID current = UuidV7.next();
+            assertThat(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits()))
+                    .isPositive();
+            assertThat(current.toString()).isGreaterThan(previous.toString());
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("멀티 스레드 동시 생성 시 충돌 없이 스레드별로 증가")
+    void next_collisionFreeUnderConcurrency() throws Exception {
+        // given
+        int threads = 8;
+        int perThread = 50_000;
+        Set<UUID> all = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                UUID previous = null;
+                boolean ordered = true;
+                for (int i = 0; i < perThread; i++) {
+                    UUID current = UuidV7.next();
+                    all.add(current);
+                    if (previous != null && current.toString().compareTo(previous.toString()) <= 0) {
+                        ordered = false;
+                    }
+                    previous = current;
+                }
+                return ordered;
+            }));
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+        assertThat(all).hasSize(threads * perThread);
+    }
+}
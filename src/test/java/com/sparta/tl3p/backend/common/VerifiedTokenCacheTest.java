@@ -0,0 +1,94 @@
+package com.sparta.tl3p.backend.common;
+
+import com.sparta.tl3p.backend.common.cache.VerifiedTokenCache;
+import com.sparta.tl3p.backend.common.util.JwtPrincipal;
+import com.sparta.tl3p.backend.domain.member.enums.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private final AtomicInteger parseCount = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 토큰은 만료 전까지 한 번만 검증")
+    void get_reusesVerifiedPrincipal() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+        Function<String, Optional<JwtPrincipal>> parser = parserExpiringAt(Instant.now().plusSeconds(60));
+
+        // when
+        cache.get("token", parser);
+        Optional<JwtPrincipal> principal = cache.get("token", parser);
+
+        // then
+        assertThat(principal).isPresent();
+        assertThat(principal.get().getMemberId()).isEqualTo(1L);
+        assertThat(parseCount.get()).isEqualTo(1);
+        assertThat(cache.stats().getL1Hits()).isEqualTo(1);
+        assertThat(cache.stats().getHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("토큰 exp가 지난 항목은 다시 검증")
+    void get_expiredEntryIsReverified() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+        Function<String, Optional<JwtPrincipal>> parser = parserExpiringAt(Instant.now().minusSeconds(1));
+
+        // when
+        cache.get("token", parser);
+        cache.get("token", parser);
+
+        // then
+        assertThat(parseCount.get()).isEqualTo(2);
+        assertThat(cache.stats().getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 LRU 제거, 유효하지 않은 토큰은 캐시하지 않음")
+    void get_boundedAndSkipsInvalidTokens() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 2);
+        Function<String, Optional<JwtPrincipal>> parser = parserExpiringAt(Instant.now().plusSeconds(60));
+
+        // when
+        cache.get("token1", parser);
+        cache.get("token2", parser);
+        cache.get("token3", parser);
+        cache.get("invalid", token -> Optional.empty());
+
+        // then
+        assertThat(cache.stats().getL1Size()).isEqualTo(2);
+        assertThat(cache.stats().getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비활성화 시 매번 검증")
+    void get_disabled() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(false, 100);
+        Function<String, Optional<JwtPrincipal>> parser = parserExpiringAt(Instant.now().plusSeconds(60));
+
+        // when
+        cache.get("token", parser);
+        cache.get("token", parser);
+
+        // then
+        assertThat(parseCount.get()).isEqualTo(2);
+    }
+
+    private Function<String, Optional<JwtPrincipal>> parserExpiringAt(Instant expiresAt) {
+        return token -> {
+            parseCount.incrementAndGet();
+            return Optional.of(new JwtPrincipal(1L, Role.CUSTOMER, expiresAt));
+        };
+    }
+}
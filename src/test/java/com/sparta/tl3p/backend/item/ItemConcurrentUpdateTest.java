@@ -0,0 +1,160 @@
+package com.sparta.tl3p.backend.item;
+
+import com.sparta.tl3p.backend.common.JpaTestFixture;
+import com.sparta.tl3p.backend.common.util.OptimisticRetryExecutor;
+import com.sparta.tl3p.backend.domain.item.entity.Item;
+import com.sparta.tl3p.backend.domain.item.enums.ItemStatus;
+import com.sparta.tl3p.backend.domain.member.entity.Member;
+import com.sparta.tl3p.backend.domain.member.enums.Role;
+import com.sparta.tl3p.backend.domain.store.entity.Store;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 상품을 여러 스레드가 동시에 read-modify-write 할 때 갱신 유실이 없는지 검증하고
+ * 낙관적 락 + 재시도와 SELECT ... FOR UPDATE 방식의 처리량을 비교한다.
+ */
+@DataJpaTest
+@Import(OptimisticRetryExecutor.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "retry.optimistic.max-attempts=100",
+        "retry.optimistic.base-backoff-millis=1",
+        "retry.optimistic.max-backoff-millis=20"
+})
+class ItemConcurrentUpdateTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ItemConcurrentUpdateTest.class);
+    private static final int THREADS = 8;
+    private static final int UPDATES_PER_THREAD = 20;
+
+    @Autowired
+    private OptimisticRetryExecutor optimisticRetryExecutor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager em;
+
+    private TransactionTemplate transactionTemplate;
+    private Long memberId;
+    private UUID storeId;
+    private UUID itemId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            JpaTestFixture fixture = new JpaTestFixture(em);
+            Member member = fixture.persistMember("owner", Role.OWNER);
+            Store store = fixture.persistStore(member, "concurrency store");
+            Item item = fixture.persistItem(store, "counter", BigDecimal.ZERO);
+
+            memberId = member.getMemberId();
+            storeId = store.getStoreId();
+            itemId = item.getItemId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            em.remove(em.find(Item.class, itemId));
+            em.remove(em.find(Store.class, storeId));
+            em.remove(em.find(Member.class, memberId));
+        });
+    }
+
+    @Test
+    @DisplayName("낙관적 락 + 재시도 - 동시 수정에도 갱신 유실 없음")
+    void optimisticRetry_noLostUpdates() throws Exception {
+        // when
+        long elapsedNanos = runConcurrently(() -> optimisticRetryExecutor.run(this::incrementPrice));
+
+        // then
+        assertThat(currentPrice()).isEqualByComparingTo(BigDecimal.valueOf(THREADS * UPDATES_PER_THREAD));
+        assertThat(optimisticRetryExecutor.getExhaustedCount()).isZero();
+        report("optimistic + retry", elapsedNanos, optimisticRetryExecutor.getConflictCount());
+    }
+
+    @Test
+    @DisplayName("SELECT ... FOR UPDATE 기준선 - 동시 수정에도 갱신 유실 없음")
+    void pessimisticLockBaseline_noLostUpdates() throws Exception {
+        // when
+        long elapsedNanos = runConcurrently(() -> transactionTemplate.executeWithoutResult(status -> {
+            Item item = em.find(Item.class, itemId, LockModeType.PESSIMISTIC_WRITE);
+            item.updateItem(item.getName(), item.getPrice().add(BigDecimal.ONE), item.getDescription(), ItemStatus.ACTIVE);
+        }));
+
+        // then
+        assertThat(currentPrice()).isEqualByComparingTo(BigDecimal.valueOf(THREADS * UPDATES_PER_THREAD));
+        report("select for update", elapsedNanos, 0);
+    }
+
+    private void incrementPrice() {
+        Item item = em.find(Item.class, itemId);
+        item.updateItem(item.getName(), item.getPrice().add(BigDecimal.ONE), item.getDescription(), ItemStatus.ACTIVE);
+    }
+
+    private long runConcurrently(Runnable update) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < UPDATES_PER_THREAD; j++) {
+                    update.run();
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+        return elapsedNanos;
+    }
+
+    private BigDecimal currentPrice() {
+        return transactionTemplate.execute(status -> em.find(Item.class, itemId).getPrice());
+    }
+
+    private void report(String strategy, long elapsedNanos, long conflicts) {
+        int updates = THREADS * UPDATES_PER_THREAD;
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        log.info("[{}] updates={}, elapsed={}s, throughput={} ops/s, conflicts={}",
+                strategy, updates, String.format("%.3f", seconds), String.format("%.1f", updates / seconds), conflicts);
+    }
+}
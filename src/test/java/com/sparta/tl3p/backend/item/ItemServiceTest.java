@@ -1,15 +1,20 @@
 package com.sparta.tl3p.backend.item;
 
+import com.sparta.tl3p.backend.common.cache.TwoTierCache;
+import com.sparta.tl3p.backend.common.util.OptimisticRetryExecutor;
 import com.sparta.tl3p.backend.domain.item.dto.ItemCreateRequestDto;
+import com.sparta.tl3p.backend.domain.item.dto.ItemPageResponseDto;
 import com.sparta.tl3p.backend.domain.item.dto.ItemResponseDto;
 import com.sparta.tl3p.backend.domain.item.dto.ItemSearchRequestDto;
 import com.sparta.tl3p.backend.domain.item.dto.ItemUpdateRequestDto;
 import com.sparta.tl3p.backend.domain.item.entity.Item;
+import com.sparta.tl3p.backend.domain.item.enums.ItemPagingType;
 import com.sparta.tl3p.backend.domain.item.enums.ItemSortOption;
 import com.sparta.tl3p.backend.domain.item.enums.ItemStatus;
 import com.sparta.tl3p.backend.domain.item.repository.ItemRepository;
 import com.sparta.tl3p.backend.domain.item.service.ItemService;
 import com.sparta.tl3p.backend.domain.member.entity.Member;
+import com.sparta.tl3p.backend.domain.order.service.OrderSearchIndexService;
 import com.sparta.tl3p.backend.domain.store.entity.Store;
 import com.sparta.tl3p.backend.domain.store.repository.StoreRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,11 +26,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -42,6 +51,15 @@ public class ItemServiceTest {
     @Mock
     private StoreRepository storeRepository;
 
+    @Mock
+    private TwoTierCache<ItemResponseDto> itemCache;
+
+    @Mock
+    private OptimisticRetryExecutor optimisticRetryExecutor;
+
+    @Mock
+    private OrderSearchIndexService orderSearchIndexService;
+
     private UUID   itemId;
     private Long   memberId;
     private Store  store;
@@ -52,6 +70,14 @@ public class ItemServiceTest {
         itemId = UUID.randomUUID();
         memberId = 1L;
 
+        // 충돌 없는 상황: 재시도 없이 한 번 실행
+        lenient().when(optimisticRetryExecutor.execute(any())).thenAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(0).get());
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(optimisticRetryExecutor).run(any());
+
         Member member = mock(Member.class);
         lenient().when(member.getMemberId()).thenReturn(memberId);
         lenient().when(member.getUsername()).thenReturn("testowner");
@@ -111,6 +137,27 @@ public class ItemServiceTest {
         assertThat(response.getItemName()).isEqualTo(request.getItemName());
         assertThat(response.getPrice()).isEqualTo(request.getPrice());
         assertThat(response.getDescription()).isEqualTo(request.getDescription());
+        verify(orderSearchIndexService).indexItemName(itemId, "Updated Item");
+    }
+
+    @Test
+    @DisplayName("상품 수정 - 이름이 같으면 검색 인덱스를 갱신하지 않음")
+    void updateItem_sameName_skipsReindex() {
+        // given
+        ItemUpdateRequestDto request = ItemUpdateRequestDto.builder()
+                .itemName("Test Item")
+                .price(new BigDecimal("99999"))
+                .description("Updated Description")
+                .status(ItemStatus.ACTIVE)
+                .build();
+
+        when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
+
+        // when
+        itemService.updateItem(itemId, request, memberId);
+
+        // then
+        verify(orderSearchIndexService, never()).indexItemName(any(), any());
     }
 
     @Test
@@ -118,6 +165,8 @@ public class ItemServiceTest {
     void getItem_success() {
         // given
         when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
+        when(itemCache.get(eq(itemId), any())).thenAnswer(invocation ->
+                invocation.<Supplier<ItemResponseDto>>getArgument(1).get());
 
         // when
         ItemResponseDto response = itemService.getItem(itemId);
@@ -149,6 +198,29 @@ public class ItemServiceTest {
         assertThat(result.getContent().get(0).getName()).isEqualTo(item.getName());
     }
 
+    @Test
+    @DisplayName("상품 커서 조회 성공 테스트 - 다음 페이지가 있으면 커서 반환")
+    void searchItemsByCursor_success() {
+        // given
+        ItemSearchRequestDto request = new ItemSearchRequestDto();
+        request.setPagingType(ItemPagingType.CURSOR);
+        request.setSize(10);
+        request.setSortOption(ItemSortOption.CREATED_AT_DESC);
+
+        Slice<Item> itemSlice = new SliceImpl<>(List.of(item), PageRequest.of(0, 10), true);
+        when(itemRepository.findAllWithStoreByCursor(request)).thenReturn(itemSlice);
+
+        // when
+        ItemPageResponseDto result = itemService.getItemsByCursor(request);
+
+        // then
+        assertThat(result.getItems()).hasSize(1);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isNotBlank();
+        assertThat(result.getTotalElements()).isNull();
+        verify(itemRepository, never()).findAllWithStore(any());
+    }
+
     @Test
     @DisplayName("상품 숨김 처리 성공 테스트")
     void hideItem_success() {
@@ -160,6 +232,7 @@ public class ItemServiceTest {
 
         // then
         assertThat(item.getStatus()).isEqualTo(ItemStatus.HIDDEN);
+        verify(itemCache).evict(itemId);
     }
 
     @Test
@@ -173,5 +246,6 @@ public class ItemServiceTest {
 
         // then
         assertThat(item.getStatus()).isEqualTo(ItemStatus.DELETED);
+        verify(itemCache).evict(itemId);
     }
 }
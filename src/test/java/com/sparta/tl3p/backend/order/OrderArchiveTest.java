@@ -0,0 +1,153 @@
+package com.sparta.tl3p.backend.order;
+
+import com.sparta.tl3p.backend.common.JpaTestFixture;
+import com.sparta.tl3p.backend.common.config.QueryDslConfig;
+import com.sparta.tl3p.backend.common.util.AccessControl;
+import com.sparta.tl3p.backend.common.util.OptimisticRetryExecutor;
+import com.sparta.tl3p.backend.domain.item.entity.Item;
+import com.sparta.tl3p.backend.domain.member.entity.Member;
+import com.sparta.tl3p.backend.domain.member.enums.Role;
+import com.sparta.tl3p.backend.domain.order.dto.OrderArchiveRunResponseDto;
+import com.sparta.tl3p.backend.domain.order.dto.OrderDetailResponseDto;
+import com.sparta.tl3p.backend.domain.order.dto.OrderResponseDto;
+import com.sparta.tl3p.backend.domain.order.entity.Order;
+import com.sparta.tl3p.backend.domain.order.entity.OrderItemArchive;
+import com.sparta.tl3p.backend.domain.order.entity.PaymentArchive;
+import com.sparta.tl3p.backend.domain.order.repository.OrderArchiveRepository;
+import com.sparta.tl3p.backend.domain.order.repository.OrderRepository;
+import com.sparta.tl3p.backend.domain.order.service.OrderArchiveService;
+import com.sparta.tl3p.backend.domain.order.service.OrderEventPublisher;
+import com.sparta.tl3p.backend.domain.order.service.OrderService;
+import com.sparta.tl3p.backend.domain.order.service.OrderBatchJobLock;
+import com.sparta.tl3p.backend.domain.order.service.OrderSummaryService;
+import com.sparta.tl3p.backend.domain.payment.service.PaymentService;
+import com.sparta.tl3p.backend.domain.review.entity.Review;
+import com.sparta.tl3p.backend.domain.store.entity.Store;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "order.archive.retention-days=180",
+        "order.archive.chunk-size=2"
+})
+@Import({OrderArchiveService.class, OrderService.class, PaymentService.class, OrderEventPublisher.class,
+        OrderSummaryService.class, OrderBatchJobLock.class, OptimisticRetryExecutor.class, AccessControl.class, QueryDslConfig.class})
+class OrderArchiveTest {
+
+    private static final int OLD_ORDERS = 3;
+    private static final int LINES_PER_ORDER = 2;
+
+    @Autowired
+    private OrderArchiveService orderArchiveService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderArchiveRepository orderArchiveRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Long memberId;
+    private List<UUID> oldOrderIds;
+    private UUID recentOrderId;
+    private UUID reviewedOrderId;
+
+    @BeforeEach
+    void setUp() {
+        JpaTestFixture fixture = new JpaTestFixture(em);
+        Member member = fixture.persistMember("customer", Role.CUSTOMER);
+        Store store = fixture.persistStore(member, "archive store");
+        Item item = fixture.persistItem(store, "item", BigDecimal.valueOf(1000L));
+
+        LocalDateTime old = LocalDateTime.now().minusDays(200);
+        oldOrderIds = new ArrayList<>();
+        for (int i = 0; i < OLD_ORDERS; i++) {
+            oldOrderIds.add(fixture.persistPaidOrder(member, store, item, LINES_PER_ORDER, old.plusMinutes(i), null).getOrderId());
+        }
+        recentOrderId = fixture.persistPaidOrder(member, store, item, LINES_PER_ORDER, LocalDateTime.now().minusDays(1), null)
+                .getOrderId();
+
+        Order reviewedOrder = fixture.persistPaidOrder(member, store, item, LINES_PER_ORDER, old, null);
+        em.persist(Review.createReview("good", 4.0, reviewedOrder));
+        reviewedOrderId = reviewedOrder.getOrderId();
+
+        memberId = member.getMemberId();
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 주문을 주문 항목/결제와 함께 청크 단위로 이동")
+    void archiveExpiredOrders_movesOldOrdersInChunks() {
+        // when
+        OrderArchiveRunResponseDto result = orderArchiveService.archiveExpiredOrders();
+        em.clear();
+
+        // then: 3건을 청크 크기 2로 나누어 2번 처리
+        assertThat(result.getArchivedOrders()).isEqualTo(OLD_ORDERS);
+        assertThat(result.getChunks()).isEqualTo(2);
+        assertThat(result.isHasMore()).isFalse();
+
+        assertThat(orderRepository.findAll())
+                .extracting(Order::getOrderId)
+                .containsExactlyInAnyOrder(recentOrderId, reviewedOrderId);
+        assertThat(orderArchiveRepository.findAllById(oldOrderIds)).hasSize(OLD_ORDERS);
+        assertThat(em.createQuery("SELECT a FROM OrderItemArchive a", OrderItemArchive.class).getResultList())
+                .hasSize(OLD_ORDERS * LINES_PER_ORDER);
+        assertThat(em.createQuery("SELECT a FROM PaymentArchive a", PaymentArchive.class).getResultList())
+                .hasSize(OLD_ORDERS);
+        assertThat(em.createQuery("SELECT COUNT(p) FROM Payment p", Long.class).getSingleResult())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("다시 실행하면 남은 대상이 없어 아무것도 이동하지 않음")
+    void archiveExpiredOrders_rerunIsNoop() {
+        // given
+        orderArchiveService.archiveExpiredOrders();
+
+        // when
+        OrderArchiveRunResponseDto rerun = orderArchiveService.archiveExpiredOrders();
+
+        // then
+        assertThat(rerun.getArchivedOrders()).isZero();
+        assertThat(orderArchiveRepository.count()).isEqualTo(OLD_ORDERS);
+    }
+
+    @Test
+    @DisplayName("기본 조회는 원본만, history 조회는 보관 주문까지 포함")
+    void readOrders_historyModeIncludesArchive() {
+        // given
+        orderArchiveService.archiveExpiredOrders();
+        em.clear();
+
+        // when
+        List<OrderResponseDto> recent = orderService.getUserOrders(memberId, false);
+        List<OrderResponseDto> history = orderService.getUserOrders(memberId, true);
+        OrderDetailResponseDto archivedDetail = orderService.getOrderDetail(oldOrderIds.get(0), memberId, true);
+
+        // then
+        assertThat(recent).extracting(OrderResponseDto::getOrderId)
+                .containsExactlyInAnyOrder(recentOrderId, reviewedOrderId);
+        assertThat(history).hasSize(2 + OLD_ORDERS);
+        assertThat(archivedDetail.getItems()).hasSize(LINES_PER_ORDER);
+    }
+}
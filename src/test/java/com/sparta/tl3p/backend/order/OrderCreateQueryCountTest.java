@@ -0,0 +1,97 @@
+package com.sparta.tl3p.backend.order;
+
+import com.sparta.tl3p.backend.common.JpaTestFixture;
+import com.sparta.tl3p.backend.common.SqlStatementCounter;
+import com.sparta.tl3p.backend.common.config.QueryDslConfig;
+import com.sparta.tl3p.backend.common.util.AccessControl;
+import com.sparta.tl3p.backend.common.util.OptimisticRetryExecutor;
+import com.sparta.tl3p.backend.domain.member.entity.Member;
+import com.sparta.tl3p.backend.domain.member.enums.Role;
+import com.sparta.tl3p.backend.domain.order.dto.OrderItemRequestDto;
+import com.sparta.tl3p.backend.domain.order.dto.OrderRequestDto;
+import com.sparta.tl3p.backend.domain.order.dto.OrderResponseDto;
+import com.sparta.tl3p.backend.domain.order.enums.OrderType;
+import com.sparta.tl3p.backend.domain.order.enums.PaymentMethod;
+import com.sparta.tl3p.backend.domain.order.service.OrderEventPublisher;
+import com.sparta.tl3p.backend.domain.order.service.OrderService;
+import com.sparta.tl3p.backend.domain.order.service.OrderBatchJobLock;
+import com.sparta.tl3p.backend.domain.order.service.OrderSummaryService;
+import com.sparta.tl3p.backend.domain.payment.service.PaymentService;
+import com.sparta.tl3p.backend.domain.store.entity.Store;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.sparta.tl3p.backend.common.SqlStatementCounter"
+})
+@Import({OrderService.class, PaymentService.class, OrderEventPublisher.class, OptimisticRetryExecutor.class,
+        AccessControl.class, OrderSummaryService.class, OrderBatchJobLock.class, QueryDslConfig.class})
+class OrderCreateQueryCountTest {
+
+    private static final int CART_SIZE = 20;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EntityManager em;
+
+    private Long memberId;
+    private UUID storeId;
+    private List<UUID> itemIds;
+
+    @BeforeEach
+    void setUp() {
+        JpaTestFixture fixture = new JpaTestFixture(em);
+        Member member = fixture.persistMember("customer", Role.CUSTOMER);
+        Store store = fixture.persistStore(member, "query count store");
+
+        itemIds = new ArrayList<>();
+        for (int i = 0; i < CART_SIZE; i++) {
+            itemIds.add(fixture.persistItem(store, "item" + i, BigDecimal.valueOf(1000L + i)).getItemId());
+        }
+
+        memberId = member.getMemberId();
+        storeId = store.getStoreId();
+
+        em.flush();
+        em.clear();
+        SqlStatementCounter.reset();
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 장바구니 크기와 무관하게 조회 쿼리는 회원/가게/상품 3회")
+    void createOrder_selectCountIndependentOfCartSize() {
+        // given
+        List<OrderItemRequestDto> items = new ArrayList<>();
+        for (UUID itemId : itemIds) {
+            OrderItemRequestDto itemDto = new OrderItemRequestDto();
+            itemDto.setItemId(itemId);
+            itemDto.setQuantity(2);
+            items.add(itemDto);
+        }
+        OrderRequestDto request = new OrderRequestDto(OrderType.ONLINE, PaymentMethod.CARD,
+                JpaTestFixture.address(), "테스트 요청", memberId, storeId, items);
+
+        // when
+        OrderResponseDto response = orderService.createOrder(request, memberId);
+        em.flush();
+
+        // then: 회원, 가게, 상품(IN) 조회 3회 + 주문/주문항목/결제/outbox(생성, 결제)/주문 요약 insert
+        assertThat(response.getOrderId()).isNotNull();
+        assertThat(SqlStatementCounter.getSelectCount()).isEqualTo(3);
+        assertThat(SqlStatementCounter.getInsertCount()).isEqualTo(1 + CART_SIZE + 1 + 2 + 1);
+    }
+}
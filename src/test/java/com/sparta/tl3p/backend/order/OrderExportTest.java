@@ -0,0 +1,135 @@
+package com.sparta.tl3p.backend.order;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.tl3p.backend.common.JpaTestFixture;
+import com.sparta.tl3p.backend.common.SqlStatementCounter;
+import com.sparta.tl3p.backend.common.util.AccessControl;
+import com.sparta.tl3p.backend.domain.item.entity.Item;
+import com.sparta.tl3p.backend.domain.member.entity.Member;
+import com.sparta.tl3p.backend.domain.member.enums.Role;
+import com.sparta.tl3p.backend.domain.order.enums.OrderExportFormat;
+import com.sparta.tl3p.backend.domain.order.service.OrderExportService;
+import com.sparta.tl3p.backend.domain.store.entity.Store;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "order.export.fetch-size=3",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.sparta.tl3p.backend.common.SqlStatementCounter"
+})
+@Import({OrderExportService.class, AccessControl.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class OrderExportTest {
+
+    // fetch size 3 기준 청크 3개 (3 + 3 + 1)
+    private static final int ORDERS = 7;
+    private static final int LINES_PER_ORDER = 2;
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager em;
+
+    private UUID storeId;
+
+    @BeforeEach
+    void setUp() {
+        JpaTestFixture fixture = new JpaTestFixture(em);
+        Member member = fixture.persistMember("owner", Role.OWNER);
+        Store store = fixture.persistStore(member, "export store");
+        Item item = fixture.persistItem(store, "item", BigDecimal.valueOf(1000L));
+
+        LocalDateTime createdAt = LocalDateTime.now().minusHours(1);
+        for (int i = 0; i < ORDERS; i++) {
+            fixture.persistPaidOrder(member, store, item, LINES_PER_ORDER, createdAt.plusMinutes(i), "요청, \"" + i + "\"");
+        }
+
+        storeId = store.getStoreId();
+        em.flush();
+        em.clear();
+        SqlStatementCounter.reset();
+    }
+
+    @Test
+    @DisplayName("NDJSON - 주문당 한 줄, 청크마다 항목 IN 조회 한 번, 영속성 컨텍스트는 비워진 상태로 종료")
+    void exportNdjson_streamsInChunks() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long exported = orderExportService.exportStoreOrders(storeId, OrderExportFormat.NDJSON, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(exported).isEqualTo(ORDERS);
+        assertThat(lines).hasSize(ORDERS);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("items")).hasSize(LINES_PER_ORDER);
+        assertThat(first.get("paymentStatus").asText()).isEqualTo("SUCCESS");
+
+        // 주문 커서 1회 + 청크별 주문 항목 조회 3회
+        assertThat(SqlStatementCounter.getSelectCount()).isEqualTo(1 + 3);
+        assertThat(em.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("CSV - 헤더 + 주문 항목당 한 행, 쉼표/따옴표가 포함된 값은 따옴표로 감쌈")
+    void exportCsv_writesRowPerOrderItem() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        orderExportService.exportStoreOrders(storeId, OrderExportFormat.CSV, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines[0]).startsWith("order_id,created_at,status");
+        assertThat(lines).hasSize(1 + ORDERS * LINES_PER_ORDER);
+        assertThat(lines[1]).contains("\"요청, \"\"0\"\"\"");
+    }
+
+    @Test
+    @DisplayName("CSV - 배송지 컬럼 포함, 수식으로 시작하는 값은 앞에 ' 를 붙여 기록")
+    void exportCsv_writesAddressAndEscapesFormulas() throws Exception {
+        // given
+        JpaTestFixture fixture = new JpaTestFixture(em);
+        Member owner = fixture.persistMember("formula", Role.OWNER);
+        Store store = fixture.persistStore(owner, "formula store");
+        Item item = fixture.persistItem(store, "item", BigDecimal.valueOf(1000L));
+        fixture.persistPaidOrder(owner, store, item, 1, LocalDateTime.now(), "=HYPERLINK(\"http://evil\")");
+        em.flush();
+        em.clear();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        orderExportService.exportStoreOrders(store.getStoreId(), OrderExportFormat.CSV, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines[0]).contains("store_request,delivery_city,delivery_street,delivery_zipcode,payment_id");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[1]).contains(",\"'=HYPERLINK(\"\"http://evil\"\")\",Seoul,Main Street,12345,");
+    }
+}
@@ -0,0 +1,203 @@
+package com.sparta.tl3p.backend.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.tl3p.backend.common.exception.BusinessException;
+import com.sparta.tl3p.backend.common.type.Address;
+import com.sparta.tl3p.backend.common.type.ErrorCode;
+import com.sparta.tl3p.backend.domain.order.dto.OrderItemRequestDto;
+import com.sparta.tl3p.backend.domain.order.dto.OrderRequestDto;
+import com.sparta.tl3p.backend.domain.order.dto.OrderResponseDto;
+import com.sparta.tl3p.backend.domain.order.enums.OrderType;
+import com.sparta.tl3p.backend.domain.order.enums.PaymentMethod;
+import com.sparta.tl3p.backend.domain.order.service.OrderIdempotencyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderIdempotencyServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    // Redis 대신 사용하는 메모리 저장소
+    private final Map<String, String> store = new ConcurrentHashMap<>();
+
+    private OrderIdempotencyService idempotencyService;
+    private AtomicInteger executeCount;
+    private OrderRequestDto request;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(inv -> store.putIfAbsent(inv.getArgument(0), inv.getArgument(1)) == null);
+        lenient().when(valueOperations.get(anyString()))
+                .thenAnswer(inv -> store.get(inv.<String>getArgument(0)));
+        lenient().doAnswer(inv -> store.put(inv.getArgument(0), inv.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        lenient().when(redisTemplate.delete(anyString()))
+                .thenAnswer(inv -> store.remove(inv.<String>getArgument(0)) != null);
+
+        idempotencyService = new OrderIdempotencyService(redisTemplate, new ObjectMapper(), 60, 30, 2000);
+        executeCount = new AtomicInteger();
+        request = createRequest(2);
+    }
+
+    @Test
+    @DisplayName("같은 키로 재요청하면 주문을 다시 실행하지 않고 최초 응답 반환")
+    void execute_replayReturnsStoredResponse() {
+        // when
+        OrderResponseDto first = idempotencyService.execute(1L, "key-1", request, this::createOrder);
+        OrderResponseDto replay = idempotencyService.execute(1L, "key-1", request, this::createOrder);
+
+        // then
+        assertThat(executeCount.get()).isEqualTo(1);
+        assertThat(replay.getOrderId()).isEqualTo(first.getOrderId());
+        assertThat(replay.getDeliveryAddress().getCity()).isEqualTo("Seoul");
+    }
+
+    @Test
+    @DisplayName("다른 회원의 같은 키는 별도 요청으로 처리")
+    void execute_keyScopedByMember() {
+        // when
+        idempotencyService.execute(1L, "key-1", request, this::createOrder);
+        idempotencyService.execute(2L, "key-1", request, this::createOrder);
+
+        // then
+        assertThat(executeCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청 본문을 보내면 예외")
+    void execute_keyReusedWithDifferentRequest() {
+        // given
+        idempotencyService.execute(1L, "key-1", request, this::createOrder);
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> idempotencyService.execute(1L, "key-1", createRequest(3), this::createOrder));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        assertThat(executeCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실행 실패 시 키를 해제하여 같은 키로 재시도 가능")
+    void execute_failureReleasesKey() {
+        // given
+        assertThrows(BusinessException.class, () -> idempotencyService.execute(1L, "key-1", request, () -> {
+            throw new BusinessException(ErrorCode.PAYMENT_FAILED);
+        }));
+
+        // when
+        OrderResponseDto response = idempotencyService.execute(1L, "key-1", request, this::createOrder);
+
+        // then
+        assertThat(response.getOrderId()).isNotNull();
+        assertThat(executeCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 중인 키로 들어온 동시 요청은 실행하지 않고 결과를 기다림")
+    void execute_concurrentDuplicatesWaitForInFlightResult() throws Exception {
+        // given
+        int duplicates = 5;
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(duplicates + 1);
+
+        Future<OrderResponseDto> first = executor.submit(() ->
+                idempotencyService.execute(1L, "key-1", request, () -> {
+                    started.countDown();
+                    await(release);
+                    return createOrder();
+                }));
+        started.await(1, TimeUnit.SECONDS);
+
+        List<Future<OrderResponseDto>> others = new ArrayList<>();
+        for (int i = 0; i < duplicates; i++) {
+            others.add(executor.submit(() -> idempotencyService.execute(1L, "key-1", request, this::createOrder)));
+        }
+
+        // when
+        release.countDown();
+
+        // then
+        UUID orderId = first.get(2, TimeUnit.SECONDS).getOrderId();
+        for (Future<OrderResponseDto> other : others) {
+            assertThat(other.get(2, TimeUnit.SECONDS).getOrderId()).isEqualTo(orderId);
+        }
+        assertThat(executeCount.get()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 키 없이 주문 처리")
+    void execute_redisFailureFallsBackToDirectExecution() {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        OrderResponseDto response = idempotencyService.execute(1L, "key-1", request, this::createOrder);
+
+        // then
+        assertThat(response.getOrderId()).isNotNull();
+        assertThat(executeCount.get()).isEqualTo(1);
+    }
+
+    private OrderResponseDto createOrder() {
+        executeCount.incrementAndGet();
+        OrderResponseDto response = new OrderResponseDto();
+        response.setOrderId(UUID.randomUUID());
+        response.setStatus("CREATED");
+        response.setDeliveryAddress(new Address("Seoul", "Main Street", "12345"));
+        return response;
+    }
+
+    private OrderRequestDto createRequest(int quantity) {
+        OrderItemRequestDto item = new OrderItemRequestDto();
+        item.setItemId(UUID.fromString("00000000-0000-0000-0000-000000000001"));
+        item.setQuantity(quantity);
+        return new OrderRequestDto(OrderType.ONLINE, PaymentMethod.CARD,
+                new Address("Seoul", "Main Street", "12345"), "요청사항", 1L,
+                UUID.fromString("00000000-0000-0000-0000-000000000002"), List.of(item));
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.sparta.tl3p.backend.order;
+
+import com.sparta.tl3p.backend.domain.order.dto.OrderEvent;
+import com.sparta.tl3p.backend.domain.order.entity.OrderOutboxEvent;
+import com.sparta.tl3p.backend.domain.order.enums.OrderEventType;
+import com.sparta.tl3p.backend.domain.order.enums.OutboxStatus;
+import com.sparta.tl3p.backend.domain.order.repository.OrderOutboxRepository;
+import com.sparta.tl3p.backend.domain.order.service.OrderEventListener;
+import com.sparta.tl3p.backend.domain.order.service.OrderOutboxDispatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderOutboxDispatcherTest {
+
+    @Mock
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Mock
+    private ObjectProvider<OrderEventListener> listeners;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderOutboxDispatcher dispatcher;
+    private List<OrderEvent> received;
+
+    @BeforeEach
+    void setUp() {
+        received = new ArrayList<>();
+        dispatcher = new OrderOutboxDispatcher(orderOutboxRepository, listeners, transactionManager, true, 100, 2, 7, 2);
+    }
+
+    @Test
+    @DisplayName("미전달 이벤트를 순서대로 전달하고 PUBLISHED로 표시")
+    void dispatchBatch_deliversInOrder() {
+        // given
+        UUID orderId = UUID.randomUUID();
+        OrderOutboxEvent created = event(orderId, OrderEventType.CREATED);
+        OrderOutboxEvent paid = event(orderId, OrderEventType.PAID);
+        when(orderOutboxRepository.findPendingForDispatch(any(Pageable.class))).thenReturn(List.of(created, paid));
+        when(listeners.orderedStream()).thenAnswer(inv -> Stream.of((OrderEventListener) received::add));
+
+        // when
+        int delivered = dispatcher.dispatchBatch();
+
+        // then
+        assertThat(delivered).isEqualTo(2);
+        assertThat(received).extracting(OrderEvent::getEventType)
+                .containsExactly(OrderEventType.CREATED, OrderEventType.PAID);
+        assertThat(created.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+        assertThat(paid.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+        assertThat(dispatcher.stats().getDispatched()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전달 실패 시 같은 주문의 이후 이벤트는 보류, 다른 주문은 계속 전달")
+    void dispatchBatch_failureBlocksLaterEventsOfSameOrder() {
+        // given
+        UUID failingOrderId = UUID.randomUUID();
+        UUID otherOrderId = UUID.randomUUID();
+        OrderOutboxEvent failing = event(failingOrderId, OrderEventType.CREATED);
+        OrderOutboxEvent blocked = event(failingOrderId, OrderEventType.PAID);
+        OrderOutboxEvent other = event(otherOrderId, OrderEventType.CREATED);
+        when(orderOutboxRepository.findPendingForDispatch(any(Pageable.class)))
+                .thenReturn(List.of(failing, blocked, other));
+        when(listeners.orderedStream()).thenAnswer(inv -> Stream.of((OrderEventListener) event -> {
+            if (event.getOrderId().equals(failingOrderId)) {
+                throw new IllegalStateException("listener failure");
+            }
+            received.add(event);
+        }));
+
+        // when
+        int delivered = dispatcher.dispatchBatch();
+
+        // then
+        assertThat(delivered).isEqualTo(1);
+        assertThat(received).extracting(OrderEvent::getOrderId).containsExactly(otherOrderId);
+        assertThat(failing.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(failing.getAttempts()).isEqualTo(1);
+        assertThat(blocked.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(blocked.getAttempts()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 재시도 횟수 도달 시 FAILED로 전환")
+    void dispatchBatch_deadLettersAfterMaxAttempts() {
+        // given
+        OrderOutboxEvent failing = event(UUID.randomUUID(), OrderEventType.CREATED);
+        when(orderOutboxRepository.findPendingForDispatch(any(Pageable.class))).thenReturn(List.of(failing));
+        when(listeners.orderedStream()).thenAnswer(inv -> Stream.of((OrderEventListener) event -> {
+            throw new IllegalStateException("listener failure");
+        }));
+
+        // when
+        dispatcher.dispatchBatch();
+        dispatcher.dispatchBatch();
+
+        // then
+        assertThat(failing.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(dispatcher.stats().getDeadLettered()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("FAILED로 전환된 이벤트 뒤의 같은 주문 이벤트는 같은 배치에서 전달하지 않음")
+    void dispatchBatch_deadLetterBlocksLaterEventsOfSameOrder() {
+        // given
+        UUID orderId = UUID.randomUUID();
+        OrderOutboxEvent failing = event(orderId, OrderEventType.CREATED);
+        failing.markAttemptFailed(2);
+        OrderOutboxEvent blocked = event(orderId, OrderEventType.PAID);
+        when(orderOutboxRepository.findPendingForDispatch(any(Pageable.class))).thenReturn(List.of(failing, blocked));
+        when(listeners.orderedStream()).thenAnswer(inv -> Stream.of((OrderEventListener) event -> {
+            if (event.getEventType() == OrderEventType.CREATED) {
+                throw new IllegalStateException("listener failure");
+            }
+            received.add(event);
+        }));
+
+        // when
+        int delivered = dispatcher.dispatchBatch();
+
+        // then
+        assertThat(delivered).isZero();
+        assertThat(received).isEmpty();
+        assertThat(failing.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(blocked.getStatus()).isEqualTo(OutboxStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 PUBLISHED 이벤트를 청크 단위로 삭제")
+    void purgePublished_deletesInChunks() {
+        // given
+        when(orderOutboxRepository.findPublishedIdsBefore(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+        when(orderOutboxRepository.deleteByIds(List.of(1L, 2L))).thenReturn(2);
+        when(orderOutboxRepository.deleteByIds(List.of(3L))).thenReturn(1);
+
+        // when
+        long purged = dispatcher.purgePublished();
+
+        // then
+        assertThat(purged).isEqualTo(3);
+        verify(orderOutboxRepository, times(2)).deleteByIds(anyList());
+    }
+
+    private OrderOutboxEvent event(UUID orderId, OrderEventType eventType) {
+        return OrderOutboxEvent.builder()
+                .orderId(orderId)
+                .storeId(UUID.randomUUID())
+                .memberId(1L)
+                .eventType(eventType)
+                .orderStatus("CREATED")
+                .totalAmount(BigDecimal.valueOf(10000))
+                .build();
+    }
+}
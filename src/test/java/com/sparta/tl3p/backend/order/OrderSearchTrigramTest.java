@@ -0,0 +1,232 @@
+package com.sparta.tl3p.backend.order;
+
+import com.sparta.tl3p.backend.common.JpaTestFixture;
+import com.sparta.tl3p.backend.common.exception.BusinessException;
+import com.sparta.tl3p.backend.common.type.ErrorCode;
+import com.sparta.tl3p.backend.domain.item.entity.Item;
+import com.sparta.tl3p.backend.domain.item.enums.ItemStatus;
+import com.sparta.tl3p.backend.domain.member.entity.Member;
+import com.sparta.tl3p.backend.domain.member.enums.Role;
+import com.sparta.tl3p.backend.domain.order.entity.Order;
+import com.sparta.tl3p.backend.domain.order.entity.OrderBatchJob;
+import com.sparta.tl3p.backend.domain.order.entity.OrderSearchTrigram;
+import com.sparta.tl3p.backend.domain.order.repository.OrderBatchJobRepository;
+import com.sparta.tl3p.backend.domain.order.repository.OrderRepository;
+import com.sparta.tl3p.backend.domain.order.service.OrderBatchJobLock;
+import com.sparta.tl3p.backend.domain.order.service.OrderSearchIndexService;
+import com.sparta.tl3p.backend.domain.store.entity.Store;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+@Import({OrderSearchIndexService.class, OrderBatchJobLock.class})
+class OrderSearchTrigramTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderSearchIndexService orderSearchIndexService;
+
+    @Autowired
+    private OrderBatchJobLock orderBatchJobLock;
+
+    @Autowired
+    private OrderBatchJobRepository orderBatchJobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager em;
+
+    private JpaTestFixture fixture;
+    private Long memberId;
+    private UUID chickenStoreId;
+    private Item friedChicken;
+    private UUID friedOrderId;
+    private UUID pizzaOrderId;
+    private UUID spicyOrderId;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new JpaTestFixture(em);
+        Member member = fixture.persistMember("customer", Role.CUSTOMER);
+
+        Store chickenStore = persistStore(member, "맛있는 치킨집");
+        Store pizzaStore = persistStore(member, "Pizza House");
+
+        friedChicken = persistItem(chickenStore, "후라이드 치킨");
+        Item spicyChicken = persistItem(chickenStore, "양념 치킨");
+        Item pepperoni = persistItem(pizzaStore, "Pepperoni Pizza");
+
+        friedOrderId = persistOrder(member, chickenStore, friedChicken);
+        spicyOrderId = persistOrder(member, chickenStore, spicyChicken);
+        pizzaOrderId = persistOrder(member, pizzaStore, pepperoni);
+
+        memberId = member.getMemberId();
+        chickenStoreId = chickenStore.getStoreId();
+        em.flush();
+        em.clear();
+
+        // 모두 색인된 상태에서 백필을 실행하여 완료 표시 (이후 검색은 트라이그램 후보 조건 사용)
+        orderSearchIndexService.rebuild(false);
+    }
+
+    @Test
+    @DisplayName("트라이그램은 소문자 기준 연속 세 글자, 세 글자 미만은 없음")
+    void gramsOf_lowercaseTrigrams() {
+        assertThat(OrderSearchTrigram.gramsOf("PizZa")).containsExactly("piz", "izz", "zza");
+        assertThat(OrderSearchTrigram.gramsOf("치킨집")).containsExactly("치킨집");
+        assertThat(OrderSearchTrigram.gramsOf("치킨")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가게 이름 검색 - 트라이그램 후보 가게의 주문만 반환")
+    void searchByStoreName() {
+        // when
+        List<Order> orders = orderRepository.searchOrders(memberId, "치킨집", null);
+        List<Order> page = orderRepository.searchOrders(memberId, "치킨집", null, PageRequest.of(0, 10)).getContent();
+
+        // then
+        assertThat(orders).extracting(Order::getOrderId).containsExactlyInAnyOrder(friedOrderId, spicyOrderId);
+        assertThat(page).extracting(Order::getOrderId).containsExactlyInAnyOrder(friedOrderId, spicyOrderId);
+    }
+
+    @Test
+    @DisplayName("상품 이름 검색 - 대소문자 무시, 트라이그램이 하나라도 없으면 후보에서 제외")
+    void searchByProductName() {
+        // when
+        List<Order> pepperoni = orderRepository.searchOrders(memberId, null, "PEPPERONI", PageRequest.of(0, 10)).getContent();
+        List<Order> spicy = orderRepository.searchOrders(memberId, null, "양념 치", PageRequest.of(0, 10)).getContent();
+        // "pizza pep" 의 트라이그램 중 "za " 등은 "pepperoni pizza" 에 없으므로 후보 없음
+        List<Order> reversed = orderRepository.searchOrders(memberId, null, "pizza pep");
+
+        // then
+        assertThat(pepperoni).extracting(Order::getOrderId).containsExactly(pizzaOrderId);
+        assertThat(spicy).extracting(Order::getOrderId).containsExactly(spicyOrderId);
+        assertThat(reversed).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색어의 트라이그램이 모두 있어도 부분 문자열이 아니면 LIKE 재확인에서 제외")
+    void allTrigramsPresent_butNotSubstring() {
+        // given: "abc-bcd" 는 "abcd" 의 트라이그램(abc, bcd)을 모두 갖지만 "abcd" 를 포함하지 않음
+        Member member = em.find(Member.class, memberId);
+        Store store = em.find(Store.class, chickenStoreId);
+        Item item = persistItem(store, "abc-bcd");
+        UUID orderId = persistOrder(member, store, item);
+        em.flush();
+        em.clear();
+
+        // when
+        List<Order> notSubstring = orderRepository.searchOrders(memberId, null, "ABCD");
+        List<Order> substring = orderRepository.searchOrders(memberId, null, "c-bc");
+
+        // then
+        assertThat(OrderSearchTrigram.gramsOf("abc-bcd")).containsAll(OrderSearchTrigram.gramsOf("abcd"));
+        assertThat(notSubstring).isEmpty();
+        assertThat(substring).extracting(Order::getOrderId).containsExactly(orderId);
+    }
+
+    @Test
+    @DisplayName("세 글자 미만 검색어는 인덱스 없이 기존 부분 문자열 검색")
+    void shortQuery_fallsBackToLike() {
+        // when
+        List<Order> orders = orderRepository.searchOrders(memberId, null, "치킨", PageRequest.of(0, 10)).getContent();
+
+        // then
+        assertThat(orders).extracting(Order::getOrderId).containsExactlyInAnyOrder(friedOrderId, spicyOrderId);
+    }
+
+    @Test
+    @DisplayName("상품 이름 변경 시 인덱스를 갱신하면 새 이름으로만 검색됨")
+    void renamedItem_isReindexed() {
+        // given
+        Item item = em.find(Item.class, friedChicken.getItemId());
+        item.updateItem("크리스피 치킨", item.getPrice(), item.getDescription(), ItemStatus.ACTIVE);
+        orderSearchIndexService.indexItemName(item.getItemId(), item.getName());
+        em.flush();
+        em.clear();
+
+        // when
+        List<Order> byNewName = orderRepository.searchOrders(memberId, null, "크리스피");
+        List<Order> byOldName = orderRepository.searchOrders(memberId, null, "후라이드");
+
+        // then
+        assertThat(byNewName).extracting(Order::getOrderId).containsExactly(friedOrderId);
+        assertThat(byOldName).isEmpty();
+    }
+
+    @Test
+    @DisplayName("완료 표시 전에는 색인되지 않은 상품도 부분 문자열 검색으로 찾고, 백필은 빠진 대상만 이어서 채움")
+    void incompleteIndex_fallsBackToLikeAndResumes() {
+        // given: 색인 없이 추가된 상품과 완료 표시가 지워진 인덱스 (중단된 백필)
+        Member member = em.find(Member.class, memberId);
+        Store store = em.find(Store.class, chickenStoreId);
+        Item unindexed = fixture.persistItem(store, "치즈볼 세트", BigDecimal.valueOf(5000L));
+        UUID cheeseOrderId = persistOrder(member, store, unindexed);
+        orderBatchJobLock.resetCompleted(OrderBatchJob.SEARCH_TRIGRAM);
+        em.flush();
+        em.clear();
+
+        // when
+        List<Order> beforeBackfill = orderRepository.searchOrders(memberId, null, "치즈볼");
+        long indexed = orderSearchIndexService.rebuild(false);
+        List<Order> afterBackfill = orderRepository.searchOrders(memberId, null, "치즈볼");
+
+        // then
+        assertThat(beforeBackfill).extracting(Order::getOrderId).containsExactly(cheeseOrderId);
+        assertThat(indexed).isEqualTo(1);
+        assertThat(orderBatchJobLock.isCompleted(OrderBatchJob.SEARCH_TRIGRAM)).isTrue();
+        assertThat(afterBackfill).extracting(Order::getOrderId).containsExactly(cheeseOrderId);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 잠금을 가진 동안에는 재생성 거부, 해제 후 실행")
+    void rebuild_rejectedWhileLocked() {
+        // given
+        OrderBatchJobLock otherInstance = new OrderBatchJobLock(orderBatchJobRepository, transactionManager, 300);
+        assertThat(otherInstance.tryAcquire(OrderBatchJob.SEARCH_TRIGRAM)).isTrue();
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> orderSearchIndexService.rebuild(true));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.ORDER_BATCH_JOB_IN_PROGRESS);
+
+        otherInstance.release(OrderBatchJob.SEARCH_TRIGRAM);
+        assertThat(orderSearchIndexService.rebuild(true)).isEqualTo(5);
+        assertThat(orderRepository.searchOrders(memberId, null, "PEPPERONI"))
+                .extracting(Order::getOrderId).containsExactly(pizzaOrderId);
+    }
+
+    private Store persistStore(Member member, String name) {
+        Store store = fixture.persistStore(member, name);
+        orderSearchIndexService.indexStoreName(store.getStoreId(), store.getName());
+        return store;
+    }
+
+    private Item persistItem(Store store, String name) {
+        Item item = fixture.persistItem(store, name, BigDecimal.valueOf(10000L));
+        orderSearchIndexService.indexItemName(item.getItemId(), item.getName());
+        return item;
+    }
+
+    private UUID persistOrder(Member member, Store store, Item item) {
+        return fixture.persistOrder(member, store, item).getOrderId();
+    }
+}
@@ -3,7 +3,10 @@ package com.sparta.tl3p.backend.order;
 import com.sparta.tl3p.backend.common.exception.BusinessException;
 import com.sparta.tl3p.backend.common.type.Address;
 import com.sparta.tl3p.backend.common.type.ErrorCode;
+import com.sparta.tl3p.backend.common.util.AccessControl;
+import com.sparta.tl3p.backend.common.util.OptimisticRetryExecutor;
 import com.sparta.tl3p.backend.domain.item.entity.Item;
+import com.sparta.tl3p.backend.domain.item.enums.ItemStatus;
 import com.sparta.tl3p.backend.domain.item.repository.ItemRepository;
 import com.sparta.tl3p.backend.domain.member.entity.Member;
 import com.sparta.tl3p.backend.domain.member.enums.Role;
@@ -15,9 +18,15 @@ import com.sparta.tl3p.backend.domain.order.dto.OrderRequestDto;
 import com.sparta.tl3p.backend.domain.order.dto.OrderResponseDto;
 import com.sparta.tl3p.backend.domain.order.dto.OrderUpdateRequestDto;
 import com.sparta.tl3p.backend.domain.order.entity.Order;
+import com.sparta.tl3p.backend.domain.order.entity.OrderItem;
+import com.sparta.tl3p.backend.domain.order.enums.OrderEventType;
 import com.sparta.tl3p.backend.domain.order.enums.OrderType;
+import com.sparta.tl3p.backend.domain.order.repository.OrderArchiveRepository;
+import com.sparta.tl3p.backend.domain.order.repository.OrderItemArchiveRepository;
 import com.sparta.tl3p.backend.domain.order.repository.OrderRepository;
+import com.sparta.tl3p.backend.domain.order.service.OrderEventPublisher;
 import com.sparta.tl3p.backend.domain.order.service.OrderService;
+import com.sparta.tl3p.backend.domain.order.service.OrderSummaryService;
 import com.sparta.tl3p.backend.domain.payment.dto.PaymentRequestDto;
 import com.sparta.tl3p.backend.domain.payment.dto.PaymentResponseDto;
 import com.sparta.tl3p.backend.domain.payment.entity.Payment;
@@ -29,7 +38,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -39,7 +47,9 @@ import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
@@ -52,7 +62,6 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class OrderServiceTest {
 
-    @InjectMocks
     private OrderService orderService;
 
     @Mock
@@ -65,12 +74,23 @@ class OrderServiceTest {
     private StoreRepository storeRepository;
     @Mock
     private ItemRepository itemRepository;
+    @Mock
+    private OrderEventPublisher orderEventPublisher;
+    @Mock
+    private OptimisticRetryExecutor optimisticRetryExecutor;
+    @Mock
+    private OrderSummaryService orderSummaryService;
+    @Mock
+    private OrderArchiveRepository orderArchiveRepository;
+    @Mock
+    private OrderItemArchiveRepository orderItemArchiveRepository;
 
     // 공통 목 객체
     private Member customer;
     private Member owner;
     private Member anotherMember;
     private Store store;
+    private Item item;
     private OrderRequestDto orderRequestDto;
     private OrderUpdateRequestDto orderUpdateRequestDto;
     private OrderCancelRequestDto orderCancelRequestDto;
@@ -81,6 +101,10 @@ class OrderServiceTest {
     void setUp() {
         orderId = UUID.randomUUID();
 
+        // 충돌 없는 상황: 재시도 없이 한 번 실행
+        when(optimisticRetryExecutor.execute(any())).thenAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(0).get());
+
         // 고객(로그인 사용자) 설정
         customer = mock(Member.class);
         when(customer.getMemberId()).thenReturn(1L);
@@ -97,12 +121,13 @@ class OrderServiceTest {
         when(anotherMember.getRole()).thenReturn(Role.CUSTOMER);
 
         // 가게 설정 (기본 소유자는 owner)
+        UUID storeId = UUID.randomUUID();
         store = mock(Store.class);
+        when(store.getStoreId()).thenReturn(storeId);
         when(store.getMember()).thenReturn(owner);
 
         // 주문 요청 DTO 기본 스텁 설정
         orderRequestDto = mock(OrderRequestDto.class);
-        UUID storeId = UUID.randomUUID();
         when(orderRequestDto.getStoreId()).thenReturn(storeId);
         when(orderRequestDto.getOrderType()).thenReturn(OrderType.ONLINE);
         when(orderRequestDto.getPaymentMethod()).thenReturn(null); // PaymentService 내부 사용
@@ -117,10 +142,13 @@ class OrderServiceTest {
         when(orderItem.getQuantity()).thenReturn(2);
         when(orderRequestDto.getItems()).thenReturn(Collections.singletonList(orderItem));
 
-        // 아이템 조회 스텁 (정상 케이스)
-        Item item = mock(Item.class);
+        // 아이템 일괄 조회 스텁 (정상 케이스)
+        item = mock(Item.class);
+        when(item.getItemId()).thenReturn(itemId);
         when(item.getPrice()).thenReturn(BigDecimal.valueOf(1000));
-        when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
+        when(item.getStatus()).thenReturn(ItemStatus.ACTIVE);
+        when(item.getStore()).thenReturn(store);
+        when(itemRepository.findAllById(any())).thenReturn(List.of(item));
 
         // 회원 및 가게 조회 스텁 (정상 케이스)
         when(memberRepository.findById(1L)).thenReturn(Optional.of(customer));
@@ -141,9 +169,17 @@ class OrderServiceTest {
             return o;
         });
 
+        // 가게 소유자 ID 조회 스텁 (기본 소유자는 owner)
+        when(storeRepository.findOwnerIdByStoreId(storeId)).thenReturn(Optional.of(2L));
+
         // 기타 DTO 목
         orderUpdateRequestDto = mock(OrderUpdateRequestDto.class);
         orderCancelRequestDto = mock(OrderCancelRequestDto.class);
+
+        // 인증 principal이 없으므로 권한은 회원 조회 스텁으로 확인
+        orderService = new OrderService(paymentService, orderRepository, memberRepository, storeRepository,
+                itemRepository, orderEventPublisher, optimisticRetryExecutor, orderArchiveRepository,
+                orderItemArchiveRepository, orderSummaryService, new AccessControl(memberRepository, storeRepository));
     }
 
     // ================= createOrder 테스트 =================
@@ -154,9 +190,14 @@ class OrderServiceTest {
         // when: 주문 생성 호출 (결제 성공)
         OrderResponseDto response = orderService.createOrder(orderRequestDto, 1L);
 
-        // then: 응답의 orderId가 설정되어 있어야 함
+        // then: 응답의 orderId가 설정되어 있어야 하고, 상품은 한 번에 조회되어야 함
         assertThat(response.getOrderId()).isEqualTo(orderId);
         verify(paymentService).requestPayment(any(Order.class), any(PaymentRequestDto.class));
+        verify(itemRepository, times(1)).findAllById(any());
+        verify(itemRepository, never()).findById(any());
+        verify(orderEventPublisher).publish(any(Order.class), eq(OrderEventType.CREATED));
+        verify(orderEventPublisher).publish(any(Order.class), eq(OrderEventType.PAID));
+        verify(orderSummaryService).recordCreated(any(Order.class));
     }
 
     @Test
@@ -204,7 +245,7 @@ class OrderServiceTest {
         when(missingItem.getItemId()).thenReturn(missingItemId);
         when(missingItem.getQuantity()).thenReturn(3);
         when(orderRequestDto.getItems()).thenReturn(Collections.singletonList(missingItem));
-        when(itemRepository.findById(missingItemId)).thenReturn(Optional.empty());
+        when(itemRepository.findAllById(any())).thenReturn(Collections.emptyList());
 
         // when & then: BusinessException 발생
         assertThatThrownBy(() -> orderService.createOrder(orderRequestDto, 1L))
@@ -212,6 +253,32 @@ class OrderServiceTest {
                 .hasMessageContaining(ErrorCode.ITEM_NOT_FOUND.getMessage());
     }
 
+    @Test
+    @DisplayName("주문 생성 실패 - 판매 불가 상품")
+    void createOrder_itemNotAvailable_throwsException() {
+        // given: 숨김 처리된 상품을 주문하는 경우
+        when(item.getStatus()).thenReturn(ItemStatus.HIDDEN);
+
+        // when & then: BusinessException 발생
+        assertThatThrownBy(() -> orderService.createOrder(orderRequestDto, 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.ITEM_NOT_AVAILABLE.getMessage());
+    }
+
+    @Test
+    @DisplayName("주문 생성 실패 - 다른 가게 상품")
+    void createOrder_itemStoreMismatch_throwsException() {
+        // given: 주문 가게와 다른 가게의 상품이 포함된 경우
+        Store otherStore = mock(Store.class);
+        when(otherStore.getStoreId()).thenReturn(UUID.randomUUID());
+        when(item.getStore()).thenReturn(otherStore);
+
+        // when & then: BusinessException 발생
+        assertThatThrownBy(() -> orderService.createOrder(orderRequestDto, 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.ITEM_STORE_MISMATCH.getMessage());
+    }
+
     // ================= updateOrder 테스트 =================
 
     @Test
@@ -230,6 +297,45 @@ class OrderServiceTest {
         assertThat(response.getOrderId()).isEqualTo(existingOrder.getOrderId());
     }
 
+    @Test
+    @DisplayName("주문 수정 - 변경된 항목만 수정/추가/삭제하고 상품은 한 번에 조회")
+    void updateOrder_mergesChangedLinesOnly() {
+        // given: 기존 주문 항목 A(1개), B(2개), C(1개)
+        Order existingOrder = new Order(orderRequestDto, customer, store);
+        existingOrder.setCreatedAt(LocalDateTime.now());
+        Item itemA = orderableItem(BigDecimal.valueOf(1000));
+        Item itemB = orderableItem(BigDecimal.valueOf(2000));
+        Item itemC = orderableItem(BigDecimal.valueOf(3000));
+        Item itemD = orderableItem(BigDecimal.valueOf(4000));
+        OrderItem lineA = orderLine(existingOrder, itemA, 1);
+        OrderItem lineB = orderLine(existingOrder, itemB, 2);
+        orderLine(existingOrder, itemC, 1);
+
+        // 요청: A 수량 변경, B 그대로, C 제외, D 추가
+        when(orderUpdateRequestDto.getItems()).thenReturn(List.of(
+                itemRequest(itemA.getItemId(), 3),
+                itemRequest(itemB.getItemId(), 2),
+                itemRequest(itemD.getItemId(), 1)));
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(existingOrder));
+        when(orderRepository.save(existingOrder)).thenReturn(existingOrder);
+        when(itemRepository.findAllById(Set.of(itemA.getItemId(), itemD.getItemId())))
+                .thenReturn(List.of(itemA, itemD));
+
+        // when
+        orderService.updateOrder(orderId, orderUpdateRequestDto, 1L);
+
+        // then
+        verify(itemRepository, times(1)).findAllById(Set.of(itemA.getItemId(), itemD.getItemId()));
+        verify(itemRepository, never()).findById(any());
+        assertThat(existingOrder.getOrderItems())
+                .extracting(orderItem -> orderItem.getItem().getItemId())
+                .containsExactlyInAnyOrder(itemA.getItemId(), itemB.getItemId(), itemD.getItemId());
+        assertThat(existingOrder.getOrderItems()).contains(lineA, lineB);
+        assertThat(lineA.getQuantity()).isEqualTo(3);
+        assertThat(lineA.getPrice()).isEqualByComparingTo(BigDecimal.valueOf(3000));
+        assertThat(lineB.getPrice()).isEqualByComparingTo(BigDecimal.valueOf(4000));
+    }
+
     @Test
     @DisplayName("고객 주문 수정 실패 - 수정 시간 초과")
     void updateOrder_customer_timeOut_throwsException() {
@@ -282,7 +388,7 @@ class OrderServiceTest {
     @DisplayName("점주 주문 수정 실패 - 접근 권한 없음")
     void updateOrder_owner_accessDenied() {
         // given: 가게 실제 소유주가 아닌 점주가 수정 요청할 경우
-        when(store.getMember()).thenReturn(anotherMember); // 실제 가게 소유자는 anotherMember
+        when(storeRepository.findOwnerIdByStoreId(store.getStoreId())).thenReturn(Optional.of(3L)); // 실제 가게 소유자는 anotherMember
         Order existingOrder = spy(new Order(orderRequestDto, customer, store));
         existingOrder.setCreatedAt(LocalDateTime.now());
         doReturn(customer).when(existingOrder).getMember();
@@ -314,6 +420,8 @@ class OrderServiceTest {
         // then: 취소 메서드 호출 및 응답 확인
         verify(existingOrder).cancelOrder();
         assertThat(response.getOrderId()).isEqualTo(existingOrder.getOrderId());
+        verify(orderEventPublisher).publish(existingOrder, OrderEventType.CANCELLED);
+        verify(orderSummaryService).recordChanged(existingOrder);
     }
 
     @Test
@@ -371,7 +479,7 @@ class OrderServiceTest {
     @DisplayName("점주 주문 취소 실패 - 접근 권한 없음")
     void cancelOrder_owner_accessDenied() {
         // given: 가게의 실제 소유주가 아닌 점주가 취소 요청할 경우
-        when(store.getMember()).thenReturn(anotherMember); // 실제 가게 소유자는 anotherMember
+        when(storeRepository.findOwnerIdByStoreId(store.getStoreId())).thenReturn(Optional.of(3L)); // 실제 가게 소유자는 anotherMember
         Order existingOrder = spy(new Order(orderRequestDto, customer, store));
         existingOrder.setCreatedAt(LocalDateTime.now());
         doReturn(customer).when(existingOrder).getMember();
@@ -440,7 +548,7 @@ class OrderServiceTest {
     @DisplayName("점주 주문 상세 조회 실패 - 접근 권한 없음")
     void getOrderDetail_owner_accessDenied() {
         // given: 가게 실제 소유주와 다른 점주가 조회 요청 시
-        when(store.getMember()).thenReturn(anotherMember); // 실제 가게 소유자는 anotherMember
+        when(storeRepository.findOwnerIdByStoreId(store.getStoreId())).thenReturn(Optional.of(3L)); // 실제 가게 소유자는 anotherMember
         Order existingOrder = spy(new Order(orderRequestDto, customer, store));
         existingOrder.setCreatedAt(LocalDateTime.now());
         doReturn(customer).when(existingOrder).getMember();
@@ -474,9 +582,8 @@ class OrderServiceTest {
     @DisplayName("점주 가게 주문 목록 조회 성공")
     void getStoreOrders_success() {
         // given: 가게의 실제 소유주가 조회하는 경우
-        when(store.getMember()).thenReturn(owner);
         Order existingOrder = new Order(orderRequestDto, customer, store);
-        when(storeRepository.findById(any(UUID.class))).thenReturn(Optional.of(store));
+        when(storeRepository.findOwnerIdByStoreId(any(UUID.class))).thenReturn(Optional.of(2L));
         when(orderRepository.findByStoreStoreId(any(UUID.class)))
                 .thenReturn(Collections.singletonList(existingOrder));
 
@@ -491,8 +598,7 @@ class OrderServiceTest {
     @DisplayName("점주 가게 주문 목록 조회 실패 - 접근 권한 없음")
     void getStoreOrders_accessDenied() {
         // given: 가게의 실제 소유주가 아닌 점주가 조회하는 경우
-        when(store.getMember()).thenReturn(anotherMember);
-        when(storeRepository.findById(any(UUID.class))).thenReturn(Optional.of(store));
+        when(storeRepository.findOwnerIdByStoreId(any(UUID.class))).thenReturn(Optional.of(3L));
 
         // when & then: BusinessException 발생 (접근 권한 없음)
         assertThatThrownBy(() -> orderService.getStoreOrders(UUID.randomUUID(), 2L))
@@ -514,4 +620,31 @@ class OrderServiceTest {
         // then: 검색 결과에 1건 이상 존재함
         assertThat(orders).hasSize(1);
     }
+
+    private Item orderableItem(BigDecimal price) {
+        Item orderableItem = mock(Item.class);
+        when(orderableItem.getItemId()).thenReturn(UUID.randomUUID());
+        when(orderableItem.getPrice()).thenReturn(price);
+        when(orderableItem.getStatus()).thenReturn(ItemStatus.ACTIVE);
+        when(orderableItem.getStore()).thenReturn(store);
+        return orderableItem;
+    }
+
+    private OrderItem orderLine(Order order, Item lineItem, int quantity) {
+        OrderItem orderItem = OrderItem.builder()
+                .order(order)
+                .item(lineItem)
+                .quantity(quantity)
+                .price(lineItem.getPrice().multiply(BigDecimal.valueOf(quantity)))
+                .build();
+        order.getOrderItems().add(orderItem);
+        return orderItem;
+    }
+
+    private OrderItemRequestDto itemRequest(UUID itemId, int quantity) {
+        OrderItemRequestDto itemDto = new OrderItemRequestDto();
+        itemDto.setItemId(itemId);
+        itemDto.setQuantity(quantity);
+        return itemDto;
+    }
 }
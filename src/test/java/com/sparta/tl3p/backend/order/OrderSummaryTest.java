@@ -0,0 +1,194 @@
+package com.sparta.tl3p.backend.order;
+
+import com.sparta.tl3p.backend.common.JpaTestFixture;
+import com.sparta.tl3p.backend.common.SqlStatementCounter;
+import com.sparta.tl3p.backend.common.config.QueryDslConfig;
+import com.sparta.tl3p.backend.common.util.AccessControl;
+import com.sparta.tl3p.backend.common.util.OptimisticRetryExecutor;
+import com.sparta.tl3p.backend.domain.item.entity.Item;
+import com.sparta.tl3p.backend.domain.member.entity.Member;
+import com.sparta.tl3p.backend.domain.member.enums.Role;
+import com.sparta.tl3p.backend.domain.order.dto.OrderCancelRequestDto;
+import com.sparta.tl3p.backend.domain.order.dto.OrderItemRequestDto;
+import com.sparta.tl3p.backend.domain.order.dto.OrderRequestDto;
+import com.sparta.tl3p.backend.domain.order.dto.OrderSummaryPageResponseDto;
+import com.sparta.tl3p.backend.domain.order.dto.OrderSummaryResponseDto;
+import com.sparta.tl3p.backend.domain.order.dto.OrderSummarySearchRequestDto;
+import com.sparta.tl3p.backend.domain.order.entity.Order;
+import com.sparta.tl3p.backend.domain.order.entity.OrderSummary;
+import com.sparta.tl3p.backend.domain.order.enums.DataStatus;
+import com.sparta.tl3p.backend.domain.order.enums.OrderType;
+import com.sparta.tl3p.backend.domain.order.enums.PaymentMethod;
+import com.sparta.tl3p.backend.domain.order.repository.OrderSummaryRepository;
+import com.sparta.tl3p.backend.domain.order.service.OrderEventPublisher;
+import com.sparta.tl3p.backend.domain.order.service.OrderService;
+import com.sparta.tl3p.backend.domain.order.service.OrderBatchJobLock;
+import com.sparta.tl3p.backend.domain.order.service.OrderSummaryService;
+import com.sparta.tl3p.backend.domain.payment.service.PaymentService;
+import com.sparta.tl3p.backend.domain.store.entity.Store;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.sparta.tl3p.backend.common.SqlStatementCounter"
+})
+@Import({OrderService.class, OrderSummaryService.class, OrderBatchJobLock.class, PaymentService.class, OrderEventPublisher.class,
+        OptimisticRetryExecutor.class, AccessControl.class, QueryDslConfig.class})
+class OrderSummaryTest {
+
+    private static final int ORDERS = 12;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderSummaryService orderSummaryService;
+
+    @Autowired
+    private OrderSummaryRepository orderSummaryRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private JpaTestFixture fixture;
+    private Member member;
+    private Store store;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new JpaTestFixture(em);
+        member = fixture.persistMember("customer", Role.CUSTOMER);
+        store = fixture.persistStore(member, "summary store");
+        item = fixture.persistItem(store, "item", BigDecimal.valueOf(1000L));
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("주문 생성 시 요약이 함께 저장되고 키셋 페이지는 조인 없는 단일 조회")
+    void createOrder_recordsSummaryAndPagesByKeyset() {
+        // given
+        for (int i = 0; i < ORDERS; i++) {
+            createOrder();
+        }
+        em.flush();
+        em.clear();
+        SqlStatementCounter.reset();
+
+        // when
+        OrderSummaryPageResponseDto first = orderSummaryService.getMemberOrders(member.getMemberId(),
+                OrderSummarySearchRequestDto.builder().size(10).build());
+        int firstPageSelects = SqlStatementCounter.getSelectCount();
+        OrderSummaryPageResponseDto second = orderSummaryService.getMemberOrders(member.getMemberId(),
+                OrderSummarySearchRequestDto.builder()
+                        .size(10)
+                        .cursorDate(first.getNextCursorDate())
+                        .cursorId(first.getNextCursorId())
+                        .build());
+
+        // then
+        assertThat(firstPageSelects).isEqualTo(1);
+        assertThat(first.getOrders()).hasSize(10);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getOrders()).hasSize(ORDERS - 10);
+        assertThat(second.isHasNext()).isFalse();
+
+        Set<UUID> orderIds = new HashSet<>();
+        first.getOrders().forEach(summary -> orderIds.add(summary.getOrderId()));
+        second.getOrders().forEach(summary -> orderIds.add(summary.getOrderId()));
+        assertThat(orderIds).hasSize(ORDERS);
+
+        OrderSummaryResponseDto latest = first.getOrders().get(0);
+        assertThat(latest.getStoreName()).isEqualTo("summary store");
+        assertThat(latest.getItemCount()).isEqualTo(1);
+        assertThat(latest.getTotalAmount()).isEqualByComparingTo("2000");
+        assertThat(latest.getStatus()).isEqualTo(DataStatus.CREATED.name());
+    }
+
+    @Test
+    @DisplayName("주문 취소 시 요약 상태가 같은 트랜잭션에서 갱신")
+    void cancelOrder_updatesSummaryStatus() {
+        // given
+        UUID orderId = createOrder();
+        em.flush();
+        em.clear();
+
+        // when
+        orderService.cancelOrder(orderId, new OrderCancelRequestDto(), member.getMemberId());
+        em.flush();
+        em.clear();
+
+        // then
+        OrderSummary summary = orderSummaryRepository.findById(orderId).orElseThrow();
+        assertThat(summary.getStatus()).isEqualTo(DataStatus.DELETED);
+    }
+
+    @Test
+    @DisplayName("요약이 없는 기존 주문은 백필로 집계되어 복사")
+    void backfill_copiesExistingOrders() {
+        // given: 요약 없이 저장된 주문 (항목 2개)
+        Order order = fixture.persistOrder(member, store, item, 2, LocalDateTime.now().minusDays(1));
+        em.flush();
+        em.clear();
+
+        // when
+        long copied = orderSummaryService.backfill();
+        long rerun = orderSummaryService.backfill();
+        em.clear();
+
+        // then
+        assertThat(copied).isEqualTo(1);
+        assertThat(rerun).isZero();
+        OrderSummary summary = orderSummaryRepository.findById(order.getOrderId()).orElseThrow();
+        assertThat(summary.getMemberId()).isEqualTo(member.getMemberId());
+        assertThat(summary.getStoreName()).isEqualTo("summary store");
+        assertThat(summary.getItemCount()).isEqualTo(2);
+        assertThat(summary.getTotalAmount()).isEqualByComparingTo("2000");
+    }
+
+    @Test
+    @DisplayName("백필 복사는 그 사이 주문 수정으로 생긴 요약을 건너뜀")
+    void copyFromOrders_skipsOrdersSummarizedMeanwhile() {
+        // given: 백필이 id를 조회한 뒤 주문 수정으로 요약이 먼저 생성됨
+        Order summarized = fixture.persistOrder(member, store, item);
+        Order missing = fixture.persistOrder(member, store, item);
+        em.persist(new OrderSummary(summarized));
+        em.flush();
+        em.clear();
+
+        // when
+        int copied = orderSummaryRepository.copyFromOrders(List.of(summarized.getOrderId(), missing.getOrderId()));
+
+        // then
+        assertThat(copied).isEqualTo(1);
+        assertThat(orderSummaryRepository.findById(missing.getOrderId())).isPresent();
+    }
+
+    private UUID createOrder() {
+        OrderItemRequestDto line = new OrderItemRequestDto();
+        line.setItemId(item.getItemId());
+        line.setQuantity(2);
+        List<OrderItemRequestDto> lines = new ArrayList<>(List.of(line));
+        OrderRequestDto request = new OrderRequestDto(OrderType.ONLINE, PaymentMethod.CARD,
+                JpaTestFixture.address(), "요청사항", member.getMemberId(),
+                store.getStoreId(), lines);
+        return orderService.createOrder(request, member.getMemberId()).getOrderId();
+    }
+}
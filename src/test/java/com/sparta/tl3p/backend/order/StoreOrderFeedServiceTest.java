@@ -0,0 +1,223 @@
+package com.sparta.tl3p.backend.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.tl3p.backend.common.util.AccessControl;
+import com.sparta.tl3p.backend.domain.order.dto.OrderEvent;
+import com.sparta.tl3p.backend.domain.order.enums.OrderEventType;
+import com.sparta.tl3p.backend.domain.order.service.StoreOrderFeedService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoreOrderFeedServiceTest {
+
+    @Mock
+    private AccessControl accessControl;
+
+    private StoreOrderFeedService feedService;
+    private UUID storeId;
+    private UUID otherStoreId;
+
+    @BeforeEach
+    void setUp() {
+        // 전송을 호출 스레드에서 바로 실행하여 전송 결과를 즉시 검증
+        feedService = new StoreOrderFeedService(accessControl, new ObjectMapper().findAndRegisterModules(),
+                Runnable::run, 60_000L, 3, 600_000L, 100);
+        storeId = UUID.randomUUID();
+        otherStoreId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("이벤트는 해당 가게 연결에만 한 번 전송되고 중복 전달/결제 이벤트는 무시")
+    void broadcast_sendsToStoreSubscribersOnce() throws IOException {
+        // given
+        SseEmitter owner = mock(SseEmitter.class);
+        SseEmitter otherOwner = mock(SseEmitter.class);
+        feedService.register(storeId, owner, null);
+        feedService.register(otherStoreId, otherOwner, null);
+        clearInvocations(owner, otherOwner);
+
+        // when
+        feedService.broadcast(event(1L, storeId, OrderEventType.CREATED));
+        feedService.broadcast(event(1L, storeId, OrderEventType.CREATED));
+        feedService.broadcast(event(2L, storeId, OrderEventType.PAID));
+
+        // then
+        assertThat(sentPayloads(owner)).hasSize(1);
+        assertThat(sentPayloads(owner).get(0)).contains("id:1").contains("event:created");
+        verify(otherOwner, never()).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 재연결 시 버퍼에서 놓친 이벤트만 순서대로 재전송")
+    void register_withLastEventId_replaysMissedEvents() throws IOException {
+        // given
+        feedService.broadcast(event(10L, storeId, OrderEventType.CREATED));
+        feedService.broadcast(event(11L, storeId, OrderEventType.UPDATED));
+        feedService.broadcast(event(12L, storeId, OrderEventType.CANCELLED));
+
+        // when
+        SseEmitter reconnected = mock(SseEmitter.class);
+        feedService.register(storeId, reconnected, 10L);
+
+        // then
+        List<String> payloads = sentPayloads(reconnected);
+        assertThat(payloads).hasSize(2);
+        assertThat(payloads.get(0)).contains("id:11");
+        assertThat(payloads.get(1)).contains("id:12");
+    }
+
+    @Test
+    @DisplayName("작은 id가 늦게 전달되어도 마지막으로 받은 이벤트 뒤에 도착한 이벤트는 모두 재전송")
+    void register_withLateLowerEventId_replaysInArrivalOrder() throws IOException {
+        // given: 11번 커밋이 늦어 12번 뒤에 전달됨
+        feedService.broadcast(event(10L, storeId, OrderEventType.CREATED));
+        feedService.broadcast(event(12L, storeId, OrderEventType.CREATED));
+        feedService.broadcast(event(11L, storeId, OrderEventType.CREATED));
+
+        // when: 12번까지 받은 클라이언트가 재연결
+        SseEmitter reconnected = mock(SseEmitter.class);
+        feedService.register(storeId, reconnected, 12L);
+
+        // then
+        List<String> payloads = sentPayloads(reconnected);
+        assertThat(payloads).hasSize(1);
+        assertThat(payloads.get(0)).contains("id:11");
+    }
+
+    @Test
+    @DisplayName("버퍼에서 밀려난 구간 이전으로 재연결하면 resync 이벤트")
+    void register_withStaleLastEventId_sendsResync() throws IOException {
+        // given: 버퍼 크기 3을 넘겨 10번 이벤트가 밀려남
+        for (long id = 10; id <= 13; id++) {
+            feedService.broadcast(event(id, storeId, OrderEventType.CREATED));
+        }
+
+        // when
+        SseEmitter reconnected = mock(SseEmitter.class);
+        feedService.register(storeId, reconnected, 9L);
+
+        // then
+        List<String> payloads = sentPayloads(reconnected);
+        assertThat(payloads).hasSize(1);
+        assertThat(payloads.get(0)).contains("event:resync");
+    }
+
+    @Test
+    @DisplayName("기동 후 받은 이벤트가 없으면 재연결 시 resync 이벤트")
+    void register_beforeAnyEvent_sendsResync() throws IOException {
+        // when
+        SseEmitter reconnected = mock(SseEmitter.class);
+        feedService.register(storeId, reconnected, 5L);
+
+        // then
+        assertThat(sentPayloads(reconnected).get(0)).contains("event:resync");
+    }
+
+    @Test
+    @DisplayName("전송 실패한 연결은 제거")
+    void broadcast_removesBrokenConnection() throws IOException {
+        // given
+        SseEmitter broken = mock(SseEmitter.class);
+        feedService.register(storeId, broken, null);
+        doThrow(new IOException("broken pipe")).when(broken).send(any(SseEmitter.SseEventBuilder.class));
+
+        // when
+        feedService.broadcast(event(1L, storeId, OrderEventType.CREATED));
+
+        // then
+        assertThat(feedService.connectionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("전송이 밀려 대기열이 가득 찬 느린 연결은 끊음")
+    void broadcast_dropsSlowConnection() throws IOException {
+        // given: 느린 연결의 전송 작업이 실행되지 않는 전송 풀
+        StoreOrderFeedService slowFeed = new StoreOrderFeedService(accessControl,
+                new ObjectMapper().findAndRegisterModules(), task -> { }, 60_000L, 3, 600_000L, 2);
+        SseEmitter slow = mock(SseEmitter.class);
+        slowFeed.register(storeId, slow, null);
+
+        // when
+        for (long id = 1; id <= 3; id++) {
+            slowFeed.broadcast(event(id, storeId, OrderEventType.CREATED));
+        }
+
+        // then
+        assertThat(slowFeed.connectionCount()).isZero();
+        verify(slow, never()).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("마지막 연결이 제거되는 중에 등록된 연결도 유실되지 않음")
+    void register_concurrentWithRemoval_keepsConnection() throws Exception {
+        // given: 등록 직후 전송 실패로 바로 제거되는 연결을 여러 스레드에서 반복 등록
+        SseEmitter broken = mock(SseEmitter.class);
+        doThrow(new IOException("broken pipe")).when(broken).send(any(SseEmitter.SseEventBuilder.class));
+        SseEmitter stable = mock(SseEmitter.class);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < 4; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 500; i++) {
+                    feedService.register(storeId, broken, null);
+                }
+                return null;
+            });
+        }
+
+        // when
+        start.countDown();
+        feedService.register(storeId, stable, null);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(feedService.connectionCount()).isEqualTo(1);
+    }
+
+    private List<String> sentPayloads(SseEmitter emitter) throws IOException {
+        ArgumentCaptor<SseEmitter.SseEventBuilder> captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter, atLeast(0)).send(captor.capture());
+        return captor.getAllValues().stream()
+                .map(builder -> builder.build().stream()
+                        .map(data -> String.valueOf(data.getData()))
+                        .collect(Collectors.joining()))
+                .collect(Collectors.toList());
+    }
+
+    private OrderEvent event(Long eventId, UUID storeId, OrderEventType eventType) {
+        return OrderEvent.builder()
+                .eventId(eventId)
+                .orderId(UUID.randomUUID())
+                .storeId(storeId)
+                .memberId(1L)
+                .eventType(eventType)
+                .orderStatus("CREATED")
+                .totalAmount(BigDecimal.valueOf(1000L))
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
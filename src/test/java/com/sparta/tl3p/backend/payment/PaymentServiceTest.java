@@ -0,0 +1,109 @@
+package com.sparta.tl3p.backend.payment;
+
+import com.sparta.tl3p.backend.common.exception.BusinessException;
+import com.sparta.tl3p.backend.common.type.ErrorCode;
+import com.sparta.tl3p.backend.domain.member.entity.Member;
+import com.sparta.tl3p.backend.domain.order.entity.Order;
+import com.sparta.tl3p.backend.domain.payment.dto.PaymentPageResponseDto;
+import com.sparta.tl3p.backend.domain.payment.dto.PaymentRequestDto;
+import com.sparta.tl3p.backend.domain.payment.dto.PaymentResponseDto;
+import com.sparta.tl3p.backend.domain.payment.dto.PaymentSearchRequestDto;
+import com.sparta.tl3p.backend.domain.payment.enums.PaymentMethod;
+import com.sparta.tl3p.backend.domain.payment.enums.PaymentStatus;
+import com.sparta.tl3p.backend.domain.payment.repository.PaymentRepository;
+import com.sparta.tl3p.backend.domain.payment.service.PaymentService;
+import com.sparta.tl3p.backend.domain.store.entity.Store;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceTest {
+
+    @InjectMocks
+    private PaymentService paymentService;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Test
+    @DisplayName("결제 요청 - 주문에 결제가 연결되고 가게/회원 ID가 기록됨")
+    void requestPayment_linksPaymentToOrder() {
+        // given
+        UUID storeId = UUID.randomUUID();
+        Store store = mock(Store.class);
+        when(store.getStoreId()).thenReturn(storeId);
+        Member member = mock(Member.class);
+        when(member.getMemberId()).thenReturn(1L);
+
+        Order order = new Order();
+        order.setStore(store);
+        order.setMember(member);
+
+        PaymentRequestDto request = new PaymentRequestDto();
+        request.setAmount(BigDecimal.valueOf(5000));
+        request.setPaymentMethod(PaymentMethod.CARD);
+
+        // when
+        PaymentResponseDto response = paymentService.requestPayment(order, request);
+
+        // then
+        assertThat(response.getPaymentStatus()).isEqualTo(PaymentStatus.SUCCESS);
+        assertThat(order.getPayment()).isNotNull();
+        assertThat(order.getPayment().getStoreId()).isEqualTo(storeId);
+        assertThat(order.getPayment().getMemberId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("결제 단건 조회 실패 - 결제 미존재")
+    void getPaymentById_notFound() {
+        // given
+        UUID paymentId = UUID.randomUUID();
+        when(paymentRepository.findById(paymentId)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.getPaymentById(paymentId))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.PAYMENT_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("가게별 결제 내역 조회 - size + 1 건이 조회되면 다음 커서 반환")
+    void getPaymentsByStoreId_returnsNextCursor() {
+        // given
+        UUID storeId = UUID.randomUUID();
+        PaymentSearchRequestDto condition = PaymentSearchRequestDto.builder().size(10).build();
+
+        List<PaymentResponseDto> fetched = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 11; i++) {
+            fetched.add(new PaymentResponseDto(UUID.randomUUID(), PaymentStatus.SUCCESS,
+                    BigDecimal.valueOf(1000), PaymentMethod.CARD, now.minusMinutes(i)));
+        }
+        when(paymentRepository.searchPayments(condition)).thenReturn(fetched);
+
+        // when
+        PaymentPageResponseDto page = paymentService.getPaymentsByStoreId(storeId, condition);
+
+        // then
+        assertThat(condition.getStoreId()).isEqualTo(storeId);
+        assertThat(page.getPayments()).hasSize(10);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursorId()).isEqualTo(fetched.get(9).getPaymentId());
+        assertThat(page.getNextCursorDate()).isEqualTo(fetched.get(9).getPaymentDate());
+    }
+}
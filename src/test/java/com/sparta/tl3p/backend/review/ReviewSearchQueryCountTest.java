@@ -0,0 +1,109 @@
+package com.sparta.tl3p.backend.review;
+
+import com.sparta.tl3p.backend.common.JpaTestFixture;
+import com.sparta.tl3p.backend.common.SqlStatementCounter;
+import com.sparta.tl3p.backend.common.config.QueryDslConfig;
+import com.sparta.tl3p.backend.domain.item.entity.Item;
+import com.sparta.tl3p.backend.domain.member.entity.Member;
+import com.sparta.tl3p.backend.domain.member.enums.Role;
+import com.sparta.tl3p.backend.domain.order.entity.Order;
+import com.sparta.tl3p.backend.domain.order.entity.OrderItem;
+import com.sparta.tl3p.backend.domain.order.enums.DataStatus;
+import com.sparta.tl3p.backend.domain.review.dto.ReviewResponseDto;
+import com.sparta.tl3p.backend.domain.review.entity.Review;
+import com.sparta.tl3p.backend.domain.review.repository.ReviewRepository;
+import com.sparta.tl3p.backend.domain.store.entity.Store;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.sparta.tl3p.backend.common.SqlStatementCounter"
+})
+@Import(QueryDslConfig.class)
+class ReviewSearchQueryCountTest {
+
+    private static final int REVIEW_COUNT = 12;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private UUID storeId;
+
+    @BeforeEach
+    void setUp() {
+        JpaTestFixture fixture = new JpaTestFixture(em);
+        Member member = fixture.persistMember("customer", Role.CUSTOMER);
+        member.setNickname("reviewer");
+        Store store = fixture.persistStore(member, "review store");
+
+        for (int i = 0; i < REVIEW_COUNT; i++) {
+            Order order = Order.builder()
+                    .status(DataStatus.CREATED)
+                    .member(member)
+                    .store(store)
+                    .build();
+            em.persist(order);
+
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                Item item = fixture.persistItem(store, "item" + i + "-" + j, BigDecimal.valueOf(1000L));
+                em.persist(OrderItem.builder()
+                        .order(order)
+                        .item(item)
+                        .quantity(1)
+                        .price(item.getPrice())
+                        .build());
+            }
+
+            em.persist(Review.createReview("review" + i, 4.0, order));
+        }
+
+        storeId = store.getStoreId();
+
+        em.flush();
+        em.clear();
+        SqlStatementCounter.reset();
+    }
+
+    @Test
+    @DisplayName("리뷰 페이지 조회 - 페이지 크기와 무관하게 리뷰/상품/count 3회 조회")
+    void searchReviewPage_boundedSelectCount() {
+        // when
+        Page<ReviewResponseDto> page = reviewRepository.searchReviews(storeId, null, PageRequest.of(0, 5));
+
+        // then
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getTotalElements()).isEqualTo(REVIEW_COUNT);
+        assertThat(page.getContent()).allMatch(review -> review.getItems().size() == ITEMS_PER_ORDER);
+        assertThat(page.getContent()).allMatch(review -> review.getNickname().equals("reviewer"));
+        assertThat(SqlStatementCounter.getSelectCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("리뷰 목록 조회 - 리뷰 수와 무관하게 리뷰/상품 2회 조회")
+    void searchReviews_boundedSelectCount() {
+        // when
+        List<ReviewResponseDto> reviews = reviewRepository.searchReviews(storeId, "item1");
+
+        // then: item1-*, item10-*, item11-* 을 포함한 주문의 리뷰
+        assertThat(reviews).hasSize(3);
+        assertThat(reviews).allMatch(review -> review.getItems().size() == ITEMS_PER_ORDER);
+        assertThat(SqlStatementCounter.getSelectCount()).isEqualTo(2);
+    }
+}
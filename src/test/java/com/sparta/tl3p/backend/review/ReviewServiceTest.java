@@ -4,7 +4,6 @@ import com.sparta.tl3p.backend.common.exception.BusinessException;
 import com.sparta.tl3p.backend.common.type.Address;
 import com.sparta.tl3p.backend.common.type.ErrorCode;
 import com.sparta.tl3p.backend.domain.member.entity.Member;
-import com.sparta.tl3p.backend.domain.member.repository.MemberRepository;
 import com.sparta.tl3p.backend.domain.order.entity.Order;
 import com.sparta.tl3p.backend.domain.order.repository.OrderRepository;
 import com.sparta.tl3p.backend.domain.review.dto.ReviewResponseDto;
@@ -13,6 +12,7 @@ import com.sparta.tl3p.backend.domain.review.entity.ReviewStatus;
 import com.sparta.tl3p.backend.domain.review.repository.ReviewRepository;
 import com.sparta.tl3p.backend.domain.review.service.ReviewService;
 import com.sparta.tl3p.backend.domain.store.entity.Store;
+import com.sparta.tl3p.backend.domain.store.service.StoreRatingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +20,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.util.*;
 
@@ -40,7 +44,7 @@ class ReviewServiceTest {
     private OrderRepository orderRepository;
 
     @Mock
-    private MemberRepository memberRepository;
+    private StoreRatingService storeRatingService;
 
     private UUID reviewId;
     private Long memberId;
@@ -73,6 +77,7 @@ class ReviewServiceTest {
 
         store = mock(Store.class);
         lenient().when(store.getName()).thenReturn("store1");
+        lenient().when(store.getStoreId()).thenReturn(storeId);
         lenient().when(store.getContent()).thenReturn("store description");
         lenient().when(store.getMember()).thenReturn(member);
 
@@ -104,7 +109,7 @@ class ReviewServiceTest {
         Review review1 = Review.createReview("created review1", 3.0, order1);
         Review review2 = Review.createReview("created review2", 4.0, order2);
 
-        when(reviewRepository.searchReviews(storeId, null)).thenReturn(List.of(review1, review2));
+        when(reviewRepository.searchReviews(storeId, null)).thenReturn(List.of(new ReviewResponseDto(review1), new ReviewResponseDto(review2)));
 
         // when
         List<ReviewResponseDto> responseDtos = reviewService.searchReviews(storeId, null);
@@ -116,6 +121,25 @@ class ReviewServiceTest {
 
     }
 
+    @Test
+    @DisplayName("리뷰 페이지 검색 테스트 by storeId")
+    void searchReviewPageByStoreIdTest_success() {
+        // given
+        Pageable pageable = PageRequest.of(0, 1);
+        when(reviewRepository.searchReviews(storeId, null, pageable))
+                .thenReturn(new PageImpl<>(List.of(new ReviewResponseDto(review)), pageable, 2));
+
+        // when
+        Page<ReviewResponseDto> responsePage = reviewService.searchReviews(storeId, null, pageable);
+
+        // then
+        assertThat(responsePage.getContent()).hasSize(1);
+        assertThat(responsePage.getTotalElements()).isEqualTo(2);
+        assertThat(responsePage.hasNext()).isTrue();
+        assertThat(responsePage.getContent().get(0).getStoreName()).isEqualTo(store.getName());
+        verify(reviewRepository, never()).searchReviews(storeId, null);
+    }
+
     @Test
     @DisplayName("리뷰 검색 테스트 by query")
     void searchReviewByQueryTest_success() {
@@ -151,7 +175,7 @@ class ReviewServiceTest {
 
         Review review1 = Review.createReview("created review1", 3.0, order1);
         Review review2 = Review.createReview("created review2", 4.0, order2);
-        when(reviewRepository.searchOwnerReviews(storeId, memberId)).thenReturn(List.of(review1, review2));
+        when(reviewRepository.searchOwnerReviews(storeId, memberId)).thenReturn(List.of(new ReviewResponseDto(review1), new ReviewResponseDto(review2)));
 
         // when
         List<ReviewResponseDto> responseDtos = reviewService.searchOwnerReviews(storeId, memberId);
@@ -167,7 +191,6 @@ class ReviewServiceTest {
     @DisplayName("리뷰 수정 테스트")
     void updateReviewTest_success() {
         // given
-        when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
         when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
         assertThat(review.getStatus()).isEqualTo(ReviewStatus.CREATED);
         assertThat(review.getContent()).isEqualTo("created review");
@@ -181,13 +204,13 @@ class ReviewServiceTest {
         assertThat(updatedReview.getStatus()).isEqualTo(ReviewStatus.UPDATED);
         assertThat(updatedReview.getContent()).isEqualTo("updated review");
         assertThat(updatedReview.getScore()).isEqualTo(4.3);
+        verify(storeRatingService).changeReviewScore(storeId, 4.5, 4.3);
     }
 
     @Test
     @DisplayName("리뷰 수정 예외 테스트")
     void updateReviewTest_reviewNotFound() {
         // given
-        when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
         when(reviewRepository.findById(reviewId)).thenReturn(Optional.empty());
 
         // when & then
@@ -201,7 +224,6 @@ class ReviewServiceTest {
     @DisplayName("리뷰 숨김 테스트")
     void hideReviewTest_success() {
         // given
-        when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
         when(reviewRepository.findByReviewIdAndStatusNot(reviewId,ReviewStatus.DELETED)).thenReturn(Optional.of(review));
 
         // when
@@ -209,13 +231,13 @@ class ReviewServiceTest {
 
         // then
         assertThat(review.getStatus()).isEqualTo(ReviewStatus.DELETED);
+        verify(storeRatingService).removeReview(storeId, review.getScore());
     }
 
     @Test
     @DisplayName("리뷰 숨김 예외 테스트")
     void hideReviewTest_reviewNotFound() {
         // given
-        when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
         when(reviewRepository.findByReviewIdAndStatusNot(reviewId,ReviewStatus.DELETED)).thenReturn(Optional.empty());
 
         // when & then
@@ -229,7 +251,6 @@ class ReviewServiceTest {
     @DisplayName("리뷰 삭제 테스트")
     void deleteReviewTest_success() {
         // given
-        when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
         when(reviewRepository.findByReviewIdAndStatusNot(reviewId, ReviewStatus.DELETED)).thenReturn(Optional.of(review));
 
         // when
@@ -237,13 +258,13 @@ class ReviewServiceTest {
 
         // then
         verify(reviewRepository, times(1)).delete(review);
+        verify(storeRatingService).removeReview(storeId, review.getScore());
     }
 
     @Test
     @DisplayName("리뷰 삭제 예외 테스트")
     void deleteReview_reviewNotFound() {
         // given
-        when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
         when(reviewRepository.findByReviewIdAndStatusNot(reviewId,ReviewStatus.DELETED)).thenReturn(Optional.empty());
 
         // when & then
@@ -0,0 +1,82 @@
+package com.sparta.tl3p.backend.store;
+
+import com.sparta.tl3p.backend.common.type.Address;
+import com.sparta.tl3p.backend.domain.store.service.DeliveryZoneIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeliveryZoneIndexTest {
+
+    private DeliveryZoneIndex index;
+    private UUID gangnamStore;
+    private UUID gangnamNeighborStore;
+    private UUID mapoStore;
+    private UUID busanStore;
+
+    @BeforeEach
+    void setUp() {
+        index = new DeliveryZoneIndex();
+        gangnamStore = UUID.randomUUID();
+        gangnamNeighborStore = UUID.randomUUID();
+        mapoStore = UUID.randomUUID();
+        busanStore = UUID.randomUUID();
+
+        index.putAll(Map.of(
+                gangnamStore, new Address("서울", "테헤란로 1", "06236"),
+                gangnamNeighborStore, new Address("서울", "테헤란로 2", "06241"),
+                mapoStore, new Address("서울", "월드컵로 1", "03900")));
+        index.put(busanStore, new Address("부산", "해운대로 1", "48094"));
+    }
+
+    @Test
+    @DisplayName("우편번호 -> 시군구(앞 3자리) -> 도시 단위로 조회")
+    void lookupByZone() {
+        assertThat(index.sameZipcode("06236")).containsExactly(gangnamStore);
+        assertThat(index.sameDistrict("06236")).containsExactlyInAnyOrder(gangnamStore, gangnamNeighborStore);
+        assertThat(index.sameCity(" 서울 ")).containsExactlyInAnyOrder(gangnamStore, gangnamNeighborStore, mapoStore);
+        assertThat(index.sameCity("대전")).isEmpty();
+        assertThat(index.sameZipcode("invalid")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("주소 변경/제거 시 이전 지역에서 빠짐")
+    void putAndRemove_moveStore() {
+        // when
+        index.put(mapoStore, new Address("부산", "해운대로 2", "48095"));
+        index.remove(gangnamStore);
+
+        // then
+        assertThat(index.sameDistrict("48000")).containsExactlyInAnyOrder(busanStore, mapoStore);
+        assertThat(index.sameCity("서울")).containsExactly(gangnamNeighborStore);
+        assertThat(index.sameZipcode("06236")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 가게를 한 번에 넣어도 같은 지역에 모두 색인되고 주소 없는 가게는 제외")
+    void putAll_groupsStoresByZone() {
+        // given
+        Map<UUID, Address> addresses = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            addresses.put(UUID.randomUUID(), new Address("대전", "대덕대로 " + i, "351" + (i % 2 == 0 ? "01" : "02")));
+        }
+        UUID noAddressStore = UUID.randomUUID();
+        addresses.put(noAddressStore, null);
+
+        // when
+        index.putAll(addresses);
+        index.put(noAddressStore, new Address("대전", "대덕대로 100", "35101"));
+
+        // then
+        assertThat(index.sameCity("대전")).hasSize(101).contains(noAddressStore);
+        assertThat(index.sameZipcode("35101")).hasSize(51);
+        assertThat(index.sameDistrict("35100")).hasSize(101);
+        assertThat(index.sameCity("서울")).containsExactlyInAnyOrder(gangnamStore, gangnamNeighborStore, mapoStore);
+    }
+}
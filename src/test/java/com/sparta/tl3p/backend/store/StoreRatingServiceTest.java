@@ -0,0 +1,158 @@
+package com.sparta.tl3p.backend.store;
+
+import com.sparta.tl3p.backend.domain.store.dto.StoreRatingRebuildResponseDto;
+import com.sparta.tl3p.backend.domain.store.dto.StoreRatingSnapshot;
+import com.sparta.tl3p.backend.domain.store.entity.StoreRating;
+import com.sparta.tl3p.backend.domain.store.repository.StoreRatingRepository;
+import com.sparta.tl3p.backend.domain.store.service.StoreRatingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoreRatingServiceTest {
+
+    @Mock
+    private StoreRatingRepository storeRatingRepository;
+
+    @InjectMocks
+    private StoreRatingService storeRatingService;
+
+    private UUID storeId;
+
+    @BeforeEach
+    void setUp() {
+        storeId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("리뷰 추가 - 합계/개수/점수 구간을 단일 UPDATE로 반영")
+    void addReview_appliesDelta() {
+        // given
+        when(storeRatingRepository.applyDelta(storeId, 4.5, 1L, 5)).thenReturn(1);
+
+        // when
+        storeRatingService.addReview(storeId, 4.5);
+
+        // then
+        verify(storeRatingRepository).applyDelta(storeId, 4.5, 1L, 5);
+        verify(storeRatingRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("리뷰 점수 변경 - 이전 점수 차감 후 새 점수 반영")
+    void changeReviewScore_appliesBothDeltas() {
+        // given
+        when(storeRatingRepository.applyDelta(any(), anyDouble(), anyLong(), anyInt())).thenReturn(1);
+
+        // when
+        storeRatingService.changeReviewScore(storeId, 2.0, 4.0);
+
+        // then
+        verify(storeRatingRepository).applyDelta(storeId, -2.0, -1L, 2);
+        verify(storeRatingRepository).applyDelta(storeId, 4.0, 1L, 4);
+    }
+
+    @Test
+    @DisplayName("집계 행이 없는 가게 - 중복 없이 행 생성(upsert) 후 반영")
+    void addReview_createsMissingRow() {
+        // given
+        when(storeRatingRepository.applyDelta(storeId, 3.0, 1L, 3)).thenReturn(0, 1);
+
+        // when
+        storeRatingService.addReview(storeId, 3.0);
+
+        // then
+        verify(storeRatingRepository).insertIfAbsent(storeId);
+        verify(storeRatingRepository, never()).saveAndFlush(any());
+        verify(storeRatingRepository, times(2)).applyDelta(storeId, 3.0, 1L, 3);
+    }
+
+    @Test
+    @DisplayName("리뷰 차감 시 집계 행이 없으면 행을 만들지 않음 (리빌드에 맡김)")
+    void removeReview_withoutRow_doesNotCreate() {
+        // given
+        when(storeRatingRepository.applyDelta(storeId, -3.0, -1L, 3)).thenReturn(0);
+
+        // when
+        storeRatingService.removeReview(storeId, 3.0);
+
+        // then
+        verify(storeRatingRepository, never()).insertIfAbsent(any());
+    }
+
+    @Test
+    @DisplayName("기동 시 집계 행이 없는 가게를 리뷰 테이블 기준으로 채움")
+    void seedMissingRatings_seedsFromReviews() {
+        // given
+        when(storeRatingRepository.seedMissingFromReviews()).thenReturn(3);
+
+        // when
+        storeRatingService.seedMissingRatings();
+
+        // then
+        verify(storeRatingRepository).seedMissingFromReviews();
+    }
+
+    @Test
+    @DisplayName("기동 시 집계 행 생성이 실패해도 예외를 전파하지 않음")
+    void seedMissingRatings_failureDoesNotPropagate() {
+        // given
+        when(storeRatingRepository.seedMissingFromReviews()).thenThrow(new IllegalStateException("db unavailable"));
+
+        // when & then
+        assertThatCode(() -> storeRatingService.seedMissingRatings()).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("평균 평점 조회 - 집계 행이 없으면 0")
+    void getAverageScore_withoutRow() {
+        // given
+        when(storeRatingRepository.findById(storeId)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThat(storeRatingService.getAverageScore(storeId)).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("집계 리빌드 - 리뷰 테이블과 다른 가게를 drift로 보고하고 값을 덮어씀")
+    void rebuildAll_reportsDrift() {
+        // given
+        UUID driftedStoreId = UUID.randomUUID();
+        StoreRating inSync = new StoreRating(storeId);
+        inSync.overwrite(new StoreRatingSnapshot(storeId, 9.0, 2L, 0L, 0L, 0L, 1L, 1L));
+        StoreRating drifted = new StoreRating(driftedStoreId);
+
+        when(storeRatingRepository.findAllForUpdate()).thenReturn(List.of(inSync, drifted));
+        when(storeRatingRepository.aggregateFromReviews()).thenReturn(List.of(
+                new StoreRatingSnapshot(storeId, 9.0, 2L, 0L, 0L, 0L, 1L, 1L),
+                new StoreRatingSnapshot(driftedStoreId, 3.0, 1L, 0L, 0L, 1L, 0L, 0L)));
+
+        // when
+        StoreRatingRebuildResponseDto result = storeRatingService.rebuildAll();
+
+        // then
+        assertThat(result.getStoreCount()).isEqualTo(2);
+        assertThat(result.getDriftCount()).isEqualTo(1);
+        assertThat(result.getDrifts().get(0).getStoreId()).isEqualTo(driftedStoreId);
+        assertThat(result.getDrifts().get(0).getStoredReviewCount()).isZero();
+        assertThat(drifted.getReviewCount()).isEqualTo(1L);
+        assertThat(drifted.getAverageScore()).isEqualTo(3.0);
+    }
+}
@@ -0,0 +1,117 @@
+package com.sparta.tl3p.backend.store;
+
+import com.sparta.tl3p.backend.domain.store.dto.StoreSearchEntry;
+import com.sparta.tl3p.backend.domain.store.enums.CategoryType;
+import com.sparta.tl3p.backend.domain.store.enums.StoreStatus;
+import com.sparta.tl3p.backend.domain.store.service.StoreSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoreSearchIndexTest {
+
+    private StoreSearchIndex index;
+    private UUID chickenId;
+    private UUID friedChickenId;
+    private UUID pizzaId;
+
+    @BeforeEach
+    void setUp() {
+        index = new StoreSearchIndex();
+        chickenId = UUID.randomUUID();
+        friedChickenId = UUID.randomUUID();
+        pizzaId = UUID.randomUUID();
+
+        index.put(entry(chickenId, "맛있는 치킨집", 3.0, CategoryType.CHICKEN, CategoryType.KOREAN));
+        index.put(entry(friedChickenId, "치킨 플러스", 4.5, CategoryType.CHICKEN));
+        index.put(entry(pizzaId, "Pizza House", 4.0, CategoryType.PIZZA));
+    }
+
+    @Test
+    @DisplayName("이름 부분 문자열 검색은 대소문자/공백을 무시하고 평점 순으로 반환")
+    void search_substringRankedByScore() {
+        // when
+        List<StoreSearchEntry> chicken = index.search(0, "치킨");
+        List<StoreSearchEntry> pizza = index.search(0, "pizzahouse");
+
+        // then
+        assertThat(chicken).extracting(StoreSearchEntry::getStoreId).containsExactly(friedChickenId, chickenId);
+        assertThat(pizza).extracting(StoreSearchEntry::getStoreId).containsExactly(pizzaId);
+        assertThat(index.search(0, "없는가게")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("카테고리 비트 필터")
+    void search_filtersByCategoryBits() {
+        // when
+        List<StoreSearchEntry> korean = index.search(StoreSearchEntry.bitOf(CategoryType.KOREAN), null);
+
+        // then
+        assertThat(korean).extracting(StoreSearchEntry::getStoreId).containsExactly(chickenId);
+        assertThat(korean.get(0).getCategories()).containsExactly(CategoryType.KOREAN, CategoryType.CHICKEN);
+        assertThat(index.search(0, null)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("자동완성은 접두어 일치를 먼저, 남는 자리는 부분 일치로 채움")
+    void autocomplete_prefixFirst() {
+        // when
+        List<StoreSearchEntry> results = index.autocomplete("치킨", 0, 10);
+
+        // then
+        assertThat(results).extracting(StoreSearchEntry::getStoreId).containsExactly(friedChickenId, chickenId);
+        assertThat(index.autocomplete("치킨", 0, 1)).extracting(StoreSearchEntry::getStoreId)
+                .containsExactly(friedChickenId);
+        assertThat(index.autocomplete(" ", 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이름 변경/제거 시 이전 이름으로는 검색되지 않음, 평점 갱신은 순위에 반영")
+    void putAndRemove_replaceIndexedName() {
+        // when
+        index.put(entry(pizzaId, "Burger Town", 4.0, CategoryType.ETC));
+        index.remove(chickenId);
+        index.updateAvgScores(Map.of(pizzaId, 5.0));
+
+        // then
+        assertThat(index.search(0, "pizza")).isEmpty();
+        assertThat(index.autocomplete("pi", 0, 10)).isEmpty();
+        assertThat(index.search(0, "치킨")).extracting(StoreSearchEntry::getStoreId).containsExactly(friedChickenId);
+        assertThat(index.search(0, null)).extracting(StoreSearchEntry::getStoreId)
+                .containsExactly(pizzaId, friedChickenId);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("평점 갱신은 항목을 교체하고 조회 중인 기존 항목은 바꾸지 않음")
+    void updateAvgScores_replacesEntry() {
+        // given
+        StoreSearchEntry before = index.get(chickenId).orElseThrow();
+
+        // when
+        index.updateAvgScores(Map.of(chickenId, 5.0));
+
+        // then
+        assertThat(before.getAvgScore()).isEqualTo(3.0);
+        assertThat(index.get(chickenId)).get().extracting(StoreSearchEntry::getAvgScore).isEqualTo(5.0);
+        assertThat(index.search(0, "치킨")).extracting(StoreSearchEntry::getStoreId)
+                .containsExactly(chickenId, friedChickenId);
+    }
+
+    private StoreSearchEntry entry(UUID storeId, String name, double avgScore, CategoryType... categories) {
+        return StoreSearchEntry.builder()
+                .storeId(storeId)
+                .name(name)
+                .status(StoreStatus.CREATED)
+                .memberId(1L)
+                .categoryBits(StoreSearchEntry.maskOf(List.of(categories)))
+                .avgScore(avgScore)
+                .build();
+    }
+}
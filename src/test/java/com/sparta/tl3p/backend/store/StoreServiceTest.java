@@ -1,9 +1,12 @@
 package com.sparta.tl3p.backend.store;
 
+import com.sparta.tl3p.backend.common.cache.TwoTierCache;
 import com.sparta.tl3p.backend.common.exception.BusinessException;
 import com.sparta.tl3p.backend.common.type.Address;
 import com.sparta.tl3p.backend.common.type.ErrorCode;
+import com.sparta.tl3p.backend.common.util.OptimisticRetryExecutor;
 import com.sparta.tl3p.backend.domain.member.entity.Member;
+import com.sparta.tl3p.backend.domain.order.service.OrderSearchIndexService;
 import com.sparta.tl3p.backend.domain.store.dto.StoreRequestDto;
 import com.sparta.tl3p.backend.domain.store.dto.StoreResponseDto;
 import com.sparta.tl3p.backend.domain.store.entity.Store;
@@ -12,6 +15,8 @@ import com.sparta.tl3p.backend.domain.store.enums.CategoryType;
 import com.sparta.tl3p.backend.domain.store.enums.StoreStatus;
 import com.sparta.tl3p.backend.domain.store.repository.StoreCategoryRepository;
 import com.sparta.tl3p.backend.domain.store.repository.StoreRepository;
+import com.sparta.tl3p.backend.domain.store.service.StoreRatingService;
+import com.sparta.tl3p.backend.domain.store.service.StoreSearchIndexService;
 import com.sparta.tl3p.backend.domain.store.service.StoreService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,6 +26,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -34,6 +40,21 @@ class StoreServiceTest {
     @Mock
     private StoreCategoryRepository storeCategoryRepository;
 
+    @Mock
+    private StoreRatingService storeRatingService;
+
+    @Mock
+    private TwoTierCache<StoreResponseDto> storeCache;
+
+    @Mock
+    private OptimisticRetryExecutor optimisticRetryExecutor;
+
+    @Mock
+    private OrderSearchIndexService orderSearchIndexService;
+
+    @Mock
+    private StoreSearchIndexService storeSearchIndexService;
+
     @InjectMocks
     private StoreService storeService;
 
@@ -46,6 +67,16 @@ class StoreServiceTest {
     void setUp() {
         storeId = UUID.randomUUID();
 
+        // 캐시 미스 상황: 로더를 그대로 실행
+        lenient().when(storeCache.get(any(), any())).thenAnswer(invocation ->
+                invocation.<Supplier<StoreResponseDto>>getArgument(1).get());
+
+        // 충돌 없는 상황: 재시도 없이 한 번 실행
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(optimisticRetryExecutor).run(any());
+
         owner = mock(Member.class);
         lenient().when(owner.getMemberId()).thenReturn(1L);
 
@@ -64,7 +95,7 @@ class StoreServiceTest {
     void returnStoreDetails_whenStoreExists() {
         // given
         when(storeRepository.findByIdExcludeDeleted(storeId)).thenReturn(Optional.of(store));
-        when(storeRepository.findAvgReviewScoreByStoreId(storeId)).thenReturn(4.5);
+        when(storeRatingService.getAverageScore(storeId)).thenReturn(4.5);
 
         // when
         StoreResponseDto response = storeService.getStore(storeId);
@@ -101,6 +132,30 @@ class StoreServiceTest {
         assertThat(result.get(0).getName()).isEqualTo("Test Store");
     }
 
+    @Test
+    void searchStores_usesIndexWhenReady() {
+        // given
+        StoreResponseDto indexed = new StoreResponseDto(store);
+        when(storeSearchIndexService.isReady()).thenReturn(true);
+        when(storeSearchIndexService.search(CategoryType.CAFE, "Test")).thenReturn(List.of(indexed));
+
+        // when
+        List<StoreResponseDto> result = storeService.searchStores("cafe", "Test");
+
+        // then
+        assertThat(result).containsExactly(indexed);
+        verifyNoInteractions(storeRepository, storeRatingService);
+    }
+
+    @Test
+    void findNearbyStores_requiresZipcodeOrCity() {
+        // when & then
+        assertThatThrownBy(() -> storeService.findNearbyStores(" ", null, null, 20))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.PARAM_NOT_VALID.getMessage());
+        verifyNoInteractions(storeSearchIndexService);
+    }
+
     @Test
     void returnStoresByOwner() {
         // given
@@ -134,6 +189,7 @@ class StoreServiceTest {
         assertThat(store.getStatus()).isEqualTo(StoreStatus.UPDATED);
         verify(storeCategoryRepository).deleteByStoreId(storeId);
         verify(storeCategoryRepository).saveAll(any());
+        verify(storeSearchIndexService).storeChanged(storeId);
     }
 
     @Test
@@ -157,6 +213,8 @@ class StoreServiceTest {
 
         // then
         assertThat(store.getStatus()).isEqualTo(StoreStatus.DELETED);
+        verify(storeCache).evict(storeId);
+        verify(storeSearchIndexService).storeChanged(storeId);
     }
 
     @Test
@@ -196,7 +254,7 @@ class StoreServiceTest {
     @Test
     void returnReviewScoreForStore() {
         // given
-        when(storeRepository.findAvgReviewScoreByStoreId(storeId)).thenReturn(4.2);
+        when(storeRatingService.getAverageScore(storeId)).thenReturn(4.2);
 
         // when
         double score = storeService.getStoreReviewScore(storeId);